@@ -0,0 +1,20 @@
+package bench;
+
+/**
+ * The Benchmark interface is a single operation measured by the
+ * BenchmarkRunner. The value returned by each operation is consumed by the
+ * runner so the JIT compiler cannot remove the work as dead code.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+@FunctionalInterface
+public interface Benchmark {
+	/**
+	 * Runs the operation once.
+	 * 
+	 * @return a value derived from the result of the operation
+	 */
+	int run();
+}
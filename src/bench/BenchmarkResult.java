@@ -0,0 +1,105 @@
+package bench;
+
+/**
+ * The BenchmarkResult class holds the measured throughput and allocation rate
+ * of a Benchmark.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class BenchmarkResult {
+	/**
+	 * The name of the Benchmark.
+	 */
+	private String name;
+
+	/**
+	 * The number of operations measured.
+	 */
+	private long operations;
+
+	/**
+	 * The time taken by the measured operations in nanoseconds.
+	 */
+	private long nanos;
+
+	/**
+	 * The bytes allocated by the measured operations, or -1 if the JVM cannot
+	 * measure allocation.
+	 */
+	private long bytes;
+
+	/**
+	 * Constructs a new BenchmarkResult.
+	 * 
+	 * @param name       the name of the Benchmark
+	 * @param operations the number of operations measured
+	 * @param nanos      the time taken in nanoseconds
+	 * @param bytes      the bytes allocated, or -1 if unknown
+	 */
+	public BenchmarkResult(String name, long operations, long nanos, long bytes) {
+		this.name = name;
+		this.operations = operations;
+		this.nanos = nanos;
+		this.bytes = bytes;
+	}
+
+	/**
+	 * Retrieves the name of the Benchmark.
+	 * 
+	 * @return the name
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Retrieves the number of operations measured.
+	 * 
+	 * @return the number of operations
+	 */
+	public long getOperations() {
+		return operations;
+	}
+
+	/**
+	 * Retrieves the average time of an operation.
+	 * 
+	 * @return the nanoseconds per operation
+	 */
+	public double getNanosPerOp() {
+		return (double) nanos / operations;
+	}
+
+	/**
+	 * Retrieves the number of operations per second.
+	 * 
+	 * @return the throughput
+	 */
+	public double getOpsPerSecond() {
+		return operations * 1e9 / nanos;
+	}
+
+	/**
+	 * Retrieves the average number of bytes allocated by an operation.
+	 * 
+	 * @return the bytes per operation, or NaN if the JVM cannot measure
+	 *         allocation
+	 */
+	public double getBytesPerOp() {
+		if (bytes < 0) {
+			return Double.NaN;
+		}
+		return (double) bytes / operations;
+	}
+
+	/**
+	 * Returns the result as a row of the benchmark report.
+	 */
+	@Override
+	public String toString() {
+		return String.format("%-36s %14.1f %12.1f %12.1f", name, getOpsPerSecond(), getNanosPerOp(),
+				getBytesPerOp());
+	}
+}
@@ -0,0 +1,153 @@
+package bench;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The BenchmarkRunner class measures the throughput and allocation rate of
+ * Benchmarks. Each Benchmark is run for a number of warmup iterations, which
+ * are discarded, then for a number of measured iterations. Allocation is read
+ * from the allocated-bytes counter of the current thread, so a Benchmark must
+ * do all of its work on the calling thread for its bytes per operation to be
+ * accurate.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class BenchmarkRunner {
+	/**
+	 * The number of operations run between checks of the clock.
+	 */
+	private static final int BATCH_SIZE = 64;
+
+	/**
+	 * The number of warmup iterations.
+	 */
+	private int warmupIterations;
+
+	/**
+	 * The number of measured iterations.
+	 */
+	private int measureIterations;
+
+	/**
+	 * The length of each iteration in milliseconds.
+	 */
+	private long iterationMillis;
+
+	/**
+	 * The allocation counter of the JVM, or null if it is not supported.
+	 */
+	private com.sun.management.ThreadMXBean threads;
+
+	/**
+	 * Consumes the values returned by the Benchmarks.
+	 */
+	private volatile int sink;
+
+	/**
+	 * Constructs a new BenchmarkRunner.
+	 * 
+	 * @param warmupIterations  the number of warmup iterations
+	 * @param measureIterations the number of measured iterations
+	 * @param iterationMillis   the length of each iteration in milliseconds
+	 */
+	public BenchmarkRunner(int warmupIterations, int measureIterations, long iterationMillis) {
+		this.warmupIterations = warmupIterations;
+		this.measureIterations = measureIterations;
+		this.iterationMillis = iterationMillis;
+		if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+			threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+			if (threads.isThreadAllocatedMemorySupported()) {
+				threads.setThreadAllocatedMemoryEnabled(true);
+			} else {
+				threads = null;
+			}
+		}
+	}
+
+	/**
+	 * Measures the given Benchmark.
+	 * 
+	 * @param name      the name of the Benchmark
+	 * @param benchmark the Benchmark to measure
+	 * @return the measured result
+	 */
+	public BenchmarkResult measure(String name, Benchmark benchmark) {
+		for (int i = 0; i < warmupIterations; i++) {
+			iterate(benchmark, new long[3]);
+		}
+		long[] totals = new long[3];
+		for (int i = 0; i < measureIterations; i++) {
+			iterate(benchmark, totals);
+		}
+		long bytes = threads == null ? -1 : totals[2];
+		return new BenchmarkResult(name, totals[0], totals[1], bytes);
+	}
+
+	/**
+	 * Measures each of the given Benchmarks in order.
+	 * 
+	 * @param benchmarks the Benchmarks to measure, by name
+	 * @return the measured results
+	 */
+	public ArrayList<BenchmarkResult> measureAll(LinkedHashMap<String, Benchmark> benchmarks) {
+		ArrayList<BenchmarkResult> results = new ArrayList<BenchmarkResult>();
+		for (Map.Entry<String, Benchmark> entry : benchmarks.entrySet()) {
+			results.add(measure(entry.getKey(), entry.getValue()));
+		}
+		return results;
+	}
+
+	/**
+	 * Runs the Benchmark for one iteration and adds the number of operations, the
+	 * nanoseconds taken and the bytes allocated to the totals.
+	 * 
+	 * @param benchmark the Benchmark to run
+	 * @param totals    the operations, nanoseconds and bytes so far
+	 */
+	private void iterate(Benchmark benchmark, long[] totals) {
+		long operations = 0;
+		int result = 0;
+		long startBytes = allocatedBytes();
+		long start = System.nanoTime();
+		long end = start + iterationMillis * 1_000_000L;
+		long now;
+		do {
+			for (int i = 0; i < BATCH_SIZE; i++) {
+				result ^= benchmark.run();
+			}
+			operations += BATCH_SIZE;
+			now = System.nanoTime();
+		} while (now < end);
+		long endBytes = allocatedBytes();
+		sink = result;
+		totals[0] += operations;
+		totals[1] += now - start;
+		totals[2] += endBytes - startBytes;
+	}
+
+	/**
+	 * Retrieves the number of bytes allocated by the current thread so far.
+	 * 
+	 * @return the allocated bytes, or 0 if allocation cannot be measured
+	 */
+	private long allocatedBytes() {
+		if (threads == null) {
+			return 0;
+		}
+		return threads.getCurrentThreadAllocatedBytes();
+	}
+
+	/**
+	 * Retrieves the combined values returned by the last iteration.
+	 * 
+	 * @return the consumed values
+	 */
+	public int getSink() {
+		return sink;
+	}
+}
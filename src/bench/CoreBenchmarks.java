@@ -0,0 +1,118 @@
+package bench;
+
+import java.util.LinkedHashMap;
+import java.util.SplittableRandom;
+
+import main.*;
+
+/**
+ * The CoreBenchmarks class measures the hot paths of the simulation: Athlete
+ * stat updates, Team lineup queries, match play, random generation, the
+ * Market, random events and whole seasons. It prints the throughput, the
+ * average time and the bytes allocated per operation of each, so regressions
+ * can be tracked from release to release.
+ * 
+ * Run it with {@code java bench.CoreBenchmarks [filter]}, where the optional
+ * filter only runs the benchmarks whose name contains it.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class CoreBenchmarks {
+	/**
+	 * The seed of the random number generators, so every run measures the same
+	 * work.
+	 */
+	private static final long SEED = 42;
+
+	/**
+	 * The number of warmup iterations of each benchmark.
+	 */
+	private static final int WARMUP_ITERATIONS = 5;
+
+	/**
+	 * The number of measured iterations of each benchmark.
+	 */
+	private static final int MEASURE_ITERATIONS = 5;
+
+	/**
+	 * The length of each iteration in milliseconds.
+	 */
+	private static final long ITERATION_MILLIS = 200;
+
+	/**
+	 * Creates the benchmarks of the core simulation, by name.
+	 * 
+	 * @return the benchmarks
+	 */
+	public static LinkedHashMap<String, Benchmark> createBenchmarks() {
+		SplittableRandom root = new SplittableRandom(SEED);
+		GenerateRandom generator = new GenerateRandom(root.split());
+		Team playerTeam = generator.generateTeams(2).get(0);
+		Team opposingTeam = generator.generateTeams(2).get(1);
+		Athlete athlete = playerTeam.getPlayersArray().get(0);
+		Market market = new Market(new GenerateRandom(root.split()));
+		RandomEvent randomEvent = new RandomEvent(new Team(playerTeam), root.split());
+		PossessionEngine possessionEngine = new PossessionEngine(root.split());
+		PossessionSink possessionSink = (number, side, position, points) -> {
+		};
+
+		LinkedHashMap<String, Benchmark> benchmarks = new LinkedHashMap<String, Benchmark>();
+		benchmarks.put("Athlete.changeStat", new Benchmark() {
+			private int sign = 1;
+
+			public int run() {
+				sign = -sign;
+				athlete.changeStat(sign, Athlete.STATS.O);
+				return athlete.getStat(Athlete.STATS.O);
+			}
+		});
+		benchmarks.put("Athlete.getRating", () -> athlete.getRating());
+		benchmarks.put("Team.getPlayersArray", () -> playerTeam.getPlayersArray().size());
+		benchmarks.put("Team.canPlay", () -> playerTeam.canPlay() ? 1 : 0);
+		benchmarks.put("Gameplay.play", () -> {
+			playerTeam.restoreStamina();
+			opposingTeam.restoreStamina();
+			Gameplay gamePlay = new Gameplay(playerTeam, opposingTeam, Difficulty.EASY);
+			gamePlay.play();
+			return gamePlay.getPlayerPoints();
+		});
+		benchmarks.put("PossessionEngine.play", () -> {
+			possessionEngine.load(playerTeam, opposingTeam);
+			possessionEngine.play(possessionSink);
+			return possessionEngine.getPossessions();
+		});
+		benchmarks.put("GenerateRandom.generateTeams", () -> generator.generateTeams().size());
+		benchmarks.put("GenerateRandom.generateWeeklyAthletes", () -> generator.generateWeeklyAthletes().size());
+		benchmarks.put("Market.setPurchasableAthletes", () -> {
+			market.setPurchasableAthletes();
+			return market.getPurchasableAthletes().size();
+		});
+		benchmarks.put("RandomEvent.generateEvent", () -> randomEvent.generateEvent(true, 0).length());
+		SeasonSimulator season = new SeasonSimulator(SeasonPolicy.weakestOpponent());
+		// Weeks are generated on the benchmark thread so B/op includes them
+		benchmarks.put("SeasonSimulator.play", () -> {
+			GameManager manager = SeasonSimulator.newSeason(SEED, "Bench", Difficulty.EASY, 15, Runnable::run);
+			return season.play(manager).getFinalScore();
+		});
+		return benchmarks;
+	}
+
+	/**
+	 * Runs the benchmarks and prints the report.
+	 * 
+	 * @param args command line args, optionally a filter on the benchmark names
+	 */
+	public static void main(String[] args) {
+		LinkedHashMap<String, Benchmark> benchmarks = createBenchmarks();
+		if (args.length > 0) {
+			benchmarks.keySet().removeIf(name -> !name.contains(args[0]));
+		}
+		BenchmarkRunner runner = new BenchmarkRunner(WARMUP_ITERATIONS, MEASURE_ITERATIONS, ITERATION_MILLIS);
+		System.out.println(String.format("%-36s %14s %12s %12s", "Benchmark", "ops/s", "ns/op", "B/op"));
+		for (BenchmarkResult result : runner.measureAll(benchmarks)) {
+			System.out.println(result);
+		}
+	}
+}
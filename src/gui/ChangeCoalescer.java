@@ -0,0 +1,83 @@
+package gui;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import javax.swing.SwingUtilities;
+
+import main.ChangeEvent;
+import main.ChangeSubscriber;
+
+/**
+ * The ChangeCoalescer class collects the ChangeEvents published on a ChangeBus,
+ * from any thread, and hands them to the screens on the Event Dispatch Thread
+ * once per frame. However many changes are made before the Event Dispatch
+ * Thread gets to them, such as the four stat changes of training an Athlete or
+ * every stamina change of a match, a screen updates each affected component
+ * once.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class ChangeCoalescer implements ChangeSubscriber {
+	/**
+	 * Receives the kinds of change and the objects that changed in each frame.
+	 */
+	private BiConsumer<Set<ChangeEvent.Kind>, Set<Object>> target;
+
+	/**
+	 * The kinds of change waiting to be handed over.
+	 */
+	private EnumSet<ChangeEvent.Kind> kinds = EnumSet.noneOf(ChangeEvent.Kind.class);
+
+	/**
+	 * The objects that changed waiting to be handed over, compared by identity.
+	 */
+	private Set<Object> sources = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+
+	/**
+	 * Whether a hand over is already scheduled on the Event Dispatch Thread.
+	 */
+	private boolean scheduled = false;
+
+	/**
+	 * Constructs a new ChangeCoalescer handing its changes to the given target.
+	 * 
+	 * @param target receives the kinds of change and the objects that changed in
+	 *               each frame, on the Event Dispatch Thread
+	 */
+	public ChangeCoalescer(BiConsumer<Set<ChangeEvent.Kind>, Set<Object>> target) {
+		this.target = target;
+	}
+
+	@Override
+	public synchronized void changed(ChangeEvent event) {
+		kinds.add(event.getKind());
+		sources.add(event.getSource());
+		if (!scheduled) {
+			scheduled = true;
+			SwingUtilities.invokeLater(this::flush);
+		}
+	}
+
+	/**
+	 * Hands the changes collected since the last frame to the target. Runs on the
+	 * Event Dispatch Thread.
+	 */
+	private void flush() {
+		Set<ChangeEvent.Kind> frameKinds;
+		Set<Object> frameSources;
+		synchronized (this) {
+			frameKinds = kinds;
+			frameSources = sources;
+			kinds = EnumSet.noneOf(ChangeEvent.Kind.class);
+			sources = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
+			scheduled = false;
+		}
+		target.accept(frameKinds, frameSources);
+	}
+}
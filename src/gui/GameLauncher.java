@@ -0,0 +1,79 @@
+package gui;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import main.AutosaveService;
+import main.GameJournal;
+import main.GameManager;
+import main.GameSave;
+
+/**
+ * The GameLauncher class starts the game with its Swing screens. It creates or
+ * recovers the GameManager, journals and autosaves it, attaches a
+ * ScreenController and shows the start screen, so the GameManager itself needs
+ * nothing from the GUI.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class GameLauncher {
+	/**
+	 * The checkpoint file of the journal.
+	 */
+	public static final String CHECKPOINT_FILE = "hoopmaster.checkpoint";
+
+	/**
+	 * The journal file.
+	 */
+	public static final String JOURNAL_FILE = "hoopmaster.journal";
+
+	/**
+	 * The file the game is autosaved to when the shop or a match is closed.
+	 */
+	public static final String AUTOSAVE_FILE = "hoopmaster.save";
+
+	/**
+	 * Launches the application, journaling to CHECKPOINT_FILE and JOURNAL_FILE
+	 * and autosaving to AUTOSAVE_FILE. The actions still waiting in the journal
+	 * and the last autosave are written before the program exits, however the
+	 * window is closed.
+	 * 
+	 * @param args command line args, optionally the seed of the game,
+	 *             "--continue" to recover the game from the journal, or "--load"
+	 *             to load the game from the autosave
+	 * @throws IOException if the journaled or autosaved game cannot be loaded
+	 */
+	public static void main(String[] args) throws IOException {
+		Path checkpointPath = Path.of(CHECKPOINT_FILE);
+		Path journalPath = Path.of(JOURNAL_FILE);
+		GameManager manager;
+		if (args.length > 0 && args[0].equals("--continue")) {
+			manager = GameJournal.recover(checkpointPath, journalPath);
+		} else if (args.length > 0 && args[0].equals("--load")) {
+			manager = GameSave.load(Path.of(AUTOSAVE_FILE));
+		} else if (args.length > 0) {
+			manager = new GameManager(Long.parseLong(args[0]));
+		} else {
+			manager = new GameManager();
+		}
+		GameJournal journal = new GameJournal(checkpointPath, journalPath);
+		manager.setJournal(journal);
+		if (manager.isSetup()) {
+			journal.checkpoint(manager);
+		}
+		AutosaveService autosave = new AutosaveService(Path.of(AUTOSAVE_FILE));
+		manager.setAutosave(autosave);
+		Runtime.getRuntime().addShutdownHook(new Thread(autosave::close, "autosave-shutdown"));
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			try {
+				journal.close();
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}, "journal-shutdown"));
+		new ScreenController(manager);
+		manager.launchStartScreen();
+	}
+}
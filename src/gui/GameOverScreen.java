@@ -3,6 +3,7 @@ package gui;
 import java.awt.EventQueue;
 
 import javax.swing.JFrame;
+import javax.swing.JPanel;
 import javax.swing.GroupLayout;
 import javax.swing.GroupLayout.Alignment;
 import java.awt.Color;
@@ -28,15 +29,31 @@ import javax.swing.ImageIcon;
  * @author Kush Desai
  * 
  */
-public class GameOverScreen {
+public class GameOverScreen implements Screen {
 	/**
-	 * The frame of the GameOverScreen.
+	 * The panel holding the components of the GameOverScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
 	private GameManager manager;
+	/**
+	 * The label showing the final score.
+	 */
+	private JLabel lblScore;
+	/**
+	 * The label showing the final amount of money.
+	 */
+	private JLabel lblMoney;
+	/**
+	 * The label showing the Team name.
+	 */
+	private JLabel lblTeamname;
+	/**
+	 * The label showing the length of the season.
+	 */
+	private JLabel lblDurationWeeks;
 
 	/**
 	 * Constructs a new GameOverScreen object with the given GameManager.
@@ -46,7 +63,6 @@ public class GameOverScreen {
 	public GameOverScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -58,7 +74,7 @@ public class GameOverScreen {
 			public void run() {
 				try {
 					GameOverScreen window = new GameOverScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -74,37 +90,55 @@ public class GameOverScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the GameOverScreen.
+	 * 
+	 * @return the content pane of the GameOverScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Updates the labels to show the final results of the season.
+	 */
+	public void refresh() {
+		lblScore.setText("Score: " + String.valueOf(manager.getScore()));
+		lblMoney.setText("Money: " + String.valueOf(manager.getMoney()));
+		lblTeamname.setText(manager.getTeamName());
+		lblDurationWeeks.setText("Duration: " + String.valueOf(manager.getNumWeeks()) + " Weeks");
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeGameOverScreen within the GameManager object which terminates the
-	 * program.
+	 * Closes the screen and calls quit within the GameManager object, then
+	 * terminates the program.
 	 */
 	public void finishedWindow() {
-		manager.closeGameOverScreen(this);
+		closeWindow();
+		manager.quit();
+		System.exit(0);
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JLabel lblGameOver = new JLabel("Game Over!");
 		lblGameOver.setHorizontalAlignment(SwingConstants.CENTER);
 		lblGameOver.setForeground(new Color(255, 255, 255));
 		lblGameOver.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JLabel lblScore = new JLabel("Score: 1");
+		lblScore = new JLabel("Score: 1");
 		lblScore.setHorizontalAlignment(SwingConstants.CENTER);
-		lblScore.setText("Score: " + String.valueOf(manager.getScore()));
 		lblScore.setForeground(Color.WHITE);
 		lblScore.setFont(new Font("Tahoma", Font.PLAIN, 18));
 
@@ -117,27 +151,24 @@ public class GameOverScreen {
 		});
 		btnQuit.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JLabel lblMoney = new JLabel("Money: 0");
-		lblMoney.setText("Money: " + String.valueOf(manager.getMoney()));
+		lblMoney = new JLabel("Money: 0");
 		lblMoney.setHorizontalAlignment(SwingConstants.CENTER);
 		lblMoney.setForeground(Color.WHITE);
 		lblMoney.setFont(new Font("Tahoma", Font.PLAIN, 18));
 
-		JLabel lblTeamname = new JLabel("TeamName");
-		lblTeamname.setText(manager.getTeamName());
+		lblTeamname = new JLabel("TeamName");
 		lblTeamname.setHorizontalAlignment(SwingConstants.CENTER);
 		lblTeamname.setForeground(Color.WHITE);
 		lblTeamname.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JLabel lblDurationWeeks = new JLabel("Duration: 7 Weeks");
-		lblDurationWeeks.setText("Duration: " + String.valueOf(manager.getNumWeeks()) + " Weeks");
+		lblDurationWeeks = new JLabel("Duration: 7 Weeks");
 		lblDurationWeeks.setHorizontalAlignment(SwingConstants.CENTER);
 		lblDurationWeeks.setForeground(Color.WHITE);
 		lblDurationWeeks.setFont(new Font("Tahoma", Font.PLAIN, 18));
 		
 		JLabel lblLogo = new JLabel("");
 		lblLogo.setIcon(new ImageIcon(GameOverScreen.class.getResource("/gui/images/basketball_logo.png")));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -183,6 +214,6 @@ public class GameOverScreen {
 					.addComponent(btnQuit, GroupLayout.PREFERRED_SIZE, 29, GroupLayout.PREFERRED_SIZE)
 					.addGap(97))
 		);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 	}
 }
@@ -29,11 +29,11 @@ import javax.swing.JButton;
  * @author Kush Desai
  * 
  */
-public class GameScreen {
+public class GameScreen implements Screen {
 	/**
-	 * Frame of the GameScreen.
+	 * The panel holding the components of the GameScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -50,6 +50,22 @@ public class GameScreen {
 	 * A list of JLabels that contains the starting Athletes of the opponent.
 	 */
 	private ArrayList<JLabel> opponentStarters = new ArrayList<JLabel>();
+	/**
+	 * The label showing the name of the player's Team.
+	 */
+	private JLabel playerTeam;
+	/**
+	 * The label showing the name of the opposing Team.
+	 */
+	private JLabel opponentTeam;
+	/**
+	 * The label shown when the player wins or draws.
+	 */
+	private JLabel lblPlayerWinner;
+	/**
+	 * The label shown when the opponent wins.
+	 */
+	private JLabel lblOpponentWinner;
 
 	/**
 	 * Constructs a new GameScreen object with the given GameManager.
@@ -59,7 +75,6 @@ public class GameScreen {
 	public GameScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -71,7 +86,7 @@ public class GameScreen {
 			public void run() {
 				try {
 					GameScreen window = new GameScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -87,20 +102,51 @@ public class GameScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the GameScreen.
+	 * 
+	 * @return the content pane of the GameScreen
 	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
 
-	public void closeWindow() {
-		frame.dispose();
+	/**
+	 * Clears the results of the previous match and shows the results of the
+	 * current one.
+	 */
+	public void refresh() {
+		for (JLabel lbl : playerStarters) {
+			lbl.setForeground(Color.WHITE);
+		}
+		for (JLabel lbl : opponentStarters) {
+			lbl.setForeground(Color.WHITE);
+		}
+		lblPlayerWinner.setText("");
+		lblPlayerWinner.setForeground(new Color(0, 255, 0));
+		lblOpponentWinner.setText("");
+		playerTeam.setText(manager.getTeamName());
+		opponentTeam.setText(manager.getOpposingTeam().getTeamName());
+
+		setPlayerLabels(playerStarters);
+		setOpponentLabels(opponentStarters);
+		setWinners(playerStarters, opponentStarters, lblPlayerWinner, lblOpponentWinner);
 	}
 
 	/**
-	 * Calls closeGameScreen within the GameManager object which opens another
-	 * window.
+	 * Hides the screen until it is shown again.
 	 */
 
+	public void closeWindow() {
+		contentPane.setVisible(false);
+	}
+
+	/**
+	 * Closes the screen and calls finishMatch within the GameManager object, which
+	 * moves the game on to its next state.
+	 */
 	public void finishedWindow() {
-		manager.closeGameScreen(this);
+		closeWindow();
+		manager.finishMatch();
 	}
 
 	/**
@@ -163,8 +209,8 @@ public class GameScreen {
 			JLabel opponentWinnerLbl) {
 		int playerScore = 0;
 		for (int i = 0; i < 5; i++) {
-			Athlete player = manager.getTeam().getPlayersArray().get(i);
-			Athlete opponent = manager.getOpposingTeam().getPlayersMap().get(player.getPosition());
+			Athlete player = manager.getTeam().starter(i);
+			Athlete opponent = manager.getOpposingTeam().starter(player.getPosition());
 			Athlete.POSITION pos = opponent.getPosition();
 			int index = 0;
 			switch (pos) {
@@ -217,13 +263,11 @@ public class GameScreen {
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JPanel panel = new JPanel();
 		panel.setBackground(new Color(255, 255, 255));
@@ -285,7 +329,7 @@ public class GameScreen {
 		lblVs.setHorizontalAlignment(SwingConstants.CENTER);
 		lblVs.setFont(new Font("Tahoma", Font.PLAIN, 14));
 		lblVs.setForeground(new Color(255, 255, 255));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup().addGap(411).addGroup(groupLayout
 						.createParallelGroup(Alignment.LEADING)
@@ -368,20 +412,18 @@ public class GameScreen {
 		lblOpponentHeader.setHorizontalAlignment(SwingConstants.TRAILING);
 		lblOpponentHeader.setFont(new Font("Tahoma", Font.PLAIN, 14));
 
-		JLabel playerTeam = new JLabel("New label");
+		playerTeam = new JLabel("New label");
 		playerTeam.setFont(new Font("Tahoma", Font.PLAIN, 20));
-		playerTeam.setText(manager.getTeamName());
 
-		JLabel opponentTeam = new JLabel("New label");
-		opponentTeam.setText(manager.getOpposingTeam().getTeamName());
+		opponentTeam = new JLabel("New label");
 		opponentTeam.setHorizontalAlignment(SwingConstants.TRAILING);
 		opponentTeam.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JLabel lblPlayerWinner = new JLabel("");
+		lblPlayerWinner = new JLabel("");
 		lblPlayerWinner.setForeground(new Color(0, 255, 0));
 		lblPlayerWinner.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JLabel lblOpponentWinner = new JLabel("");
+		lblOpponentWinner = new JLabel("");
 		lblOpponentWinner.setForeground(new Color(0, 255, 0));
 		lblOpponentWinner.setHorizontalAlignment(SwingConstants.TRAILING);
 		lblOpponentWinner.setFont(new Font("Tahoma", Font.PLAIN, 20));
@@ -428,7 +470,7 @@ public class GameScreen {
 						.addComponent(playerTeam, GroupLayout.DEFAULT_SIZE, 69, Short.MAX_VALUE))
 				.addContainerGap()));
 		panel.setLayout(gl_panel);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 
 		playerStarters.add(playerPG);
 		playerStarters.add(playerSG);
@@ -441,9 +483,5 @@ public class GameScreen {
 		opponentStarters.add(opponentC);
 		opponentStarters.add(opponentSF);
 		opponentStarters.add(opponentPF);
-
-		setPlayerLabels(playerStarters);
-		setOpponentLabels(opponentStarters);
-		setWinners(playerStarters, opponentStarters, lblPlayerWinner, lblOpponentWinner);
 	}
 }
@@ -34,17 +34,27 @@ import javax.swing.JPanel;
  * @author Kush Desai
  * 
  */
-public class MainScreen {
+public class MainScreen implements Screen {
 	/**
-	 * Frame of the MainScreen.
+	 * The panel holding the components of the MainScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 
 	/**
 	 * The current instance of the GameManager object.
 	 */
 	private GameManager manager;
 
+	/**
+	 * The label showing the number of weeks remaining.
+	 */
+	private JLabel lblWeeksRemaining;
+
+	/**
+	 * The label showing the current week.
+	 */
+	private JLabel lblCurrentWeek;
+
 	/**
 	 * Constructs a new MainScreen object with the given GameManager.
 	 * 
@@ -53,7 +63,6 @@ public class MainScreen {
 	public MainScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -65,7 +74,7 @@ public class MainScreen {
 			public void run() {
 				try {
 					MainScreen window = new MainScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -81,30 +90,47 @@ public class MainScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the MainScreen.
+	 * 
+	 * @return the content pane of the MainScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Updates the week labels to show the current week.
+	 */
+	public void refresh() {
+		lblWeeksRemaining
+				.setText("Weeks Remaining: " + String.valueOf((manager.getNumWeeks() - manager.getCurrentWeek())));
+		lblCurrentWeek.setText("Week: " + String.valueOf(manager.getCurrentWeek()));
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeGameScreen within the GameManager object which opens the given
-	 * window.
+	 * Closes the screen and calls goTo within the GameManager object, which
+	 * moves the game on to the given state.
 	 * 
-	 * @param screen the next window that will be opened
+	 * @param screen the state that the game will move to
 	 */
 	public void finishedWindow(GameManager.GOTOSCREEN screen) {
-		manager.closeMainScreen(this, screen);
+		closeWindow();
+		manager.goTo(screen);
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JButton btnShop = new JButton("Shop");
 		btnShop.addActionListener(new ActionListener() {
@@ -142,9 +168,7 @@ public class MainScreen {
 
 		JPanel panel_1 = new JPanel();
 
-		JLabel lblWeeksRemaining = new JLabel("Weeks Remaining: 10");
-		lblWeeksRemaining
-				.setText("Weeks Remaining: " + String.valueOf((manager.getNumWeeks() - manager.getCurrentWeek())));
+		lblWeeksRemaining = new JLabel("Weeks Remaining: 10");
 		lblWeeksRemaining.setHorizontalAlignment(SwingConstants.CENTER);
 		lblWeeksRemaining.setFont(new Font("Tahoma", Font.PLAIN, 14));
 		GroupLayout gl_panel_1 = new GroupLayout(panel_1);
@@ -155,7 +179,7 @@ public class MainScreen {
 				.addGroup(gl_panel_1.createSequentialGroup().addGap(9)
 						.addComponent(lblWeeksRemaining, GroupLayout.DEFAULT_SIZE, 18, Short.MAX_VALUE).addGap(8)));
 		panel_1.setLayout(gl_panel_1);
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.LEADING).addGroup(groupLayout
 				.createSequentialGroup()
 				.addGroup(groupLayout.createParallelGroup(Alignment.LEADING)
@@ -193,8 +217,7 @@ public class MainScreen {
 												.addComponent(btnTeam, GroupLayout.DEFAULT_SIZE, 401, Short.MAX_VALUE))
 										.addGap(81)))));
 
-		JLabel lblCurrentWeek = new JLabel("Week: 30");
-		lblCurrentWeek.setText("Week: " + String.valueOf(manager.getCurrentWeek()));
+		lblCurrentWeek = new JLabel("Week: 30");
 		lblCurrentWeek.setHorizontalAlignment(SwingConstants.CENTER);
 		lblCurrentWeek.setFont(new Font("Tahoma", Font.PLAIN, 14));
 		GroupLayout gl_panel = new GroupLayout(panel);
@@ -208,6 +231,6 @@ public class MainScreen {
 				gl_panel.createParallelGroup(Alignment.LEADING).addGroup(gl_panel.createSequentialGroup().addGap(9)
 						.addComponent(lblCurrentWeek, GroupLayout.DEFAULT_SIZE, 19, Short.MAX_VALUE).addGap(8)));
 		panel.setLayout(gl_panel);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 	}
 }
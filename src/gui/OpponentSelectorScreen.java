@@ -17,11 +17,14 @@ import javax.swing.JPanel;
 import java.awt.Color;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 import java.awt.event.ActionEvent;
 import javax.swing.JSeparator;
 import javax.swing.JToggleButton;
 import javax.swing.JLabel;
 import javax.swing.SwingConstants;
+import javax.swing.SwingWorker;
 
 /**
  * This is the OpponentSelectorScreen. This screen provides 3 opponent teams to
@@ -32,11 +35,11 @@ import javax.swing.SwingConstants;
  * @author Kush Desai
  * 
  */
-public class OpponentSelectorScreen {
+public class OpponentSelectorScreen implements Screen {
 	/**
-	 * Frame of the MainScreen.
+	 * The panel holding the components of the OpponentSelectorScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -45,6 +48,23 @@ public class OpponentSelectorScreen {
 	 * The opposing Team.
 	 */
 	private Team opposingTeam;
+	/**
+	 * The label showing the chance of beating the selected opposing Team.
+	 */
+	private JLabel lblWinChance;
+	/**
+	 * The background worker estimating the chance of beating the selected
+	 * opposing Team.
+	 */
+	private SwingWorker<WinProbability, Void> estimateWorker;
+	/**
+	 * The list of JButtons used to select an opposing Team.
+	 */
+	private ArrayList<JButton> teamBtns = new ArrayList<JButton>();
+	/**
+	 * The list of JLabels showing the selected opposing Team and its Athletes.
+	 */
+	private ArrayList<JLabel> opponentLabels = new ArrayList<JLabel>();
 
 	/**
 	 * Constructs a new OpponentSelectorScreen object with the given GameManager.
@@ -54,7 +74,6 @@ public class OpponentSelectorScreen {
 	public OpponentSelectorScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -66,7 +85,7 @@ public class OpponentSelectorScreen {
 			public void run() {
 				try {
 					OpponentSelectorScreen window = new OpponentSelectorScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -82,18 +101,41 @@ public class OpponentSelectorScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the OpponentSelectorScreen.
+	 * 
+	 * @return the content pane of the OpponentSelectorScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Shows the opposing Teams for the current week and clears the previous
+	 * selection.
+	 */
+	public void refresh() {
+		cancelEstimate();
+		opposingTeam = null;
+		for (JLabel lbl : opponentLabels) {
+			lbl.setText("");
+		}
+		lblWinChance.setText("");
+		setTeamButtons(teamBtns);
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		cancelEstimate();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeGameScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen once the GameManager has moved on to another state.
 	 */
 	public void finishedWindow() {
-		manager.closeOpponentSelectorScreen(this);
+		closeWindow();
 	}
 
 	/**
@@ -128,27 +170,68 @@ public class OpponentSelectorScreen {
 	public void btnEvent(JLabel teamName, JLabel player1, JLabel player2, JLabel player3, JLabel player4,
 			JLabel player5, int index) {
 		teamName.setText(manager.getWeeklyTeams().get(index).getTeamName());
-		player1.setText(manager.getWeeklyTeams().get(index).getPlayersMap().get(Athlete.POSITION.PG).toString());
-		player2.setText(manager.getWeeklyTeams().get(index).getPlayersMap().get(Athlete.POSITION.SG).toString());
-		player3.setText(manager.getWeeklyTeams().get(index).getPlayersMap().get(Athlete.POSITION.SF).toString());
-		player4.setText(manager.getWeeklyTeams().get(index).getPlayersMap().get(Athlete.POSITION.PF).toString());
-		player5.setText(manager.getWeeklyTeams().get(index).getPlayersMap().get(Athlete.POSITION.C).toString());
+		player1.setText(manager.getWeeklyTeams().get(index).starter(Athlete.POSITION.PG).toString());
+		player2.setText(manager.getWeeklyTeams().get(index).starter(Athlete.POSITION.SG).toString());
+		player3.setText(manager.getWeeklyTeams().get(index).starter(Athlete.POSITION.SF).toString());
+		player4.setText(manager.getWeeklyTeams().get(index).starter(Athlete.POSITION.PF).toString());
+		player5.setText(manager.getWeeklyTeams().get(index).starter(Athlete.POSITION.C).toString());
 		opposingTeam = manager.getWeeklyTeams().get(index);
+		estimateWinChance(opposingTeam);
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Starts estimating the chance of the player's Team beating the given Team
+	 * on a background thread, cancelling any estimate that is still running. The
+	 * win chance label is updated when the estimate finishes.
+	 * 
+	 * @param opponent the opposing Team to estimate against
+	 */
+	public void estimateWinChance(Team opponent) {
+		cancelEstimate();
+		lblWinChance.setText("Estimating chances...");
+		Team playerTeam = new Team(manager.getTeam());
+		Team opposingCopy = new Team(opponent);
+		WinProbabilityEstimator estimator = new WinProbabilityEstimator(manager.getDifficulty());
+		estimateWorker = new SwingWorker<WinProbability, Void>() {
+			protected WinProbability doInBackground() throws InterruptedException {
+				return estimator.estimate(playerTeam, opposingCopy);
+			}
+
+			protected void done() {
+				try {
+					WinProbability chance = get();
+					lblWinChance.setText(chance.hasEstimate() ? chance.toString() : "No estimate in time");
+				} catch (CancellationException | InterruptedException e) {
+					// A newer estimate has replaced this one
+				} catch (ExecutionException e) {
+					lblWinChance.setText("");
+				}
+			}
+		};
+		estimateWorker.execute();
+	}
+
+	/**
+	 * Cancels the running win chance estimate, if there is one.
+	 */
+	public void cancelEstimate() {
+		if (estimateWorker != null) {
+			estimateWorker.cancel(true);
+			estimateWorker = null;
+		}
+	}
+
+	/**
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JButton btnBack = new JButton("<");
 		btnBack.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent e) {
-				manager.launchStadiumScreen();
+				manager.enterStadium();
 				finishedWindow();
 			}
 		});
@@ -163,7 +246,7 @@ public class OpponentSelectorScreen {
 				} else {
 					try {
 						manager.setOpposingTeam(opposingTeam);
-						manager.launchGameScreen();
+						manager.startMatch();
 						finishedWindow();
 					}
 
@@ -204,6 +287,9 @@ public class OpponentSelectorScreen {
 
 		JLabel lblPlayer5 = new JLabel("");
 		lblPlayer5.setFont(new Font("Tahoma", Font.PLAIN, 15));
+
+		lblWinChance = new JLabel("");
+		lblWinChance.setFont(new Font("Tahoma", Font.PLAIN, 15));
 		GroupLayout gl_panel = new GroupLayout(panel);
 		gl_panel.setHorizontalGroup(gl_panel.createParallelGroup(Alignment.LEADING)
 				.addGroup(gl_panel.createSequentialGroup().addGap(1).addComponent(separator, GroupLayout.DEFAULT_SIZE,
@@ -217,7 +303,9 @@ public class OpponentSelectorScreen {
 						.addComponent(lblPlayer2, Alignment.LEADING, GroupLayout.DEFAULT_SIZE, 318, Short.MAX_VALUE)
 						.addComponent(lblPlayer1, GroupLayout.DEFAULT_SIZE, 412, Short.MAX_VALUE)).addGap(14))
 				.addGroup(gl_panel.createSequentialGroup().addContainerGap()
-						.addComponent(lblPlayer5, GroupLayout.DEFAULT_SIZE, 322, Short.MAX_VALUE).addContainerGap()));
+						.addComponent(lblPlayer5, GroupLayout.DEFAULT_SIZE, 322, Short.MAX_VALUE).addContainerGap())
+				.addGroup(gl_panel.createSequentialGroup().addContainerGap()
+						.addComponent(lblWinChance, GroupLayout.DEFAULT_SIZE, 322, Short.MAX_VALUE).addContainerGap()));
 		gl_panel.setVerticalGroup(gl_panel.createParallelGroup(Alignment.LEADING)
 				.addGroup(gl_panel.createSequentialGroup().addGap(79)
 						.addComponent(lblTeamName, GroupLayout.DEFAULT_SIZE, 24, Short.MAX_VALUE).addGap(18)
@@ -233,12 +321,14 @@ public class OpponentSelectorScreen {
 						.addComponent(lblPlayer4, GroupLayout.PREFERRED_SIZE, 19, GroupLayout.PREFERRED_SIZE)
 						.addPreferredGap(ComponentPlacement.RELATED)
 						.addComponent(lblPlayer5, GroupLayout.PREFERRED_SIZE, 19, GroupLayout.PREFERRED_SIZE)
-						.addGap(158)));
+						.addGap(18)
+						.addComponent(lblWinChance, GroupLayout.PREFERRED_SIZE, 19, GroupLayout.PREFERRED_SIZE)
+						.addGap(121)));
 		panel.setLayout(gl_panel);
 
 		JPanel panel_1 = new JPanel();
 		panel_1.setBackground(new Color(255, 255, 255));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.LEADING).addGroup(Alignment.TRAILING,
 				groupLayout.createSequentialGroup().addGroup(groupLayout.createParallelGroup(Alignment.TRAILING)
 						.addGroup(groupLayout.createSequentialGroup().addContainerGap().addComponent(btnPlay,
@@ -305,12 +395,17 @@ public class OpponentSelectorScreen {
 								.addComponent(btnTeam3, GroupLayout.PREFERRED_SIZE, 150, GroupLayout.PREFERRED_SIZE)))
 				.addContainerGap(128, Short.MAX_VALUE)));
 		panel_1.setLayout(gl_panel_1);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
+
+		teamBtns.add(btnTeam1);
+		teamBtns.add(btnTeam2);
+		teamBtns.add(btnTeam3);
 
-		ArrayList<JButton> btns = new ArrayList<JButton>();
-		btns.add(btnTeam1);
-		btns.add(btnTeam2);
-		btns.add(btnTeam3);
-		setTeamButtons(btns);
+		opponentLabels.add(lblTeamName);
+		opponentLabels.add(lblPlayer1);
+		opponentLabels.add(lblPlayer2);
+		opponentLabels.add(lblPlayer3);
+		opponentLabels.add(lblPlayer4);
+		opponentLabels.add(lblPlayer5);
 	}
 }
@@ -0,0 +1,46 @@
+package gui;
+
+import java.util.Set;
+
+import javax.swing.JPanel;
+
+import main.ChangeEvent;
+
+/**
+ * The Screen interface is implemented by every screen of the game. A screen
+ * builds its components once into a content pane, which the ScreenHost shows
+ * as a card. Each time the screen is shown again it is refreshed from the
+ * current state of the game instead of being rebuilt. While it is shown, the
+ * changes made to the game are handed to it once per frame, so it can update
+ * only the components they affect.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public interface Screen {
+	/**
+	 * Retrieves the panel holding all components of the screen.
+	 * 
+	 * @return the content pane of the screen
+	 */
+	JPanel getContentPane();
+
+	/**
+	 * Updates the components of the screen to match the current state of the
+	 * game. Called each time before the screen is shown.
+	 */
+	default void refresh() {
+	}
+
+	/**
+	 * Updates the components of the screen affected by the changes made to the
+	 * game since the last frame. Called on the Event Dispatch Thread while the
+	 * screen is shown.
+	 * 
+	 * @param kinds   the kinds of change
+	 * @param sources the objects that changed
+	 */
+	default void changed(Set<ChangeEvent.Kind> kinds, Set<Object> sources) {
+	}
+}
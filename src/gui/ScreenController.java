@@ -0,0 +1,187 @@
+package gui;
+
+import java.util.EnumMap;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+import javax.swing.SwingWorker;
+
+import main.ChangeEvent;
+import main.GameManager;
+import main.GameObserver;
+import main.GameState;
+import main.SimulationRunner;
+
+/**
+ * The ScreenController class is the GUI of a game. It observes a GameManager
+ * and shows the screen of each state the game moves to, creating each screen
+ * the first time it is needed. It also runs the game's simulation work on a
+ * background thread while the window shows a progress indicator, then continues
+ * on the Event Dispatch Thread, so the window stays responsive. The changes
+ * made to the game are coalesced per frame and handed to the screen shown.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class ScreenController implements GameObserver, SimulationRunner {
+	/**
+	 * The width of the window while the team screen is shown.
+	 */
+	private static final int TEAM_SCREEN_WIDTH = 1300;
+
+	/**
+	 * The GameManager of the game.
+	 */
+	private GameManager manager;
+
+	/**
+	 * The single window every screen is shown in, created when the first screen
+	 * is shown.
+	 */
+	private ScreenHost host;
+
+	/**
+	 * The screens created so far, by the state they show.
+	 */
+	private EnumMap<GameState, Screen> screens = new EnumMap<GameState, Screen>(GameState.class);
+
+	/**
+	 * The screen shown, or null if no screen has been shown yet.
+	 */
+	private Screen current;
+
+	/**
+	 * The thread matches, week advancement and random events are simulated on.
+	 */
+	private ExecutorService simulation = Executors.newSingleThreadExecutor(task -> {
+		Thread thread = new Thread(task, "simulation");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * Constructs a new ScreenController and attaches it to the given GameManager
+	 * as an observer, as its simulation runner and as a subscriber to its changes.
+	 * 
+	 * @param manager the GameManager of the game
+	 */
+	public ScreenController(GameManager manager) {
+		this.manager = manager;
+		manager.addObserver(this);
+		manager.setRunner(this);
+		manager.getChangeBus().subscribe(new ChangeCoalescer(this::changed));
+	}
+
+	@Override
+	public void stateChanged(GameState previous, GameState state) {
+		if (state == GameState.QUIT) {
+			simulation.shutdown();
+			if (host != null) {
+				host.close();
+			}
+			current = null;
+			return;
+		}
+		Screen screen = screens.get(state);
+		if (screen == null) {
+			screen = createScreen(state);
+			screens.put(state, screen);
+		}
+		if (host == null) {
+			host = new ScreenHost();
+		}
+		screen.refresh();
+		current = screen;
+		host.showScreen(screen, state == GameState.TEAM ? TEAM_SCREEN_WIDTH : ScreenHost.DEFAULT_WIDTH);
+	}
+
+	@Override
+	public void eventOccurred(String message) {
+		new DialogueBox(manager, message);
+	}
+
+	@Override
+	public <T> void run(String message, Callable<T> work, Consumer<T> then) {
+		if (host != null) {
+			host.showProgress(message);
+		}
+		simulation.execute(new SwingWorker<T, Void>() {
+			@Override
+			protected T doInBackground() throws Exception {
+				return work.call();
+			}
+
+			@Override
+			protected void done() {
+				if (host != null) {
+					host.hideProgress();
+				}
+				T result;
+				try {
+					result = get();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				} catch (ExecutionException e) {
+					if (e.getCause() instanceof RuntimeException) {
+						throw (RuntimeException) e.getCause();
+					}
+					throw new IllegalStateException(e.getCause());
+				}
+				then.accept(result);
+			}
+		});
+	}
+
+	/**
+	 * Hands the changes made to the game in a frame to the screen shown.
+	 * 
+	 * @param kinds   the kinds of change
+	 * @param sources the objects that changed
+	 */
+	private void changed(Set<ChangeEvent.Kind> kinds, Set<Object> sources) {
+		if (current != null) {
+			current.changed(kinds, sources);
+		}
+	}
+
+	/**
+	 * Creates the screen showing a state.
+	 * 
+	 * @param state the state
+	 * @return the screen
+	 */
+	private Screen createScreen(GameState state) {
+		switch (state) {
+		case START:
+			return new StartScreen(manager);
+		case SETUP:
+			return new SetupScreen(manager);
+		case TEAM_SETUP:
+			return new TeamSetupScreen(manager);
+		case MAIN:
+			return new MainScreen(manager);
+		case SHOP:
+			return new ShopScreen(manager);
+		case TEAM:
+			return new TeamScreen(manager);
+		case STADIUM:
+			return new StadiumScreen(manager);
+		case OPPONENT_SELECTOR:
+			return new OpponentSelectorScreen(manager);
+		case MATCH:
+			return new GameScreen(manager);
+		case TRAINING:
+			return new TrainAthleteScreen(manager);
+		case GAME_OVER:
+			return new GameOverScreen(manager);
+		default:
+			throw new IllegalArgumentException("No screen shows " + state);
+		}
+	}
+}
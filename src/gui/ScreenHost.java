@@ -0,0 +1,150 @@
+package gui;
+
+import java.awt.BorderLayout;
+import java.awt.CardLayout;
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.GridBagLayout;
+import java.awt.event.MouseAdapter;
+import java.util.HashSet;
+
+import javax.swing.JFrame;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JProgressBar;
+import javax.swing.SwingConstants;
+
+/**
+ * The ScreenHost class is the single window of the game. Every Screen is added
+ * to it once as a card, so moving between screens only swaps which card is
+ * visible rather than building a new window.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class ScreenHost {
+	/**
+	 * The default width of the window.
+	 */
+	public static final int DEFAULT_WIDTH = 1200;
+
+	/**
+	 * The height of the window.
+	 */
+	public static final int HEIGHT = 600;
+
+	/**
+	 * The window holding every screen.
+	 */
+	private JFrame frame;
+
+	/**
+	 * The panel the screens are added to as cards.
+	 */
+	private JPanel cards;
+
+	/**
+	 * The layout switching between the screens.
+	 */
+	private CardLayout cardLayout;
+
+	/**
+	 * The names of the screens that have already been added.
+	 */
+	private HashSet<String> added = new HashSet<String>();
+
+	/**
+	 * The panel shown over the screens while the game is simulating, which also
+	 * blocks input to them.
+	 */
+	private JPanel progressPane;
+
+	/**
+	 * The label describing what the game is simulating.
+	 */
+	private JLabel progressLabel;
+
+	/**
+	 * Constructs a new ScreenHost with an empty window.
+	 */
+	public ScreenHost() {
+		frame = new JFrame();
+		frame.setBounds(100, 100, DEFAULT_WIDTH, HEIGHT);
+		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		cardLayout = new CardLayout();
+		cards = new JPanel(cardLayout);
+		frame.setContentPane(cards);
+
+		progressLabel = new JLabel("", SwingConstants.CENTER);
+		progressLabel.setFont(new Font("Tahoma", Font.PLAIN, 20));
+		progressLabel.setForeground(Color.WHITE);
+		JProgressBar progressBar = new JProgressBar();
+		progressBar.setIndeterminate(true);
+		JPanel progressBox = new JPanel(new BorderLayout(0, 10));
+		progressBox.setOpaque(false);
+		progressBox.add(progressLabel, BorderLayout.CENTER);
+		progressBox.add(progressBar, BorderLayout.SOUTH);
+		progressPane = new JPanel(new GridBagLayout());
+		progressPane.setBackground(new Color(0, 0, 64));
+		progressPane.add(progressBox);
+		progressPane.addMouseListener(new MouseAdapter() {
+		});
+		progressPane.setFocusable(true);
+		frame.setGlassPane(progressPane);
+	}
+
+	/**
+	 * Shows the given screen at the default width.
+	 * 
+	 * @param screen the screen to show
+	 */
+	public void showScreen(Screen screen) {
+		showScreen(screen, DEFAULT_WIDTH);
+	}
+
+	/**
+	 * Shows the given screen, adding it as a card the first time it is shown.
+	 * 
+	 * @param screen the screen to show
+	 * @param width  the width of the window while the screen is shown
+	 */
+	public void showScreen(Screen screen, int width) {
+		String name = screen.getClass().getName();
+		if (added.add(name)) {
+			cards.add(screen.getContentPane(), name);
+		}
+		if (frame.getWidth() != width) {
+			frame.setSize(width, HEIGHT);
+		}
+		cardLayout.show(cards, name);
+		screen.getContentPane().setVisible(true);
+		frame.setVisible(true);
+	}
+
+	/**
+	 * Shows a progress indicator over the screens, blocking input to them until
+	 * hideProgress is called.
+	 * 
+	 * @param message the message describing what is in progress
+	 */
+	public void showProgress(String message) {
+		progressLabel.setText(message);
+		progressPane.setVisible(true);
+		progressPane.requestFocusInWindow();
+	}
+
+	/**
+	 * Hides the progress indicator, allowing input to the screens again.
+	 */
+	public void hideProgress() {
+		progressPane.setVisible(false);
+	}
+
+	/**
+	 * Closes the window.
+	 */
+	public void close() {
+		frame.dispose();
+	}
+}
@@ -48,11 +48,11 @@ import javax.swing.event.ChangeEvent;
  * @author Kush Desai
  * 
  */
-public class SetupScreen {
+public class SetupScreen implements Screen {
 	/**
-	 * Frame of the MainScreen.
+	 * The panel holding the components of the SetupScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -70,8 +70,6 @@ public class SetupScreen {
 	public SetupScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
-
 	}
 
 	/**
@@ -83,7 +81,7 @@ public class SetupScreen {
 			public void run() {
 				try {
 					SetupScreen window = new SetupScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -99,28 +97,36 @@ public class SetupScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the SetupScreen.
+	 * 
+	 * @return the content pane of the SetupScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeGameSetupScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen and calls finishGameSetup within the GameManager object, which
+	 * moves the game on to its next state.
 	 */
 	public void finishedWindow() {
-		manager.closeGameSetupScreen(this);
+		closeWindow();
+		manager.finishGameSetup();
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		txtTeamName = new JTextField();
 		txtTeamName.setForeground(new Color(0, 0, 0));
@@ -160,7 +166,7 @@ public class SetupScreen {
 		btnNext.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
 		JPanel panel = new JPanel();
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.TRAILING)
 				.addGroup(groupLayout.createSequentialGroup().addGap(481)
 						.addComponent(lblTeamName, GroupLayout.DEFAULT_SIZE, 222, Short.MAX_VALUE).addGap(481))
@@ -186,16 +192,16 @@ public class SetupScreen {
 		lblDifficulty.setHorizontalAlignment(SwingConstants.CENTER);
 		lblDifficulty.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JComboBox<String> difficultyComboBox = new JComboBox<String>();
+		JComboBox<Difficulty> difficultyComboBox = new JComboBox<Difficulty>();
 		if (difficultyComboBox.getSelectedIndex() == -1) {
-			manager.setDifficulty("Easy");
+			manager.setDifficulty(Difficulty.EASY);
 		}
 		difficultyComboBox.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent e) {
-				manager.setDifficulty(difficultyComboBox.getSelectedItem().toString());
+				manager.setDifficulty((Difficulty) difficultyComboBox.getSelectedItem());
 			}
 		});
-		difficultyComboBox.setModel(new DefaultComboBoxModel<String>(new String[] { "Easy", "Hard" }));
+		difficultyComboBox.setModel(new DefaultComboBoxModel<Difficulty>(Difficulty.values()));
 
 		JLabel lblSeasonLength = new JLabel("Season Length (weeks):");
 		lblSeasonLength.setHorizontalAlignment(SwingConstants.CENTER);
@@ -246,7 +252,7 @@ public class SetupScreen {
 				.addComponent(slider, GroupLayout.PREFERRED_SIZE, GroupLayout.DEFAULT_SIZE, GroupLayout.PREFERRED_SIZE)
 				.addContainerGap(GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)));
 		panel.setLayout(gl_panel);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 	}
 
 }
@@ -25,6 +25,7 @@ import javax.swing.JLabel;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
 import java.util.Locale.Category;
+import java.util.Set;
 import java.awt.event.ActionEvent;
 import javax.swing.JSeparator;
 import javax.swing.JOptionPane;
@@ -38,11 +39,11 @@ import javax.swing.JOptionPane;
  * @author Kush Desai
  * 
  */
-public class ShopScreen {
+public class ShopScreen implements Screen {
 	/**
-	 * Frame of the MainScreen.
+	 * The panel holding the components of the ShopScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -51,10 +52,6 @@ public class ShopScreen {
 	 * The last selected consumable.
 	 */
 	private Object consumable;
-	/**
-	 * The JButton of its corresponding consumable that has been purchased.
-	 */
-	private JButton bought;
 	/**
 	 * The list of JButtons that stores the information of the purchasable Athletes.
 	 */
@@ -63,6 +60,19 @@ public class ShopScreen {
 	 * The list of JButtons that stores the information of the purchasable Items.
 	 */
 	private ArrayList<JButton> itemBtns = new ArrayList<JButton>();
+	/**
+	 * The label displaying the money of the player.
+	 */
+	private JLabel lblMoney;
+	/**
+	 * The label displaying the name of the selected consumable.
+	 */
+	private JLabel lblName;
+	/**
+	 * The list of labels displaying the price and stats of the selected
+	 * consumable.
+	 */
+	private ArrayList<JLabel> detailLabels = new ArrayList<JLabel>();
 
 	/**
 	 * Constructs a new ShopScreen object with the given GameManager.
@@ -72,7 +82,6 @@ public class ShopScreen {
 	public ShopScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -84,7 +93,7 @@ public class ShopScreen {
 			public void run() {
 				try {
 					ShopScreen window = new ShopScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -100,18 +109,68 @@ public class ShopScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the ShopScreen.
+	 * 
+	 * @return the content pane of the ShopScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Shows the money of the player and the consumables available this week, and
+	 * clears the previous selection.
+	 */
+	public void refresh() {
+		consumable = null;
+		lblMoney.setText("$" + String.valueOf(manager.getMoney()));
+		lblName.setForeground(Color.black);
+		lblName.setText("Click an item to see its description");
+		for (JLabel lbl : detailLabels) {
+			lbl.setText("");
+		}
+		for (JButton athleteBtn : athleteBtns) {
+			athleteBtn.setForeground(Color.black);
+		}
+		for (JButton itemBtn : itemBtns) {
+			itemBtn.setForeground(Color.black);
+		}
+		setAthleteButtons(athleteBtns);
+		setItemButtons(itemBtns);
+	}
+
+	/**
+	 * Updates the money label when the money of the player changes, and the
+	 * consumable buttons when the Market changes, such as when a consumable is
+	 * bought.
+	 * 
+	 * @param kinds   the kinds of change
+	 * @param sources the objects that changed
+	 */
+	public void changed(Set<ChangeEvent.Kind> kinds, Set<Object> sources) {
+		if (kinds.contains(ChangeEvent.Kind.MONEY)) {
+			lblMoney.setText("$" + String.valueOf(manager.getMoney()));
+		}
+		if (kinds.contains(ChangeEvent.Kind.MARKET)) {
+			setAthleteButtons(athleteBtns);
+			setItemButtons(itemBtns);
+		}
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeShopScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen and calls leaveShop within the GameManager object, which
+	 * moves the game on to its next state.
 	 */
 	public void finishedWindow() {
-		manager.closeShopScreen(this);
+		closeWindow();
+		manager.leaveShop();
 	}
 
 	/**
@@ -129,19 +188,14 @@ public class ShopScreen {
 	 */
 	public void athleteButtonEvent(JButton btn, JLabel name, JLabel ovr, JLabel off, JLabel def, JLabel stam,
 			JLabel agil, int index) {
-		name.setText(manager.getMarket().getPurchasableAthletes().get(index).toString()); // Set name label to athlete
-																							// name
-		ovr.setText("$" + String.valueOf(manager.getMarket().getPurchasableAthletes().get(index).getPrice()));
-		off.setText("Offence: "
-				+ String.valueOf(manager.getMarket().getPurchasableAthletes().get(index).getStat(Athlete.STATS.O)));
-		def.setText("Defence: "
-				+ String.valueOf(manager.getMarket().getPurchasableAthletes().get(index).getStat(Athlete.STATS.D)));
-		stam.setText("Stamina: "
-				+ String.valueOf(manager.getMarket().getPurchasableAthletes().get(index).getStat(Athlete.STATS.S)));
-		agil.setText("Agility: "
-				+ String.valueOf(manager.getMarket().getPurchasableAthletes().get(index).getStat(Athlete.STATS.A)));
-		consumable = manager.getMarket().getPurchasableAthletes().get(index);
-		bought = btn;
+		Athlete athlete = returnAthlete(index);
+		name.setText(athlete.toString()); // Set name label to athlete name
+		ovr.setText("$" + String.valueOf(athlete.getPrice()));
+		off.setText("Offence: " + String.valueOf(athlete.getStat(Athlete.STATS.O)));
+		def.setText("Defence: " + String.valueOf(athlete.getStat(Athlete.STATS.D)));
+		stam.setText("Stamina: " + String.valueOf(athlete.getStat(Athlete.STATS.S)));
+		agil.setText("Agility: " + String.valueOf(athlete.getStat(Athlete.STATS.A)));
+		consumable = athlete;
 		for (JButton athleteBtn : athleteBtns) {
 			athleteBtn.setForeground(Color.black);
 		}
@@ -173,15 +227,14 @@ public class ShopScreen {
 	 */
 	public void itemButtonEvent(JButton btn, JLabel name, JLabel ovr, JLabel off, JLabel def, JLabel stam, JLabel agil,
 			int index) {
-
-		name.setText(manager.getMarket().getPurchasableItems().get(index).getName()); // Set name label to athlete name
-		ovr.setText("$" + String.valueOf(manager.getMarket().getPurchasableItems().get(index).getPrice()));
-		off.setText(String.valueOf(manager.getMarket().getPurchasableItems().get(index).getDescription()));
+		Item item = returnItem(index);
+		name.setText(item.getName()); // Set name label to item name
+		ovr.setText("$" + String.valueOf(item.getPrice()));
+		off.setText(String.valueOf(item.getDescription()));
 		def.setText("");
 		stam.setText("");
 		agil.setText("");
-		consumable = manager.getMarket().getPurchasableItems().get(index);
-		bought = btn;
+		consumable = item;
 
 		for (JButton athleteBtn : athleteBtns) {
 			athleteBtn.setForeground(Color.black);
@@ -222,9 +275,7 @@ public class ShopScreen {
 		for (int i = 0; i < btns.size(); i++) {
 			Athlete athlete = manager.getMarket().getPurchasableAthletes().get(i);
 			btns.get(i).setText(athlete.getName());
-			if (manager.getMarket().getWeeklyPurchasedAthletes().contains(athlete)) {
-				btns.get(i).setEnabled(false);
-			}
+			btns.get(i).setEnabled(!manager.getMarket().getWeeklyPurchasedAthletes().contains(athlete));
 
 		}
 	}
@@ -239,21 +290,17 @@ public class ShopScreen {
 		for (int i = 0; i < btns.size(); i++) {
 			Item item = manager.getMarket().getPurchasableItems().get(i);
 			btns.get(i).setText(item.getName());
-			if (manager.getMarket().getWeeklyPurchasedItems().contains(item)) {
-				btns.get(i).setEnabled(false);
-			}
+			btns.get(i).setEnabled(!manager.getMarket().getWeeklyPurchasedItems().contains(item));
 		}
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
 
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JPanel panel = new JPanel();
 		panel.setBackground(new Color(255, 255, 255));
@@ -266,13 +313,12 @@ public class ShopScreen {
 		lblShop.setHorizontalAlignment(SwingConstants.CENTER);
 		lblShop.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JLabel lblMoney = new JLabel("Money: ");
+		lblMoney = new JLabel("Money: ");
 		lblMoney.setForeground(new Color(255, 255, 255));
-		lblMoney.setText("$" + String.valueOf(manager.getMoney()));
 		lblMoney.setHorizontalAlignment(SwingConstants.LEFT);
 		lblMoney.setFont(new Font("Tahoma", Font.PLAIN, 20));
 
-		JLabel lblName = new JLabel("Click an item to see its description");
+		lblName = new JLabel("Click an item to see its description");
 		lblName.setFont(new Font("Tahoma", Font.PLAIN, 18));
 
 		JButton btnBuy = new JButton("Buy");
@@ -294,21 +340,8 @@ public class ShopScreen {
 							String message = "Where would you like to add this athlete to?";
 							int choice = JOptionPane.showOptionDialog(new JFrame(), message, "Add Athlete",
 									JOptionPane.DEFAULT_OPTION, JOptionPane.PLAIN_MESSAGE, null, options, options[0]);
-							if (choice == 0) {
-								manager.getTeam().buyPlayer((Athlete) consumable);
-								manager.getTeam().replacePlayer((Athlete) consumable,
-										manager.getTeam().getPlayersMap().get(((Athlete) consumable).getPosition()));
-								manager.changeMoney(-((Athlete) consumable).getPrice());
-								lblMoney.setText("$" + String.valueOf(manager.getMoney()));
-								bought.setEnabled(false);
-								manager.getMarket().addWeeklyPurchasedAthletes((Athlete) consumable);
-								consumable = null;
-							} else if (choice == 1) {
-								manager.getTeam().buyPlayer((Athlete) consumable);
-								manager.changeMoney(-((Athlete) consumable).getPrice());
-								lblMoney.setText("$" + String.valueOf(manager.getMoney()));
-								bought.setEnabled(false);
-								manager.getMarket().addWeeklyPurchasedAthletes((Athlete) consumable);
+							if (choice == 0 || choice == 1) {
+								manager.buyAthlete((Athlete) consumable, choice == 0);
 								consumable = null;
 							}
 						}
@@ -318,11 +351,7 @@ public class ShopScreen {
 							JOptionPane.showMessageDialog(new JFrame(), message, "Purchase Error",
 									JOptionPane.ERROR_MESSAGE);
 						} else {
-							manager.getTeam().buyConsumable((Item) consumable);
-							manager.changeMoney(-((Item) consumable).getPrice());
-							lblMoney.setText("$" + String.valueOf(manager.getMoney()));
-							bought.setEnabled(false);
-							manager.getMarket().addWeeklyPurchasedItems((Item) consumable);
+							manager.buyItem((Item) consumable);
 							consumable = null;
 						}
 					}
@@ -336,7 +365,7 @@ public class ShopScreen {
 		});
 
 		btnBuy.setFont(new Font("Tahoma", Font.PLAIN, 20));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup().addContainerGap()
 						.addComponent(panel_1, GroupLayout.DEFAULT_SIZE, 723, Short.MAX_VALUE).addGap(52)
@@ -533,7 +562,7 @@ public class ShopScreen {
 								.addComponent(btnItem3, GroupLayout.DEFAULT_SIZE, 181, Short.MAX_VALUE))
 						.addGap(27)));
 		panel_1.setLayout(gl_panel_1);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 
 		athleteBtns.add(btnPlayer1);
 		athleteBtns.add(btnPlayer2);
@@ -543,7 +572,10 @@ public class ShopScreen {
 		itemBtns.add(btnItem2);
 		itemBtns.add(btnItem3);
 
-		setAthleteButtons(athleteBtns);
-		setItemButtons(itemBtns);
+		detailLabels.add(lblPrice);
+		detailLabels.add(lblOffValue);
+		detailLabels.add(lblDefValue);
+		detailLabels.add(lblStamValue);
+		detailLabels.add(lblagilValue);
 	}
 }
\ No newline at end of file
@@ -28,15 +28,19 @@ import javax.swing.SwingConstants;
  * 
  */
 
-public class StadiumScreen {
+public class StadiumScreen implements Screen {
 	/**
-	 * Frame of the GameScreen.
+	 * The panel holding the components of the StadiumScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
 	private GameManager manager;
+	/**
+	 * The label showing the current week.
+	 */
+	private JLabel lblCurrentWeek;
 
 	/**
 	 * Constructs a new StadiumScreen object with the given GameManager.
@@ -46,7 +50,6 @@ public class StadiumScreen {
 	public StadiumScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -58,7 +61,7 @@ public class StadiumScreen {
 			public void run() {
 				try {
 					StadiumScreen window = new StadiumScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -74,33 +77,46 @@ public class StadiumScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the StadiumScreen.
+	 * 
+	 * @return the content pane of the StadiumScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Updates the week label to show the current week.
+	 */
+	public void refresh() {
+		lblCurrentWeek.setText(String.format("Week: %d", manager.getCurrentWeek()));
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeStadiumScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen once the GameManager has moved on to another state.
 	 */
 	public void finishedWindow() {
-		manager.closeStadiumScreen(this);
+		closeWindow();
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JButton btnPlay = new JButton("Play Match");
 		btnPlay.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent e) {
-				manager.LaunchOpponentSelectorScreen();
+				manager.selectOpponent();
 				finishedWindow();
 			}
 		});
@@ -109,10 +125,7 @@ public class StadiumScreen {
 		JButton btnBye = new JButton("Take a Bye");
 		btnBye.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent e) {
-				manager.incrementWeek();
-				manager.getTeam().restoreStamina();
-				manager.launchTrainAthleteScreen();
-				manager.launchRandomEvent();
+				manager.bye();
 				finishedWindow();
 			}
 		});
@@ -122,14 +135,14 @@ public class StadiumScreen {
 		btnBack.setFont(new Font("Tahoma", Font.PLAIN, 14));
 		btnBack.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent e) {
-				manager.launchMainScreen();
+				manager.returnToMain();
 				finishedWindow();
 			}
 		});
 
 		JPanel panel = new JPanel();
 		panel.setBackground(new Color(255, 255, 255));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
 						.addGroup(groupLayout.createParallelGroup(Alignment.LEADING)
@@ -156,7 +169,7 @@ public class StadiumScreen {
 												Short.MAX_VALUE))
 								.addGap(187)))));
 
-		JLabel lblCurrentWeek = new JLabel(String.format("Week: %d", manager.getCurrentWeek()));
+		lblCurrentWeek = new JLabel("Week: 1");
 		lblCurrentWeek.setHorizontalAlignment(SwingConstants.CENTER);
 
 		lblCurrentWeek.setFont(new Font("Tahoma", Font.PLAIN, 14));
@@ -168,6 +181,6 @@ public class StadiumScreen {
 		gl_panel.setVerticalGroup(gl_panel.createParallelGroup(Alignment.LEADING).addComponent(lblCurrentWeek,
 				Alignment.TRAILING, GroupLayout.DEFAULT_SIZE, 36, Short.MAX_VALUE));
 		panel.setLayout(gl_panel);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 	}
 }
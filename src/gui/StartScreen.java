@@ -40,11 +40,11 @@ import javax.swing.ImageIcon;
  * @author Kush Desai
  * 
  */
-public class StartScreen {
+public class StartScreen implements Screen {
 	/**
-	 * The frame of the GameOverScreen.
+	 * The panel holding the components of the StartScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -58,7 +58,6 @@ public class StartScreen {
 	public StartScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -70,7 +69,7 @@ public class StartScreen {
 			public void run() {
 				try {
 					StartScreen window = new StartScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -86,28 +85,36 @@ public class StartScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the StartScreen.
+	 * 
+	 * @return the content pane of the StartScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeStartScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen and calls start within the GameManager object, which
+	 * moves the game on to its next state.
 	 */
 	public void finishedWindow() {
-		manager.closeStartScreen(this);
+		closeWindow();
+		manager.start();
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JPanel panel = new JPanel();
 		panel.setBackground(new Color(0, 0, 64));
@@ -122,7 +129,7 @@ public class StartScreen {
 		btnNewLabel_LOGO.setHorizontalAlignment(SwingConstants.CENTER);
 		btnNewLabel_LOGO.setFont(new Font("Tahoma", Font.PLAIN, 5));
 		btnNewLabel_LOGO.setIcon(new ImageIcon(StartScreen.class.getResource("/gui/images/basketball_logo.png")));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.TRAILING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -154,7 +161,7 @@ public class StartScreen {
 		JButton btnQuit = new JButton("Quit");
 		btnQuit.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent e) {
-				closeWindow();
+				manager.quit();
 			}
 		});
 		btnQuit.setFont(new Font("Tahoma", Font.PLAIN, 20));
@@ -173,7 +180,7 @@ public class StartScreen {
 						.addGap(18).addComponent(btnQuit, GroupLayout.PREFERRED_SIZE, 73, GroupLayout.PREFERRED_SIZE)
 						.addContainerGap(GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)));
 		panel.setLayout(gl_panel);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 
 	}
 }
@@ -26,6 +26,7 @@ import org.hamcrest.core.IsNull;
 
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.Set;
 import java.awt.event.ActionEvent;
 import javax.swing.JList;
 import javax.swing.JOptionPane;
@@ -45,11 +46,11 @@ import javax.swing.JTextField;
  * @author Kush Desai
  * 
  */
-public class TeamScreen {
+public class TeamScreen implements Screen {
 	/**
-	 * The frame of the GameOverScreen.
+	 * The panel holding the components of the TeamScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -70,10 +71,32 @@ public class TeamScreen {
 	 * The last selected Item.
 	 */
 	private Item lastSelectedItem;
+	/**
+	 * The Athlete whose information the labels display, or null if they display
+	 * an Item or nothing.
+	 */
+	private Athlete shownAthlete;
 	/**
 	 * The JTextField to set an Athlete's nickname.
 	 */
 	private JTextField textNickname;
+	/**
+	 * The JList containing the reserve Athletes.
+	 */
+	private JList<Athlete> reservesList;
+	/**
+	 * The JList containing the items owned by the team.
+	 */
+	private JList<Item> itemList;
+	/**
+	 * The label displaying the name of the selected Athlete or Item.
+	 */
+	private JLabel lblName;
+	/**
+	 * The list of labels displaying the price and stats of the selected Athlete
+	 * or Item.
+	 */
+	private ArrayList<JLabel> detailLabels = new ArrayList<JLabel>();
 
 	/**
 	 * Constructs a new TeamScreen object with the given GameManager.
@@ -83,22 +106,31 @@ public class TeamScreen {
 	public TeamScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the TeamScreen.
+	 * 
+	 * @return the content pane of the TeamScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeTeamScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen and calls returnToMain within the GameManager object, which
+	 * moves the game on to its next state.
 	 */
 	public void finishedWindow() {
-		manager.closeTeamScreen(this);
+		closeWindow();
+		manager.returnToMain();
 	}
 
 	/**
@@ -120,7 +152,7 @@ public class TeamScreen {
 	public void starterButtonEvent(JButton btn, Athlete.POSITION pos, JLabel name, JLabel price, JLabel off, JLabel def,
 			JLabel stam, JLabel agil, JList<Item> itemList, JList<Athlete> reserveList, JLabel currStam) {
 
-		Athlete athlete = manager.getTeam().getPlayersMap().get(pos);
+		Athlete athlete = manager.getTeam().starter(pos);
 		name.setText(athlete.toString()); // Set name label to athlete name
 		price.setText("$" + String.valueOf(athlete.getPrice()));
 		off.setText("Offence: " + String.valueOf(athlete.getStat(Athlete.STATS.O)));
@@ -129,6 +161,7 @@ public class TeamScreen {
 		agil.setText("Agility: " + String.valueOf(athlete.getStat(Athlete.STATS.A)));
 		currStam.setText("Current Stamina: " + String.valueOf(athlete.getStat(Athlete.STATS.CS)));
 		lastSelectedAthlete = athlete;
+		shownAthlete = athlete;
 		for (JButton starterBtn : starters) {
 			starterBtn.setForeground(Color.black);
 		}
@@ -202,11 +235,63 @@ public class TeamScreen {
 	 */
 	public void setStarterButtons(ArrayList<JButton> btns) {
 
-		btns.get(0).setText(String.valueOf(manager.getTeam().getPlayersMap().get(Athlete.POSITION.PG).getName()));
-		btns.get(1).setText(String.valueOf(manager.getTeam().getPlayersMap().get(Athlete.POSITION.SG).getName()));
-		btns.get(2).setText(String.valueOf(manager.getTeam().getPlayersMap().get(Athlete.POSITION.C).getName()));
-		btns.get(3).setText(String.valueOf(manager.getTeam().getPlayersMap().get(Athlete.POSITION.SF).getName()));
-		btns.get(4).setText(String.valueOf(manager.getTeam().getPlayersMap().get(Athlete.POSITION.PF).getName()));
+		btns.get(0).setText(String.valueOf(manager.getTeam().starter(Athlete.POSITION.PG).getName()));
+		btns.get(1).setText(String.valueOf(manager.getTeam().starter(Athlete.POSITION.SG).getName()));
+		btns.get(2).setText(String.valueOf(manager.getTeam().starter(Athlete.POSITION.C).getName()));
+		btns.get(3).setText(String.valueOf(manager.getTeam().starter(Athlete.POSITION.SF).getName()));
+		btns.get(4).setText(String.valueOf(manager.getTeam().starter(Athlete.POSITION.PF).getName()));
+	}
+
+	/**
+	 * Shows the current state of the team and clears the previous selection.
+	 */
+	public void refresh() {
+		lastSelectedAthlete = null;
+		lastSelectedReserve = null;
+		lastSelectedItem = null;
+		shownAthlete = null;
+		reservesList.clearSelection();
+		reservesList.revalidate();
+		reservesList.repaint();
+		itemList.clearSelection();
+		itemList.revalidate();
+		itemList.repaint();
+		lblName.setText("Click an item to see its description");
+		for (JLabel lbl : detailLabels) {
+			lbl.setText("");
+		}
+		textNickname.setText("");
+		for (JButton starter : starters) {
+			starter.setForeground(Color.black);
+		}
+		setStarterButtons(starters);
+	}
+
+	/**
+	 * Updates only the components affected by the changes made to the game: the
+	 * starter buttons when the lineup or a name changes, the reserve and Item
+	 * lists when they change, and the labels when the displayed Athlete changes.
+	 * 
+	 * @param kinds   the kinds of change
+	 * @param sources the objects that changed
+	 */
+	public void changed(Set<ChangeEvent.Kind> kinds, Set<Object> sources) {
+		boolean athletes = kinds.contains(ChangeEvent.Kind.ATHLETE);
+		if (athletes || kinds.contains(ChangeEvent.Kind.LINEUP)) {
+			setStarterButtons(starters);
+		}
+		if (athletes || kinds.contains(ChangeEvent.Kind.RESERVES)) {
+			reservesList.revalidate();
+			reservesList.repaint();
+		}
+		if (kinds.contains(ChangeEvent.Kind.ITEMS)) {
+			itemList.revalidate();
+			itemList.repaint();
+		}
+		if (athletes && shownAthlete != null && sources.contains(shownAthlete)) {
+			refreshLabels(shownAthlete, lblName, detailLabels.get(0), detailLabels.get(1), detailLabels.get(2),
+					detailLabels.get(3), detailLabels.get(4), detailLabels.get(5));
+		}
 	}
 
 	/**
@@ -218,7 +303,7 @@ public class TeamScreen {
 			public void run() {
 				try {
 					TeamScreen window = new TeamScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -234,20 +319,18 @@ public class TeamScreen {
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1300, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JPanel panel = new JPanel();
 		panel.setBackground(Color.WHITE);
 
 		JSeparator separator = new JSeparator();
 
-		JLabel lblName = new JLabel("Click an item to see its description");
+		lblName = new JLabel("Click an item to see its description");
 		lblName.setFont(new Font("Tahoma", Font.PLAIN, 18));
 
 		JLabel lblPrice = new JLabel("");
@@ -272,11 +355,12 @@ public class TeamScreen {
 		panel_1.setBackground(new Color(0, 0, 64));
 
 		JScrollPane scrollPane = new JScrollPane();
-		JList<Athlete> reservesList = new JList<Athlete>();
+		reservesList = new JList<Athlete>();
 		reservesList.addListSelectionListener(new ListSelectionListener() {
 			public void valueChanged(ListSelectionEvent e) {
 				lastSelectedReserve = reservesList.getSelectedValue();
 				if (lastSelectedReserve instanceof Athlete) {
+					shownAthlete = lastSelectedReserve;
 					refreshLabels(lastSelectedReserve, lblName, lblPrice, lblOffValue, lblDefValue, lblStamValue, lblAgilValue,
 							lblCurrStamValue);
 				}
@@ -305,14 +389,8 @@ public class TeamScreen {
 				lastSelectedReserve = athlete;
 
 				try {
-					manager.getTeam().replacePlayer(athlete,
-							manager.getTeam().getPlayersMap().get(athlete.getPosition()));
+					manager.makeStarter(athlete);
 					reservesList.clearSelection();
-					reservesList.revalidate();
-					reservesList.repaint();
-					scrollPane.revalidate();
-					scrollPane.repaint();
-					setStarterButtons(starters);
 				} catch (NullPointerException error) {
 					String message = "Please select a Reserve Player first!";
 					JOptionPane.showMessageDialog(new JFrame(), message, "Dialog", JOptionPane.ERROR_MESSAGE);
@@ -322,7 +400,7 @@ public class TeamScreen {
 
 		// Scroll pane with items in it
 		JScrollPane scrollPane_1 = new JScrollPane();
-		JList<Item> itemList = new JList<Item>();
+		itemList = new JList<Item>();
 
 		itemList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
 		itemList.setModel(new AbstractListModel<Item>() {
@@ -340,6 +418,7 @@ public class TeamScreen {
 			public void valueChanged(ListSelectionEvent e) {
 				lastSelectedItem = itemList.getSelectedValue();
 				if (lastSelectedItem instanceof Item) {
+					shownAthlete = null;
 					refreshItemLabels(lastSelectedItem, lblName, lblPrice, lblOffValue, lblDefValue, lblStamValue, lblAgilValue,
 							lblCurrStamValue);
 				}
@@ -383,14 +462,8 @@ public class TeamScreen {
 			public void actionPerformed(ActionEvent e) {
 				try {
 					Item item = itemList.getSelectedValue();
-					item.consume(lastSelectedAthlete);
-					manager.getTeam().removeItem(item);
+					manager.useItem(item, lastSelectedAthlete);
 					itemList.clearSelection();
-					itemList.revalidate();
-					itemList.repaint();
-					scrollPane_1.revalidate();
-					scrollPane_1.repaint();
-					setStarterButtons(starters);
 				} 
 				catch (NullPointerException error) {
 					String message = "Please select a starter first!";
@@ -418,13 +491,8 @@ public class TeamScreen {
 								JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
 						if (result == JOptionPane.YES_OPTION) {
 							lastSelectedItem = itemList.getSelectedValue();
-							manager.getTeam().removeItem(lastSelectedItem);
-							manager.changeMoney(lastSelectedItem.getPrice() * 3 / 4);
+							manager.sellItem(lastSelectedItem);
 							itemList.clearSelection();
-							itemList.revalidate();
-							itemList.repaint();
-							scrollPane.revalidate();
-							scrollPane.repaint();
 						}
 					}
 				} catch (NullPointerException error) {
@@ -445,13 +513,8 @@ public class TeamScreen {
 						int result = JOptionPane.showConfirmDialog(new JFrame(), message, "Sell Athlete",
 								JOptionPane.YES_NO_OPTION, JOptionPane.WARNING_MESSAGE);
 						if (result == JOptionPane.YES_OPTION) {
-							manager.getTeam().sellPlayer(lastSelectedReserve);
-							manager.changeMoney(lastSelectedReserve.getPrice() * 3 / 4);
+							manager.sellAthlete(lastSelectedReserve);
 							reservesList.clearSelection();
-							reservesList.revalidate();
-							reservesList.repaint();
-							scrollPane.revalidate();
-							scrollPane.repaint();
 						}
 					}
 				} catch (NullPointerException error) {
@@ -478,10 +541,7 @@ public class TeamScreen {
 						JOptionPane.showMessageDialog(new JFrame(), message, "Name Change Error",
 								JOptionPane.ERROR_MESSAGE);
 					} else {
-						lastSelectedAthlete.setNickname(name);
-						setStarterButtons(starters);
-						refreshLabels(lastSelectedAthlete, lblName, lblPrice, lblOffValue, lblDefValue, lblStamValue,
-								lblAgilValue, lblCurrStamValue);
+						manager.renameAthlete(lastSelectedAthlete, name);
 					}
 				}
 
@@ -493,7 +553,7 @@ public class TeamScreen {
 			}
 		});
 
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(
 			groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup()
@@ -675,14 +735,20 @@ public class TeamScreen {
 						.addGap(123)));
 
 		panel_1.setLayout(gl_panel_1);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 
 		starters.add(btnPG);
 		starters.add(btnSG);
 		starters.add(btnC);
 		starters.add(btnSF);
 		starters.add(btnPF);
-		setStarterButtons(starters);
+
+		detailLabels.add(lblPrice);
+		detailLabels.add(lblOffValue);
+		detailLabels.add(lblDefValue);
+		detailLabels.add(lblStamValue);
+		detailLabels.add(lblAgilValue);
+		detailLabels.add(lblCurrStamValue);
 
 	}
 }
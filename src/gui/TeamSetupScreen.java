@@ -39,11 +39,11 @@ import javax.swing.JOptionPane;
  * @author Kush Desai
  * 
  */
-public class TeamSetupScreen {
+public class TeamSetupScreen implements Screen {
 	/**
-	 * Frame of the GameScreen.
+	 * The panel holding the components of the TeamSetupScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -57,7 +57,6 @@ public class TeamSetupScreen {
 	public TeamSetupScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
@@ -69,7 +68,7 @@ public class TeamSetupScreen {
 			public void run() {
 				try {
 					TeamSetupScreen window = new TeamSetupScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -85,18 +84,28 @@ public class TeamSetupScreen {
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the TeamSetupScreen.
+	 * 
+	 * @return the content pane of the TeamSetupScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeTeamSetupScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen and calls finishTeamSetup within the GameManager object, which
+	 * moves the game on to its next state.
 	 */
 	public void finishedWindow() {
-		manager.closeTeamSetupScreen(this);
+		closeWindow();
+		manager.finishTeamSetup();
 	}
 
 	/**
@@ -135,7 +144,7 @@ public class TeamSetupScreen {
 		if (btn.isSelected()) {
 
 			Athlete athlete = manager.getMarket().getStarterAthletes().get(index);
-			if (manager.getTeam().getPlayersMap().get(athlete.getPosition()) instanceof Athlete) {
+			if (manager.getTeam().starter(athlete.getPosition()) instanceof Athlete) {
 				// another player in same position already in team
 				btn.setSelected(false);
 				String message = "Another player is already in that position!";
@@ -172,14 +181,12 @@ public class TeamSetupScreen {
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
 
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JPanel panel = new JPanel();
 		panel.setBackground(new Color(255, 255, 255));
@@ -206,7 +213,7 @@ public class TeamSetupScreen {
 			}
 		});
 		btnStart.setFont(new Font("Tahoma", Font.PLAIN, 20));
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.LEADING)
 				.addGroup(groupLayout.createSequentialGroup().addContainerGap()
 						.addComponent(panel_1, GroupLayout.DEFAULT_SIZE, 711, Short.MAX_VALUE).addGap(138)
@@ -415,7 +422,7 @@ public class TeamSetupScreen {
 						.addComponent(tglbtnPlayer6, GroupLayout.DEFAULT_SIZE, 181, Short.MAX_VALUE))
 				.addGap(27)));
 		panel_1.setLayout(gl_panel_1);
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 
 		ArrayList<JToggleButton> tglBtns = new ArrayList<JToggleButton>();
 		tglBtns.add(tglbtnPlayer1);
@@ -6,6 +6,7 @@ import java.awt.Font;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
 import java.util.ArrayList;
+import java.util.Set;
 
 import javax.swing.AbstractListModel;
 import javax.swing.GroupLayout;
@@ -25,6 +26,7 @@ import javax.swing.event.ListSelectionEvent;
 import javax.swing.event.ListSelectionListener;
 
 import main.Athlete;
+import main.ChangeEvent;
 import main.GameManager;
 import main.Item;
 
@@ -33,12 +35,12 @@ import main.Item;
  * takes a bye. This screen allows a player to specially train one athlete,
  * and that Athletes stats are all increased by 10.
  */
-public class TrainAthleteScreen {
+public class TrainAthleteScreen implements Screen {
 
 	/**
-	 * Frame of the GameScreen.
+	 * The panel holding the components of the TrainAthleteScreen.
 	 */
-	private JFrame frame;
+	private JPanel contentPane;
 	/**
 	 * The current instance of the GameManager object.
 	 */
@@ -47,6 +49,22 @@ public class TrainAthleteScreen {
 	 * The last selected Athlete.
 	 */
 	private Athlete lastSelectedAthlete;
+	/**
+	 * The JList containing the starting Athletes.
+	 */
+	private JList<Athlete> startersList;
+	/**
+	 * The JList containing the reserve Athletes.
+	 */
+	private JList<Athlete> reservesList;
+	/**
+	 * The label displaying the name of the selected Athlete.
+	 */
+	private JLabel nameLabel;
+	/**
+	 * The list of labels displaying the price and stats of the selected Athlete.
+	 */
+	private ArrayList<JLabel> detailLabels = new ArrayList<JLabel>();
 
 	/**
 	 * Constructs a new TrainAthleteScreen object with the given GameManager.
@@ -56,22 +74,31 @@ public class TrainAthleteScreen {
 	public TrainAthleteScreen(GameManager gameManager) {
 		manager = gameManager;
 		initialize();
-		frame.setVisible(true);
 	}
 
 	/**
-	 * Closes the window.
+	 * Retrieves the panel holding the components of the TrainAthleteScreen.
+	 * 
+	 * @return the content pane of the TrainAthleteScreen
+	 */
+	public JPanel getContentPane() {
+		return contentPane;
+	}
+
+	/**
+	 * Hides the screen until it is shown again.
 	 */
 	public void closeWindow() {
-		frame.dispose();
+		contentPane.setVisible(false);
 	}
 
 	/**
-	 * Calls closeTeamSetupScreen within the GameManager object which opens the next
-	 * window.
+	 * Closes the screen and calls returnToMain within the GameManager object, which
+	 * moves the game on to its next state.
 	 */
 	public void finishedWindow() {
-		manager.closeTrainAthleteScreen(this);
+		closeWindow();
+		manager.returnToMain();
 	}
 
 	/**
@@ -96,6 +123,69 @@ public class TrainAthleteScreen {
 		agil.setText("Agility: " + String.valueOf(athlete.getStat(Athlete.STATS.A)));
 	}
 
+	/**
+	 * Shows the current Athletes of the team and clears the previous selection.
+	 */
+	public void refresh() {
+		lastSelectedAthlete = null;
+		setListModels();
+		nameLabel.setText("Click an item to see its description");
+		for (JLabel lbl : detailLabels) {
+			lbl.setText("");
+		}
+	}
+
+	/**
+	 * Updates only the components affected by the changes made to the game: the
+	 * lists when the starters or reserves change, and the labels when the selected
+	 * Athlete changes.
+	 * 
+	 * @param kinds   the kinds of change
+	 * @param sources the objects that changed
+	 */
+	public void changed(Set<ChangeEvent.Kind> kinds, Set<Object> sources) {
+		if (kinds.contains(ChangeEvent.Kind.LINEUP) || kinds.contains(ChangeEvent.Kind.RESERVES)) {
+			setListModels();
+		} else if (kinds.contains(ChangeEvent.Kind.ATHLETE)) {
+			startersList.repaint();
+			reservesList.repaint();
+		}
+		if (kinds.contains(ChangeEvent.Kind.ATHLETE) && lastSelectedAthlete != null
+				&& sources.contains(lastSelectedAthlete)) {
+			refreshLabels(lastSelectedAthlete, nameLabel, detailLabels.get(0), detailLabels.get(1),
+					detailLabels.get(2), detailLabels.get(3), detailLabels.get(4));
+		}
+	}
+
+	/**
+	 * Sets the lists to show the current starting and reserve Athletes of the
+	 * team.
+	 */
+	private void setListModels() {
+		startersList.setModel(new AbstractListModel<Athlete>() {
+			ArrayList<Athlete> values = manager.getTeam().getPlayersArray();
+
+			public int getSize() {
+				return values.size();
+			}
+
+			public Athlete getElementAt(int index) {
+				return values.get(index);
+			}
+		});
+		reservesList.setModel(new AbstractListModel<Athlete>() {
+			ArrayList<Athlete> values = manager.getTeam().getReserves();
+
+			public int getSize() {
+				return values.size();
+			}
+
+			public Athlete getElementAt(int index) {
+				return values.get(index);
+			}
+		});
+	}
+
 	/**
 	 * Launch the application.
 	 * @param args Command line args
@@ -105,7 +195,7 @@ public class TrainAthleteScreen {
 			public void run() {
 				try {
 					TrainAthleteScreen window = new TrainAthleteScreen();
-					window.frame.setVisible(true);
+					new ScreenHost().showScreen(window);
 				} catch (Exception e) {
 					e.printStackTrace();
 				}
@@ -121,20 +211,18 @@ public class TrainAthleteScreen {
 	}
 
 	/**
-	 * Initialize the contents of the frame.
+	 * Initialize the contents of the screen.
 	 */
 	private void initialize() {
-		frame = new JFrame();
-		frame.getContentPane().setBackground(new Color(0, 0, 64));
-		frame.setBounds(100, 100, 1200, 600);
-		frame.setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+		contentPane = new JPanel();
+		contentPane.setBackground(new Color(0, 0, 64));
 
 		JPanel panel = new JPanel();
 		panel.setBackground(Color.WHITE);
 
 		JSeparator separator = new JSeparator();
 
-		JLabel nameLabel = new JLabel("Click an item to see its description");
+		nameLabel = new JLabel("Click an item to see its description");
 		nameLabel.setFont(new Font("Tahoma", Font.PLAIN, 18));
 
 		JLabel priceLabel = new JLabel("");
@@ -178,6 +266,12 @@ public class TrainAthleteScreen {
 						.addContainerGap(195, Short.MAX_VALUE)));
 		panel.setLayout(gl_panel);
 
+		detailLabels.add(priceLabel);
+		detailLabels.add(offValue);
+		detailLabels.add(defValue);
+		detailLabels.add(stamValue);
+		detailLabels.add(agilValue);
+
 		JButton tglBtnPG_6 = new JButton("<");
 		tglBtnPG_6.addActionListener(new ActionListener() {
 			public void actionPerformed(ActionEvent e) {
@@ -192,10 +286,7 @@ public class TrainAthleteScreen {
 			@Override
 			public void actionPerformed(ActionEvent e) {
 				try {
-					lastSelectedAthlete.changeStat(10, Athlete.STATS.O);
-					lastSelectedAthlete.changeStat(10, Athlete.STATS.D);
-					lastSelectedAthlete.changeStat(10, Athlete.STATS.S);
-					lastSelectedAthlete.changeStat(10, Athlete.STATS.A);
+					manager.trainAthlete(lastSelectedAthlete);
 					String message = lastSelectedAthlete.getName() + " has been trained!";
 					JOptionPane.showMessageDialog(new JFrame(), message, "Dialog", JOptionPane.INFORMATION_MESSAGE);
 					finishedWindow();
@@ -219,7 +310,7 @@ public class TrainAthleteScreen {
 		lblTrainingRoom.setFont(new Font("Tahoma", Font.PLAIN, 20));
 		lblTrainingRoom.setForeground(new Color(255, 255, 255));
 
-		GroupLayout groupLayout = new GroupLayout(frame.getContentPane());
+		GroupLayout groupLayout = new GroupLayout(contentPane);
 		groupLayout.setHorizontalGroup(groupLayout.createParallelGroup(Alignment.LEADING).addGroup(groupLayout
 				.createSequentialGroup().addContainerGap()
 				.addGroup(groupLayout.createParallelGroup(Alignment.LEADING)
@@ -269,21 +360,10 @@ public class TrainAthleteScreen {
 		lblStarters.setHorizontalAlignment(SwingConstants.CENTER);
 		scrollPane_1.setColumnHeaderView(lblStarters);
 
-		JList<Athlete> startersList = new JList<Athlete>();
-		JList<Athlete> reservesList = new JList<Athlete>();
+		startersList = new JList<Athlete>();
+		reservesList = new JList<Athlete>();
 
 		startersList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-		startersList.setModel(new AbstractListModel<Athlete>() {
-			ArrayList<Athlete> values = manager.getTeam().getPlayersArray();
-
-			public int getSize() {
-				return values.size();
-			}
-
-			public Athlete getElementAt(int index) {
-				return values.get(index);
-			}
-		});
 		startersList.addListSelectionListener(new ListSelectionListener() {
 			public void valueChanged(ListSelectionEvent e) {
 				lastSelectedAthlete = startersList.getSelectedValue();
@@ -308,17 +388,6 @@ public class TrainAthleteScreen {
 		scrollPane.setColumnHeaderView(lblReserves);
 
 		reservesList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
-		reservesList.setModel(new AbstractListModel<Athlete>() {
-			ArrayList<Athlete> values = manager.getTeam().getReserves();
-
-			public int getSize() {
-				return values.size();
-			}
-
-			public Athlete getElementAt(int index) {
-				return values.get(index);
-			}
-		});
 		reservesList.addListSelectionListener(new ListSelectionListener() {
 			public void valueChanged(ListSelectionEvent e) {
 				lastSelectedAthlete = reservesList.getSelectedValue();
@@ -337,6 +406,6 @@ public class TrainAthleteScreen {
 
 		scrollPane.setViewportView(reservesList);
 
-		frame.getContentPane().setLayout(groupLayout);
+		contentPane.setLayout(groupLayout);
 	}
 }
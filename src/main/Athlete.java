@@ -1,6 +1,6 @@
 package main;
 
-import java.util.*;
+import java.util.HashMap;
 
 /**
  * This is the Athlete class which represents a single Athlete. The class
@@ -38,9 +38,32 @@ public class Athlete {
 	private int injuries = 0;
 
 	/**
-	 * The stats of the Athlete.
+	 * The number of stats each Athlete has, one for each value of STATS.
 	 */
-	private HashMap<STATS, Integer> stats = new HashMap<STATS, Integer>();
+	public static final int NUM_STATS = 5;
+
+	/**
+	 * The number of positions in a starting lineup, one for each value of
+	 * POSITION.
+	 */
+	public static final int NUM_POSITIONS = 5;
+
+	/**
+	 * Every POSITION in ordinal order, shared so that iterating over the positions
+	 * does not copy POSITION.values() each time. Must not be modified.
+	 */
+	static final POSITION[] POSITIONS = POSITION.values();
+
+	/**
+	 * The stats of the Athlete, indexed by STATS ordinal.
+	 */
+	private int[] stats = new int[NUM_STATS];
+
+	/**
+	 * The ChangeBus the Athlete publishes its changes to, or null if it belongs to
+	 * no game. Copies of the Athlete do not share it.
+	 */
+	private ChangeBus bus;
 
 	/**
 	 * Constructor to create an Athlete object.
@@ -58,11 +81,46 @@ public class Athlete {
 		int agility = tempStats.get(STATS.A);
 		rating = (offence + defence + stamina + agility) / 4;
 		price = rating * 20;
-		stats.put(STATS.O, offence);
-		stats.put(STATS.D, defence);
-		stats.put(STATS.S, stamina);
-		stats.put(STATS.A, agility);
-		stats.put(STATS.CS, stamina);
+		stats[STATS.O.ordinal()] = offence;
+		stats[STATS.D.ordinal()] = defence;
+		stats[STATS.S.ordinal()] = stamina;
+		stats[STATS.A.ordinal()] = agility;
+		stats[STATS.CS.ordinal()] = stamina;
+	}
+
+	/**
+	 * Constructor to create a copy of an Athlete, including its current stamina
+	 * and injuries.
+	 * 
+	 * @param other The Athlete to copy.
+	 */
+	public Athlete(Athlete other) {
+		name = other.name;
+		position = other.position;
+		rating = other.rating;
+		price = other.price;
+		injuries = other.injuries;
+		System.arraycopy(other.stats, 0, stats, 0, NUM_STATS);
+	}
+
+	/**
+	 * Constructor to create an Athlete from stored values, used when reading an
+	 * Athlete back out of an AthleteTable.
+	 * 
+	 * @param tempName     The name of the Athlete.
+	 * @param tempPosition The position of the Athlete.
+	 * @param tempStats    The stats of the Athlete, indexed by STATS ordinal.
+	 * @param tempPrice    The price of the Athlete.
+	 * @param tempInjuries The number of injuries the Athlete has.
+	 */
+	Athlete(String tempName, POSITION tempPosition, int[] tempStats, int tempPrice, int tempInjuries) {
+		name = tempName;
+		position = tempPosition;
+		price = tempPrice;
+		injuries = tempInjuries;
+		System.arraycopy(tempStats, 0, stats, 0, NUM_STATS);
+		rating = (stats[STATS.O.ordinal()] + stats[STATS.D.ordinal()] + stats[STATS.A.ordinal()]
+				+ stats[STATS.S.ordinal()]) / 4;
 	}
 
 	/**
@@ -133,26 +191,35 @@ public class Athlete {
 	 */
 	public void setNickname(String newName) {
 		name = newName;
+		changed();
 	}
 
 	/**
 	 * Changes a certain stat of the Athlete. Used when consuming Items or playing a
-	 * match.
+	 * match. If the change takes the current stamina of the Athlete down to 0, an
+	 * injury is recorded.
 	 * 
 	 * @param value The amount to change the stat by.
 	 * @param stat  The stat to change.
 	 */
 	public void changeStat(int value, STATS stat) {
-		int newVal = getStat(stat) + value;
+		int index = stat.ordinal();
+		int newVal = stats[index] + value;
 		if (newVal < 0) {
 			newVal = 0;
 		}
 		else if (newVal > 99) {
 			newVal = 99;
 		}
-		stats.put(stat, newVal);
-		rating = (getStat(STATS.O) + getStat(STATS.D) + getStat(STATS.A) + getStat(STATS.S)) / 4;
-
+		int oldVal = stats[index];
+		stats[index] = newVal;
+		if (stat != STATS.CS) {
+			rating = (stats[STATS.O.ordinal()] + stats[STATS.D.ordinal()] + stats[STATS.A.ordinal()]
+					+ stats[STATS.S.ordinal()]) / 4;
+		} else if (oldVal > 0 && newVal == 0) {
+			recordInjury();
+		}
+		changed();
 	}
 
 	/**
@@ -192,7 +259,17 @@ public class Athlete {
 	 * @return The value of the specified stat.
 	 */
 	public int getStat(STATS stat) {
-		return stats.get(stat);
+		return stats[stat.ordinal()];
+	}
+
+	/**
+	 * Copies all stats of the Athlete into the given array, indexed by STATS
+	 * ordinal. Lets callers read every stat without allocating.
+	 * 
+	 * @param out The array to copy the stats into, of length at least NUM_STATS.
+	 */
+	public void getStats(int[] out) {
+		System.arraycopy(stats, 0, out, 0, NUM_STATS);
 	}
 
 
@@ -200,8 +277,8 @@ public class Athlete {
 	 * Restores the current stamina of the Athlete to its maximum value.
 	 */
 	public void restoreCurrentStamina() {
-		int maxStamina = getStat(Athlete.STATS.S);
-		stats.put(Athlete.STATS.CS, maxStamina);
+		stats[STATS.CS.ordinal()] = stats[STATS.S.ordinal()];
+		changed();
 	}
 
 	/**
@@ -250,17 +327,42 @@ public class Athlete {
 	}
 
 	/**
-	 * Checks if the Athlete is injured. If the current stamina of the Athlete is 0,
-	 * increment injuries by 1.
+	 * Records an injury by incrementing the number of injuries by 1. Called by
+	 * changeStat when the current stamina of the Athlete drops to 0.
+	 */
+	public void recordInjury() {
+		injuries += 1;
+		changed();
+	}
+
+	/**
+	 * Checks if the Athlete is injured, which is when the current stamina of the
+	 * Athlete is 0. Checking does not change the Athlete, so it is safe to call as
+	 * often as needed.
 	 * 
 	 * @return true if the Athlete is injured, false otherwise.
 	 */
 	public boolean isInjured() {
-		if (stats.get(STATS.CS) == 0) {
-			injuries += 1;
-			return true;
+		return stats[STATS.CS.ordinal()] == 0;
+	}
+
+	/**
+	 * Sets the ChangeBus the Athlete publishes its changes to. Called by the Team
+	 * the Athlete joins.
+	 * 
+	 * @param newBus The ChangeBus, or null to stop publishing.
+	 */
+	void setChangeBus(ChangeBus newBus) {
+		bus = newBus;
+	}
+
+	/**
+	 * Publishes an ATHLETE change for this Athlete, if it has a ChangeBus.
+	 */
+	private void changed() {
+		if (bus != null) {
+			bus.publish(ChangeEvent.Kind.ATHLETE, this);
 		}
-		return false;
 	}
 
 }
@@ -0,0 +1,247 @@
+package main;
+
+/**
+ * The AthleteStore interface is a store of many Athletes held as numbered rows
+ * rather than as Athlete objects. AthleteTable keeps its rows in arrays on the
+ * Java heap, and OffHeapAthleteStore keeps them in native memory outside the
+ * heap.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public interface AthleteStore {
+	/**
+	 * The index of the player's points in a match result buffer.
+	 */
+	int PLAYER_POINTS = 0;
+
+	/**
+	 * The index of the opposing points in a match result buffer.
+	 */
+	int OPPONENT_POINTS = 1;
+
+	/**
+	 * The index in a match result buffer of the change in current stamina of
+	 * the player's Athlete in the first position. The other positions follow in
+	 * POSITION order.
+	 */
+	int STAMINA_DELTAS = 2;
+
+	/**
+	 * The length of a match result buffer.
+	 */
+	int RESULT_SIZE = STAMINA_DELTAS + Athlete.NUM_POSITIONS;
+
+	/**
+	 * Adds a new Athlete with full current stamina and no injuries, priced the
+	 * same way as an Athlete object.
+	 *
+	 * @param name     the name of the Athlete
+	 * @param position the position of the Athlete
+	 * @param offence  the offence stat
+	 * @param defence  the defence stat
+	 * @param stamina  the stamina stat
+	 * @param agility  the agility stat
+	 * @return the row of the new Athlete
+	 */
+	int add(String name, Athlete.POSITION position, int offence, int defence, int stamina, int agility);
+
+	/**
+	 * Adds a copy of the given Athlete, including its current stamina and
+	 * injuries.
+	 *
+	 * @param athlete the Athlete to add
+	 * @return the row of the new Athlete
+	 */
+	int add(Athlete athlete);
+
+	/**
+	 * Creates an Athlete object holding the values of the given row. The Athlete
+	 * is a copy, so changing it does not change the store until it is written
+	 * back with set.
+	 *
+	 * @param row the row to read
+	 * @return the Athlete
+	 */
+	Athlete get(int row);
+
+	/**
+	 * Writes the values of the given Athlete into a row.
+	 *
+	 * @param row     the row to write
+	 * @param athlete the Athlete to write
+	 */
+	void set(int row, Athlete athlete);
+
+	/**
+	 * Retrieves the number of rows in the store.
+	 *
+	 * @return the number of rows
+	 */
+	int size();
+
+	/**
+	 * Retrieves the name of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the name
+	 */
+	String getName(int row);
+
+	/**
+	 * Retrieves the position of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the position
+	 */
+	Athlete.POSITION getPosition(int row);
+
+	/**
+	 * Retrieves a stat of the Athlete in a row.
+	 *
+	 * @param row  the row
+	 * @param stat the stat to retrieve
+	 * @return the value of the stat
+	 */
+	int getStat(int row, Athlete.STATS stat);
+
+	/**
+	 * Retrieves the rating of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the rating
+	 */
+	int getRating(int row);
+
+	/**
+	 * Retrieves the price of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the price
+	 */
+	int getPrice(int row);
+
+	/**
+	 * Retrieves the number of injuries of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the number of injuries
+	 */
+	int getInjuries(int row);
+
+	/**
+	 * Checks if the Athlete in a row is injured, which is when its current
+	 * stamina is 0.
+	 *
+	 * @param row the row
+	 * @return true if the Athlete is injured, false otherwise
+	 */
+	boolean isInjured(int row);
+
+	/**
+	 * Changes a stat of the Athlete in a row, following the same rules as
+	 * Athlete.changeStat: the stat stays between 0 and 99, the rating is updated,
+	 * and an injury is recorded when the current stamina drops to 0.
+	 *
+	 * @param row   the row
+	 * @param value the amount to change the stat by
+	 * @param stat  the stat to change
+	 */
+	void changeStat(int row, int value, Athlete.STATS stat);
+
+	/**
+	 * Restores the current stamina of the Athlete in a row to its maximum value.
+	 *
+	 * @param row the row
+	 */
+	void restoreCurrentStamina(int row);
+
+	/**
+	 * Finds the best rated Athlete in the given position. Ties go to the earliest
+	 * row.
+	 *
+	 * @param position the position to search
+	 * @return the row of the best rated Athlete, or -1 if there are no Athletes in
+	 *         that position
+	 */
+	int bestRating(Athlete.POSITION position);
+
+	/**
+	 * Finds the best rated Athlete in each position. Ties go to the earliest row.
+	 *
+	 * @return the row of the best rated Athlete in each position, indexed by
+	 *         POSITION ordinal, or -1 for a position with no Athletes
+	 */
+	int[] bestRatingByPosition();
+
+	/**
+	 * Plays a match between two lineups of rows by the same rules as Gameplay:
+	 * each pair of Athletes in the same position is compared by rating, and the
+	 * current stamina of the player's Athlete drops by more when it loses the
+	 * comparison.
+	 *
+	 * @param playerLineup   the rows of the player's starting Athletes, indexed by
+	 *                       POSITION ordinal
+	 * @param opposingLineup the rows of the opposing starting Athletes, indexed by
+	 *                       POSITION ordinal
+	 * @param difficulty     the difficulty level of the match
+	 * @return the result of the match
+	 */
+	default MatchResult playMatch(int[] playerLineup, int[] opposingLineup, Difficulty difficulty) {
+		int[] result = new int[RESULT_SIZE];
+		int outcome = playMatch(playerLineup, opposingLineup, difficulty, result);
+		String winner;
+		if (outcome == Difficulty.WIN) {
+			winner = "player";
+		} else if (outcome == Difficulty.DRAW) {
+			winner = "draw";
+		} else {
+			winner = "opponent";
+		}
+		int[] staminaDeltas = new int[Athlete.NUM_POSITIONS];
+		System.arraycopy(result, STAMINA_DELTAS, staminaDeltas, 0, staminaDeltas.length);
+		return new MatchResult(result[PLAYER_POINTS], result[OPPONENT_POINTS], winner, staminaDeltas);
+	}
+
+	/**
+	 * Plays a match the same way as playMatch(int[], int[], Difficulty), but
+	 * writes the points and stamina changes into a buffer the caller provides
+	 * instead of creating a MatchResult, so a loop playing many matches can
+	 * reuse one buffer and create no objects.
+	 *
+	 * @param playerLineup   the rows of the player's starting Athletes, indexed by
+	 *                       POSITION ordinal
+	 * @param opposingLineup the rows of the opposing starting Athletes, indexed by
+	 *                       POSITION ordinal
+	 * @param difficulty     the difficulty level of the match
+	 * @param result         the buffer of at least RESULT_SIZE values the points
+	 *                       are written to at PLAYER_POINTS and OPPONENT_POINTS,
+	 *                       and the stamina changes from STAMINA_DELTAS
+	 * @return the outcome of the match for the player: Difficulty.WIN, DRAW or
+	 *         LOSS
+	 */
+	default int playMatch(int[] playerLineup, int[] opposingLineup, Difficulty difficulty, int[] result) {
+		int playerPoints = 0;
+		int opponentPoints = 0;
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			int player = playerLineup[i];
+			int playerRating = getRating(player);
+			int opponentRating = getRating(opposingLineup[i]);
+			int before = getStat(player, Athlete.STATS.CS);
+			int outcome = Difficulty.outcome(playerRating, opponentRating);
+			if (outcome == Difficulty.WIN) {
+				playerPoints += 1;
+			} else if (outcome == Difficulty.LOSS) {
+				opponentPoints += 1;
+			}
+			if (outcome != Difficulty.DRAW) {
+				changeStat(player, difficulty.getStaminaChange(outcome), Athlete.STATS.CS);
+			}
+			result[STAMINA_DELTAS + i] = getStat(player, Athlete.STATS.CS) - before;
+		}
+		result[PLAYER_POINTS] = playerPoints;
+		result[OPPONENT_POINTS] = opponentPoints;
+		return Difficulty.outcome(playerPoints, opponentPoints);
+	}
+}
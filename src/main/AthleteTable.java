@@ -0,0 +1,389 @@
+package main;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The AthleteTable class stores a large number of Athletes as columns of
+ * primitive arrays, one array per field, instead of one object per Athlete.
+ * Each Athlete is a row of the table, identified by its index. Names are
+ * stored once each in a dictionary and referenced by id, so a league with many
+ * Athletes sharing names does not hold a String per Athlete.
+ *
+ * Stats and ratings are between 0 and 99, so they are held in byte columns.
+ * Scans over a single column, such as finding the best rated Athlete in each
+ * position, read contiguous memory without touching any objects.
+ *
+ * Rows can be converted to and from Athlete objects with get and set. For
+ * leagues too large for the Java heap, OffHeapAthleteStore offers the same
+ * operations in native memory.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class AthleteTable implements AthleteStore {
+	/**
+	 * The number of rows the table can hold before its columns first grow.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * The number of rows in the table.
+	 */
+	private int size = 0;
+
+	/**
+	 * The stat columns, indexed by STATS ordinal and then by row.
+	 */
+	private byte[][] stats = new byte[Athlete.NUM_STATS][];
+
+	/**
+	 * The rating column.
+	 */
+	private byte[] ratings;
+
+	/**
+	 * The position column, holding POSITION ordinals.
+	 */
+	private byte[] positions;
+
+	/**
+	 * The price column.
+	 */
+	private int[] prices;
+
+	/**
+	 * The injuries column.
+	 */
+	private int[] injuries;
+
+	/**
+	 * The name column, holding ids into the name dictionary.
+	 */
+	private int[] nameIds;
+
+	/**
+	 * The names in the dictionary, indexed by id.
+	 */
+	private ArrayList<String> names = new ArrayList<String>();
+
+	/**
+	 * The ids of the names in the dictionary.
+	 */
+	private HashMap<String, Integer> ids = new HashMap<String, Integer>();
+
+	/**
+	 * Constructs a new empty AthleteTable.
+	 */
+	public AthleteTable() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new empty AthleteTable with room for the given number of rows
+	 * before its columns grow.
+	 *
+	 * @param capacity the initial number of rows
+	 */
+	public AthleteTable(int capacity) {
+		for (int i = 0; i < Athlete.NUM_STATS; i++) {
+			stats[i] = new byte[capacity];
+		}
+		ratings = new byte[capacity];
+		positions = new byte[capacity];
+		prices = new int[capacity];
+		injuries = new int[capacity];
+		nameIds = new int[capacity];
+	}
+
+	/**
+	 * Adds a new Athlete with full current stamina and no injuries, priced the
+	 * same way as an Athlete object.
+	 *
+	 * @param name     the name of the Athlete
+	 * @param position the position of the Athlete
+	 * @param offence  the offence stat
+	 * @param defence  the defence stat
+	 * @param stamina  the stamina stat
+	 * @param agility  the agility stat
+	 * @return the row of the new Athlete
+	 */
+	public int add(String name, Athlete.POSITION position, int offence, int defence, int stamina, int agility) {
+		int row = newRow();
+		stats[Athlete.STATS.O.ordinal()][row] = (byte) offence;
+		stats[Athlete.STATS.D.ordinal()][row] = (byte) defence;
+		stats[Athlete.STATS.S.ordinal()][row] = (byte) stamina;
+		stats[Athlete.STATS.A.ordinal()][row] = (byte) agility;
+		stats[Athlete.STATS.CS.ordinal()][row] = (byte) stamina;
+		int rating = (offence + defence + stamina + agility) / 4;
+		ratings[row] = (byte) rating;
+		positions[row] = (byte) position.ordinal();
+		prices[row] = rating * 20;
+		injuries[row] = 0;
+		nameIds[row] = nameId(name);
+		return row;
+	}
+
+	/**
+	 * Adds a copy of the given Athlete, including its current stamina and
+	 * injuries.
+	 *
+	 * @param athlete the Athlete to add
+	 * @return the row of the new Athlete
+	 */
+	public int add(Athlete athlete) {
+		int row = newRow();
+		set(row, athlete);
+		return row;
+	}
+
+	/**
+	 * Creates an Athlete object holding the values of the given row. The Athlete
+	 * is a copy, so changing it does not change the table until it is written
+	 * back with set.
+	 *
+	 * @param row the row to read
+	 * @return the Athlete
+	 */
+	public Athlete get(int row) {
+		checkRow(row);
+		int[] values = new int[Athlete.NUM_STATS];
+		for (int i = 0; i < Athlete.NUM_STATS; i++) {
+			values[i] = stats[i][row];
+		}
+		return new Athlete(names.get(nameIds[row]), Athlete.POSITIONS[positions[row]], values, prices[row],
+				injuries[row]);
+	}
+
+	/**
+	 * Writes the values of the given Athlete into a row.
+	 *
+	 * @param row     the row to write
+	 * @param athlete the Athlete to write
+	 */
+	public void set(int row, Athlete athlete) {
+		checkRow(row);
+		for (Athlete.STATS stat : Athlete.STATS.values()) {
+			stats[stat.ordinal()][row] = (byte) athlete.getStat(stat);
+		}
+		ratings[row] = (byte) athlete.getRating();
+		positions[row] = (byte) athlete.getPosition().ordinal();
+		prices[row] = athlete.getPrice();
+		injuries[row] = athlete.getInjuries();
+		nameIds[row] = nameId(athlete.getName());
+	}
+
+	/**
+	 * Retrieves the number of rows in the table.
+	 *
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Retrieves the name of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the name
+	 */
+	public String getName(int row) {
+		checkRow(row);
+		return names.get(nameIds[row]);
+	}
+
+	/**
+	 * Retrieves the position of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the position
+	 */
+	public Athlete.POSITION getPosition(int row) {
+		checkRow(row);
+		return Athlete.POSITIONS[positions[row]];
+	}
+
+	/**
+	 * Retrieves a stat of the Athlete in a row.
+	 *
+	 * @param row  the row
+	 * @param stat the stat to retrieve
+	 * @return the value of the stat
+	 */
+	public int getStat(int row, Athlete.STATS stat) {
+		checkRow(row);
+		return stats[stat.ordinal()][row];
+	}
+
+	/**
+	 * Retrieves the rating of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the rating
+	 */
+	public int getRating(int row) {
+		checkRow(row);
+		return ratings[row];
+	}
+
+	/**
+	 * Retrieves the price of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the price
+	 */
+	public int getPrice(int row) {
+		checkRow(row);
+		return prices[row];
+	}
+
+	/**
+	 * Retrieves the number of injuries of the Athlete in a row.
+	 *
+	 * @param row the row
+	 * @return the number of injuries
+	 */
+	public int getInjuries(int row) {
+		checkRow(row);
+		return injuries[row];
+	}
+
+	/**
+	 * Checks if the Athlete in a row is injured, which is when its current
+	 * stamina is 0.
+	 *
+	 * @param row the row
+	 * @return true if the Athlete is injured, false otherwise
+	 */
+	public boolean isInjured(int row) {
+		checkRow(row);
+		return stats[Athlete.STATS.CS.ordinal()][row] == 0;
+	}
+
+	/**
+	 * Changes a stat of the Athlete in a row, following the same rules as
+	 * Athlete.changeStat: the stat stays between 0 and 99, the rating is updated,
+	 * and an injury is recorded when the current stamina drops to 0.
+	 *
+	 * @param row   the row
+	 * @param value the amount to change the stat by
+	 * @param stat  the stat to change
+	 */
+	public void changeStat(int row, int value, Athlete.STATS stat) {
+		checkRow(row);
+		byte[] column = stats[stat.ordinal()];
+		int oldVal = column[row];
+		int newVal = Math.max(0, Math.min(99, oldVal + value));
+		column[row] = (byte) newVal;
+		if (stat != Athlete.STATS.CS) {
+			ratings[row] = (byte) ((stats[Athlete.STATS.O.ordinal()][row] + stats[Athlete.STATS.D.ordinal()][row]
+					+ stats[Athlete.STATS.A.ordinal()][row] + stats[Athlete.STATS.S.ordinal()][row]) / 4);
+		} else if (oldVal > 0 && newVal == 0) {
+			injuries[row] += 1;
+		}
+	}
+
+	/**
+	 * Restores the current stamina of the Athlete in a row to its maximum value.
+	 *
+	 * @param row the row
+	 */
+	public void restoreCurrentStamina(int row) {
+		checkRow(row);
+		stats[Athlete.STATS.CS.ordinal()][row] = stats[Athlete.STATS.S.ordinal()][row];
+	}
+
+	/**
+	 * Finds the best rated Athlete in each position. Ties go to the earliest row.
+	 *
+	 * @return the row of the best rated Athlete in each position, indexed by
+	 *         POSITION ordinal, or -1 for a position with no Athletes
+	 */
+	public int[] bestRatingByPosition() {
+		int[] best = new int[Athlete.NUM_POSITIONS];
+		int[] bestRating = new int[Athlete.NUM_POSITIONS];
+		Arrays.fill(best, -1);
+		Arrays.fill(bestRating, -1);
+		for (int row = 0; row < size; row++) {
+			int position = positions[row];
+			int rating = ratings[row];
+			if (rating > bestRating[position]) {
+				bestRating[position] = rating;
+				best[position] = row;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Finds the best rated Athlete in the given position. Ties go to the earliest
+	 * row.
+	 *
+	 * @param position the position to search
+	 * @return the row of the best rated Athlete, or -1 if there are no Athletes in
+	 *         that position
+	 */
+	public int bestRating(Athlete.POSITION position) {
+		int target = position.ordinal();
+		int best = -1;
+		int bestRating = -1;
+		for (int row = 0; row < size; row++) {
+			if (positions[row] == target && ratings[row] > bestRating) {
+				bestRating = ratings[row];
+				best = row;
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Appends an empty row, growing the columns if they are full.
+	 *
+	 * @return the index of the new row
+	 */
+	private int newRow() {
+		if (size == ratings.length) {
+			int capacity = Math.max(DEFAULT_CAPACITY, ratings.length * 2);
+			for (int i = 0; i < Athlete.NUM_STATS; i++) {
+				stats[i] = Arrays.copyOf(stats[i], capacity);
+			}
+			ratings = Arrays.copyOf(ratings, capacity);
+			positions = Arrays.copyOf(positions, capacity);
+			prices = Arrays.copyOf(prices, capacity);
+			injuries = Arrays.copyOf(injuries, capacity);
+			nameIds = Arrays.copyOf(nameIds, capacity);
+		}
+		return size++;
+	}
+
+	/**
+	 * Retrieves the id of a name, adding it to the dictionary if it is new.
+	 *
+	 * @param name the name
+	 * @return the id of the name
+	 */
+	private int nameId(String name) {
+		Integer id = ids.get(name);
+		if (id == null) {
+			id = names.size();
+			names.add(name);
+			ids.put(name, id);
+		}
+		return id;
+	}
+
+	/**
+	 * Checks that a row exists.
+	 *
+	 * @param row the row to check
+	 * @throws IndexOutOfBoundsException if the row does not exist
+	 */
+	private void checkRow(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException(row);
+		}
+	}
+}
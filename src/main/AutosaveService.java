@@ -0,0 +1,174 @@
+package main;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The AutosaveService class saves a game in the background, so the screens do
+ * not wait for the disk. Each autosave encodes the game into an in-memory
+ * snapshot on the calling thread, which takes a fraction of a millisecond and
+ * does not change the game, and hands the snapshot to a single writer thread.
+ *
+ * Only the latest snapshot is kept: if several autosaves are requested while
+ * the writer is busy, the older ones are dropped and only the newest is
+ * written. Each snapshot is written to a temporary file and then moved over
+ * the save file, so the save file always holds a complete game even if the
+ * program exits during a write.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class AutosaveService implements Closeable {
+	/**
+	 * The initial size of the buffer a snapshot is encoded into.
+	 */
+	private static final int SNAPSHOT_SIZE = 4096;
+
+	/**
+	 * The path of the save file.
+	 */
+	private Path path;
+
+	/**
+	 * The path of the temporary file each snapshot is written to first.
+	 */
+	private Path tempPath;
+
+	/**
+	 * The thread the snapshots are written on.
+	 */
+	private ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+		Thread thread = new Thread(task, "autosave");
+		thread.setDaemon(true);
+		return thread;
+	});
+
+	/**
+	 * The latest snapshot waiting to be written, or null if there is none.
+	 */
+	private AtomicReference<byte[]> pending = new AtomicReference<byte[]>();
+
+	/**
+	 * The number of snapshots written to the save file.
+	 */
+	private AtomicInteger saveCount = new AtomicInteger();
+
+	/**
+	 * The error from the last failed write, or null if no write has failed.
+	 */
+	private volatile IOException lastError;
+
+	/**
+	 * Constructs a new AutosaveService saving to the given file.
+	 *
+	 * @param path the path of the save file
+	 */
+	public AutosaveService(Path path) {
+		this.path = path;
+		tempPath = path.resolveSibling(path.getFileName() + ".tmp");
+	}
+
+	/**
+	 * Takes a snapshot of a game and schedules it to be written. If an earlier
+	 * snapshot is still waiting, it is replaced by this one.
+	 *
+	 * @param manager the GameManager of the game
+	 */
+	public void autosave(GameManager manager) {
+		ByteArrayOutputStream snapshot = new ByteArrayOutputStream(SNAPSHOT_SIZE);
+		try {
+			GameSave.save(manager, Channels.newChannel(snapshot));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		if (pending.getAndSet(snapshot.toByteArray()) == null) {
+			writer.execute(this::writePending);
+		}
+	}
+
+	/**
+	 * Waits until every snapshot scheduled so far has been written.
+	 *
+	 * @throws InterruptedException if the thread is interrupted while waiting
+	 */
+	public void flush() throws InterruptedException {
+		try {
+			writer.submit(() -> {
+			}).get();
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+	}
+
+	/**
+	 * Retrieves the number of snapshots written to the save file.
+	 *
+	 * @return the number of snapshots written
+	 */
+	public int getSaveCount() {
+		return saveCount.get();
+	}
+
+	/**
+	 * Retrieves the error from the last failed write.
+	 *
+	 * @return the error, or null if no write has failed
+	 */
+	public IOException getLastError() {
+		return lastError;
+	}
+
+	/**
+	 * Writes any waiting snapshot and stops the writer thread.
+	 */
+	@Override
+	public void close() {
+		writer.shutdown();
+		try {
+			writer.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Writes the latest waiting snapshot to the temporary file and moves it over
+	 * the save file. Runs on the writer thread.
+	 */
+	private void writePending() {
+		byte[] snapshot = pending.getAndSet(null);
+		if (snapshot == null) {
+			return;
+		}
+		try {
+			try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				ByteBuffer buffer = ByteBuffer.wrap(snapshot);
+				while (buffer.hasRemaining()) {
+					channel.write(buffer);
+				}
+				channel.force(false);
+			}
+			Files.move(tempPath, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			saveCount.incrementAndGet();
+		} catch (IOException e) {
+			lastError = e;
+		}
+	}
+}
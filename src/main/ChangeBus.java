@@ -0,0 +1,63 @@
+package main;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The ChangeBus class delivers the changes made to the model of one game to
+ * its subscribers. Each GameManager has its own bus, which its Team, the
+ * Team's Athletes and its Market publish to, so screens can update only the
+ * components a change affects instead of re-reading the whole model.
+ *
+ * Events are delivered synchronously on the thread that made the change.
+ * Publishing to a bus with no subscribers does not create an event.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class ChangeBus {
+	/**
+	 * The subscribers of the bus.
+	 */
+	private CopyOnWriteArrayList<ChangeSubscriber> subscribers = new CopyOnWriteArrayList<ChangeSubscriber>();
+
+	/**
+	 * Constructs a new ChangeBus with no subscribers.
+	 */
+	public ChangeBus() {
+	}
+
+	/**
+	 * Adds a subscriber to the bus.
+	 *
+	 * @param subscriber the subscriber
+	 */
+	public void subscribe(ChangeSubscriber subscriber) {
+		subscribers.add(subscriber);
+	}
+
+	/**
+	 * Removes a subscriber from the bus.
+	 *
+	 * @param subscriber the subscriber
+	 */
+	public void unsubscribe(ChangeSubscriber subscriber) {
+		subscribers.remove(subscriber);
+	}
+
+	/**
+	 * Publishes a change to every subscriber.
+	 *
+	 * @param kind   the kind of change
+	 * @param source the object that changed
+	 */
+	public void publish(ChangeEvent.Kind kind, Object source) {
+		if (subscribers.isEmpty()) {
+			return;
+		}
+		ChangeEvent event = new ChangeEvent(kind, source);
+		for (ChangeSubscriber subscriber : subscribers) {
+			subscriber.changed(event);
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package main;
+
+/**
+ * The ChangeEvent class describes one change to the model of a game, published
+ * on a ChangeBus by the object that changed.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class ChangeEvent {
+	/**
+	 * The kinds of change to the model of a game.
+	 */
+	public enum Kind {
+		/**
+		 * The money of the player changed. The source is the GameManager.
+		 */
+		MONEY,
+
+		/**
+		 * The score of the player changed. The source is the GameManager.
+		 */
+		SCORE,
+
+		/**
+		 * The game moved on to a new week. The source is the GameManager.
+		 */
+		WEEK,
+
+		/**
+		 * The name or stats of an Athlete changed. The source is the Athlete.
+		 */
+		ATHLETE,
+
+		/**
+		 * The starting lineup of a Team changed. The source is the Team.
+		 */
+		LINEUP,
+
+		/**
+		 * The reserves of a Team changed. The source is the Team.
+		 */
+		RESERVES,
+
+		/**
+		 * The Items of a Team changed. The source is the Team.
+		 */
+		ITEMS,
+
+		/**
+		 * The Athletes or Items for sale in the Market, or the purchases made this
+		 * week, changed. The source is the Market.
+		 */
+		MARKET
+	}
+
+	/**
+	 * The kind of change.
+	 */
+	private Kind kind;
+
+	/**
+	 * The object that changed.
+	 */
+	private Object source;
+
+	/**
+	 * Constructs a new ChangeEvent.
+	 *
+	 * @param kind   the kind of change
+	 * @param source the object that changed
+	 */
+	public ChangeEvent(Kind kind, Object source) {
+		this.kind = kind;
+		this.source = source;
+	}
+
+	/**
+	 * Retrieves the kind of change.
+	 *
+	 * @return the kind
+	 */
+	public Kind getKind() {
+		return kind;
+	}
+
+	/**
+	 * Retrieves the object that changed.
+	 *
+	 * @return the source
+	 */
+	public Object getSource() {
+		return source;
+	}
+}
@@ -0,0 +1,18 @@
+package main;
+
+/**
+ * The ChangeSubscriber interface receives the ChangeEvents published on a
+ * ChangeBus.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public interface ChangeSubscriber {
+	/**
+	 * Called on the thread that made a change, right after the change.
+	 *
+	 * @param event the change
+	 */
+	void changed(ChangeEvent event);
+}
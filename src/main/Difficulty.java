@@ -0,0 +1,159 @@
+package main;
+
+/**
+ * The Difficulty enum lists the difficulty levels of the game. Each level
+ * carries tables of how much current stamina an Athlete loses in a match, and
+ * how much money and score a match pays, indexed by outcome: WIN, DRAW or
+ * LOSS. Matches look the values up directly instead of comparing names.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public enum Difficulty {
+	/**
+	 * The easy level: more starting money and less stamina lost per match.
+	 */
+	EASY("Easy", 5000, new int[] { -10, 0, -15 }, new int[] { 2000, 1000, 500 }, new int[] { 3, 1, 0 }),
+	/**
+	 * The hard level: less starting money and more stamina lost per match, but
+	 * double score for wins and draws and more money for losses.
+	 */
+	HARD("Hard", 3000, new int[] { -20, 0, -25 }, new int[] { 2000, 1000, 1000 }, new int[] { 6, 2, 0 });
+
+	/**
+	 * The index of a win, by an Athlete or a Team, in the tables.
+	 */
+	public static final int WIN = 0;
+
+	/**
+	 * The index of a draw in the tables.
+	 */
+	public static final int DRAW = 1;
+
+	/**
+	 * The index of a loss in the tables.
+	 */
+	public static final int LOSS = 2;
+
+	/**
+	 * The name of the level shown to the player.
+	 */
+	private final String displayName;
+
+	/**
+	 * The money the player starts with.
+	 */
+	private final int startingMoney;
+
+	/**
+	 * The change in current stamina of an Athlete after beating, drawing with or
+	 * losing to the Athlete in the same position, indexed by outcome.
+	 */
+	private final int[] staminaChanges;
+
+	/**
+	 * The money paid for a match, indexed by outcome.
+	 */
+	private final int[] payouts;
+
+	/**
+	 * The score awarded for a match, indexed by outcome.
+	 */
+	private final int[] scores;
+
+	/**
+	 * Constructs a difficulty level.
+	 * 
+	 * @param displayName    The name of the level shown to the player.
+	 * @param startingMoney  The money the player starts with.
+	 * @param staminaChanges The change in current stamina per Athlete, by
+	 *                       outcome.
+	 * @param payouts        The money paid per match, by outcome.
+	 * @param scores         The score awarded per match, by outcome.
+	 */
+	Difficulty(String displayName, int startingMoney, int[] staminaChanges, int[] payouts, int[] scores) {
+		this.displayName = displayName;
+		this.startingMoney = startingMoney;
+		this.staminaChanges = staminaChanges;
+		this.payouts = payouts;
+		this.scores = scores;
+	}
+
+	/**
+	 * Retrieves the money the player starts with.
+	 * 
+	 * @return The starting money.
+	 */
+	public int getStartingMoney() {
+		return startingMoney;
+	}
+
+	/**
+	 * Retrieves the change in current stamina of an Athlete after a match.
+	 * 
+	 * @param outcome WIN, DRAW or LOSS against the Athlete in the same position.
+	 * @return The change in current stamina.
+	 */
+	public int getStaminaChange(int outcome) {
+		return staminaChanges[outcome];
+	}
+
+	/**
+	 * Retrieves the money paid for a match.
+	 * 
+	 * @param outcome WIN, DRAW or LOSS.
+	 * @return The money paid.
+	 */
+	public int getPayout(int outcome) {
+		return payouts[outcome];
+	}
+
+	/**
+	 * Retrieves the score awarded for a match.
+	 * 
+	 * @param outcome WIN, DRAW or LOSS.
+	 * @return The score awarded.
+	 */
+	public int getScore(int outcome) {
+		return scores[outcome];
+	}
+
+	/**
+	 * Finds the outcome of a comparison between two ratings.
+	 * 
+	 * @param rating         The rating of the player's side.
+	 * @param opponentRating The rating of the opposing side.
+	 * @return WIN if the player's rating is higher, DRAW if they are equal, or
+	 *         LOSS if it is lower.
+	 */
+	public static int outcome(int rating, int opponentRating) {
+		return 1 - Integer.signum(Integer.compare(rating, opponentRating));
+	}
+
+	/**
+	 * Finds the difficulty level with the given name, ignoring case.
+	 * 
+	 * @param name The name of the level, such as "Easy" or "hard".
+	 * @return The difficulty level.
+	 * @throws IllegalArgumentException If there is no level with that name.
+	 */
+	public static Difficulty fromName(String name) {
+		for (Difficulty difficulty : values()) {
+			if (difficulty.displayName.equalsIgnoreCase(name)) {
+				return difficulty;
+			}
+		}
+		throw new IllegalArgumentException("Unknown difficulty: " + name);
+	}
+
+	/**
+	 * Returns the name of the level shown to the player.
+	 * 
+	 * @return The name of the level.
+	 */
+	@Override
+	public String toString() {
+		return displayName;
+	}
+}
@@ -0,0 +1,73 @@
+package main;
+
+/**
+ * The GameAction enum lists the actions that change the state of a game. Each
+ * action is recorded in the GameJournal with integer arguments identifying
+ * the Athletes, Items and Teams involved, so the action can be applied again
+ * to a copy of the game during recovery.
+ *
+ * Athletes in the player's Team are identified by POSITION ordinal for a
+ * starter, or by Athlete.NUM_POSITIONS plus their index in the reserves.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public enum GameAction {
+	/**
+	 * An Athlete bought from the Market: the index in the purchasable Athletes,
+	 * and 1 if the Athlete replaces the starter in its position or 0 if it joins
+	 * the reserves.
+	 */
+	BUY_ATHLETE,
+	/**
+	 * An Item bought from the Market: the index in the purchasable Items.
+	 */
+	BUY_ITEM,
+	/**
+	 * A reserve Athlete sold: the index in the reserves.
+	 */
+	SELL_ATHLETE,
+	/**
+	 * An Item sold: the index in the Team's Items.
+	 */
+	SELL_ITEM,
+	/**
+	 * A reserve Athlete swapped with the starter in its position: the index in
+	 * the reserves.
+	 */
+	MAKE_STARTER,
+	/**
+	 * An Item used on an Athlete: the index in the Team's Items, and the Athlete.
+	 */
+	USE_ITEM,
+	/**
+	 * An Athlete given a nickname: the Athlete, and the nickname as text.
+	 */
+	RENAME_ATHLETE,
+	/**
+	 * An Athlete trained during a bye: the Athlete.
+	 */
+	TRAIN_ATHLETE,
+	/**
+	 * A random event, which may or may not have happened.
+	 */
+	RANDOM_EVENT,
+	/**
+	 * A bye taken: the week moves on and the Team's stamina is restored.
+	 */
+	TAKE_BYE,
+	/**
+	 * The week moved on.
+	 */
+	INCREMENT_WEEK,
+	/**
+	 * A match played: the index of the opposing Team in the weekly Teams.
+	 */
+	PLAY_MATCH;
+
+	/**
+	 * The actions, indexed by ordinal.
+	 */
+	static final GameAction[] ACTIONS = values();
+}
@@ -0,0 +1,456 @@
+package main;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * The GameJournal class keeps a game durable by appending each action that
+ * changes it to a write-ahead journal, instead of saving the whole game after
+ * every change. Every CHECKPOINT_INTERVAL actions the journal is compacted:
+ * the whole game is saved to a checkpoint file and the journal starts again
+ * empty. Recovery loads the last checkpoint and applies the actions in the
+ * journal to it.
+ *
+ * Actions are appended to an in-memory batch on the calling thread and written
+ * by a background writer thread. The writer writes everything that was
+ * appended while it was busy in one write with one flush to disk, so a burst of
+ * actions costs a single disk flush. sync waits until every action appended so
+ * far is on disk.
+ *
+ * The checkpoint file holds a generation number followed by a GameSave. The
+ * journal starts with MAGIC, VERSION and the generation of the checkpoint it
+ * follows, then holds one entry per action:
+ *
+ * <pre>
+ * size  field
+ * 4     length of the body
+ * n     body: action ordinal (1), argument count (1), arguments (4 each),
+ *       text length (2, -1 for none) and UTF-8 text
+ * 4     CRC32 of the body
+ * </pre>
+ *
+ * A journal whose generation does not match the checkpoint is left over from
+ * before the checkpoint and is ignored. Recovery stops at the first entry that
+ * is cut short or fails its checksum, which is where a crash interrupted a
+ * write.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class GameJournal implements Closeable {
+	/**
+	 * The first four bytes of a journal file.
+	 */
+	public static final int MAGIC = 0x484D4A4C;
+
+	/**
+	 * The version of the journal format.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * The number of actions appended before the journal is compacted into a new
+	 * checkpoint.
+	 */
+	public static final int CHECKPOINT_INTERVAL = 256;
+
+	/**
+	 * The size of the journal header in bytes.
+	 */
+	private static final int HEADER_SIZE = 16;
+
+	/**
+	 * The initial size of the batches actions are appended to.
+	 */
+	private static final int BATCH_SIZE = 4096;
+
+	/**
+	 * The path of the checkpoint file.
+	 */
+	private Path checkpointPath;
+
+	/**
+	 * The channel of the journal file.
+	 */
+	private FileChannel channel;
+
+	/**
+	 * The generation of the last checkpoint written.
+	 */
+	private long generation;
+
+	/**
+	 * True once the first checkpoint has been written and actions can be
+	 * appended.
+	 */
+	private boolean started = false;
+
+	/**
+	 * The number of actions appended since the last checkpoint.
+	 */
+	private int sinceCheckpoint = 0;
+
+	/**
+	 * Guards the batches, counters and flags shared with the writer thread.
+	 */
+	private final Object lock = new Object();
+
+	/**
+	 * Guards the journal channel, so a checkpoint does not reset the journal
+	 * while the writer thread is writing to it.
+	 */
+	private final Object channelLock = new Object();
+
+	/**
+	 * The batch actions are appended to.
+	 */
+	private ByteBuffer batch = ByteBuffer.allocate(BATCH_SIZE).order(ByteOrder.BIG_ENDIAN);
+
+	/**
+	 * The batch being written by the writer thread.
+	 */
+	private ByteBuffer writing = ByteBuffer.allocate(BATCH_SIZE).order(ByteOrder.BIG_ENDIAN);
+
+	/**
+	 * The number of actions appended.
+	 */
+	private long appended = 0;
+
+	/**
+	 * The number of actions written and flushed to disk.
+	 */
+	private long durable = 0;
+
+	/**
+	 * True once the journal has been closed.
+	 */
+	private boolean closed = false;
+
+	/**
+	 * The error from a failed write, or null if no write has failed.
+	 */
+	private IOException error;
+
+	/**
+	 * Computes the checksums of entries.
+	 */
+	private CRC32 crc = new CRC32();
+
+	/**
+	 * The thread that writes batches to the journal.
+	 */
+	private Thread writer = new Thread(this::writeBatches, "journal");
+
+	/**
+	 * Opens a journal. Nothing is written until the first checkpoint, so an
+	 * existing checkpoint and journal can still be recovered until then.
+	 *
+	 * @param checkpointPath the path of the checkpoint file
+	 * @param journalPath    the path of the journal file
+	 * @throws IOException if the files cannot be opened
+	 */
+	public GameJournal(Path checkpointPath, Path journalPath) throws IOException {
+		this.checkpointPath = checkpointPath;
+		if (Files.exists(checkpointPath)) {
+			generation = readGeneration(checkpointPath);
+		}
+		channel = FileChannel.open(journalPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		writer.setDaemon(true);
+		writer.start();
+	}
+
+	/**
+	 * Appends an action to the journal. The action is written to disk by the
+	 * writer thread shortly after.
+	 *
+	 * @param action    the action
+	 * @param text      the text argument of the action, or null
+	 * @param arguments the integer arguments of the action
+	 * @throws IllegalStateException if no checkpoint has been written yet, or the
+	 *                               journal is closed
+	 */
+	public void append(GameAction action, String text, int... arguments) {
+		byte[] bytes = text == null ? null : text.getBytes(StandardCharsets.UTF_8);
+		int length = 2 + 4 * arguments.length + 2 + (bytes == null ? 0 : bytes.length);
+		synchronized (lock) {
+			if (!started || closed) {
+				throw new IllegalStateException("The journal is not open for appending");
+			}
+			reserve(4 + length + 4);
+			batch.putInt(length);
+			int start = batch.position();
+			batch.put((byte) action.ordinal());
+			batch.put((byte) arguments.length);
+			for (int argument : arguments) {
+				batch.putInt(argument);
+			}
+			if (bytes == null) {
+				batch.putShort((short) -1);
+			} else {
+				batch.putShort((short) bytes.length);
+				batch.put(bytes);
+			}
+			crc.reset();
+			crc.update(batch.array(), start, length);
+			batch.putInt((int) crc.getValue());
+			appended++;
+			sinceCheckpoint++;
+			lock.notifyAll();
+		}
+	}
+
+	/**
+	 * Checks if enough actions have been appended that the journal should be
+	 * compacted into a new checkpoint.
+	 *
+	 * @return true if a checkpoint is due, false otherwise
+	 */
+	public boolean needsCheckpoint() {
+		synchronized (lock) {
+			return sinceCheckpoint >= CHECKPOINT_INTERVAL;
+		}
+	}
+
+	/**
+	 * Waits until every action appended so far has been flushed to disk.
+	 *
+	 * @throws IOException if writing the journal failed
+	 */
+	public void sync() throws IOException {
+		synchronized (lock) {
+			long target = appended;
+			while (durable < target && error == null) {
+				try {
+					lock.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new IOException("Interrupted while waiting for the journal", e);
+				}
+			}
+			if (error != null) {
+				throw error;
+			}
+		}
+	}
+
+	/**
+	 * Saves the whole game to a new checkpoint and starts the journal again
+	 * empty. The checkpoint is written to a temporary file and moved over the
+	 * old one, so a crash at any point leaves either the old checkpoint and its
+	 * journal or the new checkpoint.
+	 *
+	 * @param manager the GameManager of the game
+	 * @throws IOException if the checkpoint or journal cannot be written
+	 */
+	public void checkpoint(GameManager manager) throws IOException {
+		sync();
+		long next = generation + 1;
+		Path tempPath = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+		try (FileChannel checkpoint = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer header = ByteBuffer.allocate(8).putLong(next);
+			header.flip();
+			while (header.hasRemaining()) {
+				checkpoint.write(header);
+			}
+			GameSave.save(manager, checkpoint);
+			checkpoint.force(false);
+		}
+		Files.move(tempPath, checkpointPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		synchronized (channelLock) {
+			channel.truncate(0);
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).putInt(MAGIC).putInt(VERSION).putLong(next);
+			header.flip();
+			channel.position(0);
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+			channel.force(false);
+		}
+		generation = next;
+		synchronized (lock) {
+			sinceCheckpoint = 0;
+			started = true;
+		}
+	}
+
+	/**
+	 * Writes any waiting actions, flushes them to disk and closes the journal.
+	 * Closing a journal again does nothing.
+	 *
+	 * @throws IOException if writing the journal failed
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			sync();
+		} finally {
+			synchronized (lock) {
+				closed = true;
+				lock.notifyAll();
+			}
+			try {
+				writer.join();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			channel.close();
+		}
+	}
+
+	/**
+	 * Recovers a game from its last checkpoint and the actions journaled after
+	 * it.
+	 *
+	 * @param checkpointPath the path of the checkpoint file
+	 * @param journalPath    the path of the journal file
+	 * @return the GameManager of the recovered game
+	 * @throws IOException if the checkpoint cannot be read
+	 */
+	public static GameManager recover(Path checkpointPath, Path journalPath) throws IOException {
+		GameManager manager;
+		long generation;
+		try (FileChannel checkpoint = FileChannel.open(checkpointPath, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(8);
+			while (header.hasRemaining()) {
+				if (checkpoint.read(header) < 0) {
+					throw new IllegalArgumentException("Not a checkpoint: " + checkpointPath);
+				}
+			}
+			generation = header.getLong(0);
+			manager = GameSave.load(checkpoint);
+		}
+		if (!Files.exists(journalPath)) {
+			return manager;
+		}
+		MappedByteBuffer journal;
+		try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+			journal = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		if (journal.capacity() < HEADER_SIZE || journal.getInt(0) != MAGIC || journal.getInt(4) != VERSION
+				|| journal.getLong(8) != generation) {
+			return manager;
+		}
+		CRC32 crc = new CRC32();
+		journal.position(HEADER_SIZE);
+		while (journal.remaining() >= 4) {
+			int length = journal.getInt();
+			if (length < 4 || journal.remaining() < length + 4) {
+				break;
+			}
+			int start = journal.position();
+			crc.reset();
+			crc.update(journal.slice(start, length));
+			if (journal.getInt(start + length) != (int) crc.getValue()) {
+				break;
+			}
+			GameAction action = GameAction.ACTIONS[journal.get()];
+			int[] arguments = new int[journal.get()];
+			for (int i = 0; i < arguments.length; i++) {
+				arguments[i] = journal.getInt();
+			}
+			String text = null;
+			int textLength = journal.getShort();
+			if (textLength >= 0) {
+				byte[] bytes = new byte[textLength];
+				journal.get(bytes);
+				text = new String(bytes, StandardCharsets.UTF_8);
+			}
+			manager.apply(action, text, arguments);
+			journal.position(start + length + 4);
+		}
+		return manager;
+	}
+
+	/**
+	 * Makes room in the batch for the given number of bytes, growing it if
+	 * needed. Called while holding the lock.
+	 *
+	 * @param bytes the number of bytes to make room for
+	 */
+	private void reserve(int bytes) {
+		if (batch.remaining() < bytes) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(batch.capacity() * 2, batch.position() + bytes))
+					.order(ByteOrder.BIG_ENDIAN);
+			batch.flip();
+			larger.put(batch);
+			batch = larger;
+		}
+	}
+
+	/**
+	 * Writes batches of actions to the journal until it is closed. Runs on the
+	 * writer thread.
+	 */
+	private void writeBatches() {
+		while (true) {
+			long target;
+			synchronized (lock) {
+				while (batch.position() == 0 && !closed) {
+					try {
+						lock.wait();
+					} catch (InterruptedException e) {
+						return;
+					}
+				}
+				if (batch.position() == 0) {
+					return;
+				}
+				ByteBuffer full = batch;
+				batch = writing;
+				writing = full;
+				target = appended;
+			}
+			try {
+				writing.flip();
+				synchronized (channelLock) {
+					while (writing.hasRemaining()) {
+						channel.write(writing);
+					}
+					channel.force(false);
+				}
+				writing.clear();
+				synchronized (lock) {
+					durable = target;
+					lock.notifyAll();
+				}
+			} catch (IOException e) {
+				synchronized (lock) {
+					error = e;
+					lock.notifyAll();
+				}
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Reads the generation of a checkpoint file.
+	 *
+	 * @param path the path of the checkpoint file
+	 * @return the generation
+	 * @throws IOException if the file cannot be read
+	 */
+	private static long readGeneration(Path path) throws IOException {
+		try (FileChannel checkpoint = FileChannel.open(path, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(8);
+			while (header.hasRemaining()) {
+				if (checkpoint.read(header) < 0) {
+					return 0;
+				}
+			}
+			return header.getLong(0);
+		}
+	}
+}
@@ -1,12 +1,18 @@
 package main;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
-
-import gui.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * This is the GameManager class which controls the logic for the game such as
- * opening/closing windows.
+ * This is the GameManager class which controls the logic for the game. The
+ * game moves between the states of GameState through command methods, and
+ * observers such as the GUI are notified of each change, so games can also be
+ * played without any screens.
  * 
  * @author Yunu Cho
  * @author Kush Desai
@@ -42,7 +48,7 @@ public class GameManager {
 	/**
 	 * The difficulty level of the game.
 	 */
-	private String difficulty;
+	private Difficulty difficulty;
 
 	/**
 	 * A flag indicating whether the game setup has been completed.
@@ -59,11 +65,67 @@ public class GameManager {
 	 */
 	private Team opposingTeam;
 
+	/**
+	 * The seed every random number generator in the game is split from.
+	 */
+	private long seed;
+
+	/**
+	 * The root random number generator, which independent streams are split
+	 * from for each part of the game.
+	 */
+	private SeededRandom rootRandom;
+
+	/**
+	 * The log every match played is recorded to, or null if matches are not
+	 * logged.
+	 */
+	private MatchReplayLog replayLog;
+
+	/**
+	 * The service the game is autosaved with, or null if autosaving is off.
+	 */
+	private AutosaveService autosave;
+
+	/**
+	 * The journal every action that changes the game is appended to, or null if
+	 * actions are not journaled.
+	 */
+	private GameJournal journal;
+
 	/**
 	 * The random Object generator used in the game.
 	 */
 	private GenerateRandom random;
 
+	/**
+	 * The threads the next week of every game is generated on.
+	 */
+	private static final ExecutorService WEEK_GENERATOR = Executors
+			.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), task -> {
+				Thread thread = new Thread(task, "week-generator");
+				thread.setDaemon(true);
+				return thread;
+			});
+
+	/**
+	 * The next week, generated in the background from a generator split off
+	 * random as soon as the current week begins.
+	 */
+	private CompletableFuture<PregeneratedWeek> upcomingWeek;
+
+	/**
+	 * The executor the next week is generated on, WEEK_GENERATOR unless the game
+	 * was constructed with another one.
+	 */
+	private Executor weekGenerator = WEEK_GENERATOR;
+
+	/**
+	 * The seed the next week is generated from, saved so a loaded game generates
+	 * the same next week.
+	 */
+	private long upcomingWeekSeed;
+
 	/**
 	 * The Market in the game.
 	 */
@@ -75,19 +137,141 @@ public class GameManager {
 	private int finalScore = 0;
 
 	/**
-	 * The next screen to navigate to in the game.
+	 * The state the game is in.
+	 */
+	private GameState state = GameState.START;
+
+	/**
+	 * The observers notified as the game changes state.
+	 */
+	private ArrayList<GameObserver> observers = new ArrayList<GameObserver>();
+
+	/**
+	 * The runner matches, week advancement and random events are simulated
+	 * with.
+	 */
+	private SimulationRunner runner = SimulationRunner.DIRECT;
+
+	/**
+	 * The bus the changes to the game's money, score, week, Team, Athletes and
+	 * Market are published on.
 	 */
-	GOTOSCREEN screen;
+	private ChangeBus bus = new ChangeBus();
     
 	/**
-	 * Constructor for game manager
+	 * Constructor for game manager with a random seed
 	 */
 	public GameManager() {
-		random = new GenerateRandom();
-		market = new Market(random);
+		this(new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Constructor for game manager with the given seed. Games with the same seed
+	 * generate the same Athletes, Items, Teams and random events.
+	 * 
+	 * @param seed The seed for the random number generators of the game.
+	 */
+	public GameManager(long seed) {
+		this(seed, WEEK_GENERATOR);
+	}
+
+	/**
+	 * Constructor for game manager with the given seed, generating the next week
+	 * on the given executor. Passing {@code Runnable::run} generates each week
+	 * on the thread that begins the week before it, which is useful when the
+	 * work of a whole game has to be measured on one thread.
+	 * 
+	 * @param seed          The seed for the random number generators of the game.
+	 * @param weekGenerator The executor the next week is generated on.
+	 */
+	public GameManager(long seed, Executor weekGenerator) {
+		this(seed, seed);
+		this.weekGenerator = weekGenerator;
 		market.setPurchasableAthletes();
 		market.setPurchasableItems();
 		generateRandomTeams();
+		prepareNextWeek();
+	}
+
+	/**
+	 * Constructor for game manager with an empty Market and no weekly Teams, used
+	 * when loading a saved game.
+	 * 
+	 * @param seed        The seed of the game.
+	 * @param randomState The seed the root random number generator starts from.
+	 */
+	private GameManager(long seed, long randomState) {
+		this.seed = seed;
+		rootRandom = new SeededRandom(randomState);
+		random = new GenerateRandom(rootRandom.split());
+		market = new Market(random);
+		market.setChangeBus(bus);
+		team.setChangeBus(bus);
+	}
+
+	/**
+	 * Writes the state of the game to a save. The states of the random number
+	 * generators and the seed of the next week are saved as they are, so writing
+	 * does not change the game, and the game continues the same way whether or
+	 * not it is loaded from the save.
+	 * 
+	 * @param save The save to write to.
+	 * @throws IOException If the save cannot be written.
+	 */
+	void write(GameSave save) throws IOException {
+		save.putLong(seed);
+		save.putLong(rootRandom.getState());
+		save.putInt(money);
+		save.putString(teamName);
+		save.putInt(numWeeks);
+		save.putInt(currentWeek);
+		save.putByte(difficulty == null ? -1 : difficulty.ordinal());
+		save.putByte(isSetup ? 1 : 0);
+		save.putInt(finalScore);
+		random.write(save);
+		market.write(save);
+		save.putTeam(team);
+		save.putInt(weeklyTeams.size());
+		for (Team weeklyTeam : weeklyTeams) {
+			save.putTeam(weeklyTeam);
+		}
+		save.putInt(weeklyTeams.indexOf(opposingTeam));
+		save.putLong(upcomingWeekSeed);
+	}
+
+	/**
+	 * Reads the state of a game from a save written by write.
+	 * 
+	 * @param save The save to read from.
+	 * @return The GameManager of the saved game.
+	 * @throws IOException If the save cannot be read.
+	 */
+	static GameManager read(GameSave save) throws IOException {
+		GameManager manager = new GameManager(save.getLong(), save.getLong());
+		manager.money = save.getInt();
+		manager.teamName = save.getString();
+		manager.numWeeks = save.getInt();
+		manager.currentWeek = save.getInt();
+		int difficulty = save.getByte();
+		manager.difficulty = difficulty < 0 ? null : Difficulty.values()[difficulty];
+		manager.isSetup = save.getByte() != 0;
+		manager.finalScore = save.getInt();
+		manager.random.read(save);
+		manager.market.read(save);
+		manager.team = save.getTeam();
+		manager.team.setChangeBus(manager.bus);
+		int size = save.getInt();
+		manager.weeklyTeams = new ArrayList<Team>(size);
+		for (int i = 0; i < size; i++) {
+			manager.weeklyTeams.add(save.getTeam());
+		}
+		int opponent = save.getInt();
+		if (opponent >= 0) {
+			manager.opposingTeam = manager.weeklyTeams.get(opponent);
+		}
+		manager.upcomingWeekSeed = save.getLong();
+		manager.generateUpcomingWeek();
+		return manager;
 	}
 
 	/**
@@ -153,6 +337,7 @@ public class GameManager {
 		if (money < 0) {
 			money = 0;
 		}
+		bus.publish(ChangeEvent.Kind.MONEY, this);
 	}
 
 	/**
@@ -164,6 +349,145 @@ public class GameManager {
 		this.teamName = teamName;
 	}
 
+	/**
+	 * Retrieves the seed of the game.
+	 * 
+	 * @return The seed.
+	 */
+	public long getSeed() {
+		return seed;
+	}
+
+	/**
+	 * Sets the log every match played is recorded to.
+	 * 
+	 * @param replayLog The replay log, or null to stop logging matches.
+	 */
+	public void setReplayLog(MatchReplayLog replayLog) {
+		this.replayLog = replayLog;
+	}
+
+	/**
+	 * Sets the service the game is autosaved with after shopping and after each
+	 * match.
+	 * 
+	 * @param autosave The autosave service, or null to stop autosaving.
+	 */
+	public void setAutosave(AutosaveService autosave) {
+		this.autosave = autosave;
+	}
+
+	/**
+	 * Sets the journal every action that changes the game is appended to. No
+	 * actions are appended until the journal has its first checkpoint.
+	 * 
+	 * @param journal The journal, or null to stop journaling.
+	 */
+	public void setJournal(GameJournal journal) {
+		this.journal = journal;
+	}
+
+	/**
+	 * Checks whether the game has been set up, which is once its Team name,
+	 * difficulty and season length have been chosen.
+	 * 
+	 * @return true if the game has been set up, false otherwise.
+	 */
+	public boolean isSetup() {
+		return isSetup;
+	}
+
+	/**
+	 * Retrieves the state the game is in.
+	 * 
+	 * @return The state.
+	 */
+	public GameState getState() {
+		return state;
+	}
+
+	/**
+	 * Adds an observer to be notified as the game changes state.
+	 * 
+	 * @param observer The observer.
+	 */
+	public void addObserver(GameObserver observer) {
+		observers.add(observer);
+	}
+
+	/**
+	 * Removes an observer.
+	 * 
+	 * @param observer The observer.
+	 */
+	public void removeObserver(GameObserver observer) {
+		observers.remove(observer);
+	}
+
+	/**
+	 * Sets the runner matches, week advancement and random events are simulated
+	 * with.
+	 * 
+	 * @param runner The runner, such as SimulationRunner.DIRECT.
+	 */
+	public void setRunner(SimulationRunner runner) {
+		this.runner = runner;
+	}
+
+	/**
+	 * Appends an action to the journal if one is set, and compacts the journal
+	 * into a new checkpoint when one is due. Called after the action has been
+	 * applied.
+	 * 
+	 * @param action    The action.
+	 * @param text      The text argument of the action, or null.
+	 * @param arguments The integer arguments of the action.
+	 * @throws UncheckedIOException If the checkpoint cannot be written.
+	 */
+	private void journal(GameAction action, String text, int... arguments) {
+		if (journal == null) {
+			return;
+		}
+		journal.append(action, text, arguments);
+		if (journal.needsCheckpoint()) {
+			checkpoint();
+		}
+	}
+
+	/**
+	 * Saves the whole game to a new journal checkpoint if a journal is set.
+	 * 
+	 * @throws UncheckedIOException If the checkpoint cannot be written.
+	 */
+	private void checkpoint() {
+		if (journal != null) {
+			try {
+				journal.checkpoint(this);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+	}
+
+	/**
+	 * Autosaves the game if an autosave service is set.
+	 */
+	private void autosave() {
+		if (autosave != null) {
+			autosave.autosave(this);
+		}
+	}
+
+	/**
+	 * Splits an independent random number generator off the root generator of
+	 * the game, for a subsystem or worker that needs its own stream.
+	 * 
+	 * @return The new random number generator.
+	 */
+	public SplittableRandom splitRandom() {
+		return new SplittableRandom(rootRandom.nextLong());
+	}
+
 	/**
 	 * Retrieves the current week.
 	 * 
@@ -185,12 +509,53 @@ public class GameManager {
 	 * accordingly.
 	 */
 	public void incrementWeek() {
+		nextWeek();
+		journal(GameAction.INCREMENT_WEEK, null);
+	}
+
+	/**
+	 * Moves on to the next week and restores the stamina of the Team, as when the
+	 * player takes a bye instead of playing.
+	 */
+	public void takeBye() {
+		nextWeek();
+		team.restoreStamina();
+		journal(GameAction.TAKE_BYE, null);
+	}
+
+	/**
+	 * Increments the current week and swaps in the Market and random Teams
+	 * generated in the background, without journaling. Waits if they are still
+	 * being generated.
+	 */
+	private void nextWeek() {
+		PregeneratedWeek week = upcomingWeek.join();
 		currentWeek += 1;
-		market.setPurchasableAthletes();
-		market.setPurchasableItems();
+		market.setPurchasableAthletes(week.getAthletes());
+		market.setPurchasableItems(week.getItems());
 		market.clearWeeklyPurchases();
 		random.incrementMultiplier();
-		generateRandomTeams();
+		weeklyTeams = week.getTeams();
+		prepareNextWeek();
+		bus.publish(ChangeEvent.Kind.WEEK, this);
+	}
+
+	/**
+	 * Starts generating the week after the current one in the background. Its
+	 * seed is drawn from random here, on the game's thread, so the next week
+	 * depends only on the state of the game when the current week began.
+	 */
+	private void prepareNextWeek() {
+		upcomingWeekSeed = random.nextSeed();
+		generateUpcomingWeek();
+	}
+
+	/**
+	 * Generates the next week from upcomingWeekSeed on weekGenerator.
+	 */
+	private void generateUpcomingWeek() {
+		GenerateRandom generator = random.split(upcomingWeekSeed);
+		upcomingWeek = CompletableFuture.supplyAsync(() -> PregeneratedWeek.generate(generator), weekGenerator);
 	}
 
 	/**
@@ -211,6 +576,15 @@ public class GameManager {
 		this.numWeeks = numWeeks;
 	}
 
+	/**
+	 * Retrieves the bus the changes to the game are published on.
+	 * 
+	 * @return The ChangeBus of the game.
+	 */
+	public ChangeBus getChangeBus() {
+		return bus;
+	}
+
 	/**
 	 * Retrieves the player's Team.
 	 * 
@@ -225,7 +599,7 @@ public class GameManager {
 	 * 
 	 * @return The game difficulty.
 	 */
-	public String getDifficulty() {
+	public Difficulty getDifficulty() {
 		return difficulty;
 	}
 
@@ -234,7 +608,7 @@ public class GameManager {
 	 * 
 	 * @param difficulty The game difficulty to set.
 	 */
-	public void setDifficulty(String difficulty) {
+	public void setDifficulty(Difficulty difficulty) {
 		this.difficulty = difficulty;
 	}
 
@@ -275,309 +649,439 @@ public class GameManager {
 	}
 
 	/**
-	 * Launches the start screen.
+	 * Moves the game to a new state and notifies every observer.
+	 * 
+	 * @param next The new state.
+	 */
+	private void setState(GameState next) {
+		GameState previous = state;
+		state = next;
+		for (GameObserver observer : new ArrayList<GameObserver>(observers)) {
+			observer.stateChanged(previous, next);
+		}
+	}
+
+	/**
+	 * Moves the game to the main state, or to the game over state if the season
+	 * has ended.
+	 */
+	public void returnToMain() {
+		setState(currentWeek < numWeeks ? GameState.MAIN : GameState.GAME_OVER);
+	}
+
+	/**
+	 * Ends the game, closing the autosave service and journal, and moves the game
+	 * to the quit state.
+	 */
+	public void quit() {
+		if (autosave != null) {
+			autosave.close();
+		}
+		if (journal != null) {
+			try {
+				journal.close();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		setState(GameState.QUIT);
+	}
+
+	/**
+	 * Moves the game to the start state.
 	 */
 	public void launchStartScreen() {
-		StartScreen startWindow = new StartScreen(this);
+		setState(GameState.START);
 	}
 
 	/**
-	 * Closes the start screen and launches the game setup screen or main screen.
-	 * 
-	 * @param startWindow The start screen to close.
+	 * Leaves the start state, moving on to setting up the game the first time
+	 * and to the main state after that.
 	 */
-	public void closeStartScreen(StartScreen startWindow) {
-		startWindow.closeWindow();
+	public void start() {
 		if (!isSetup) {
 			isSetup = true;
-			launchGameSetupScreen();
+			setState(GameState.SETUP);
 		} else {
-			launchMainScreen();
+			returnToMain();
 		}
 	}
 
 	/**
-	 * Launches the game setup screen.
+	 * Finishes setting up the game once its Team name, difficulty and season
+	 * length are set: sets the starting money, generates the starting Athletes
+	 * and moves on to choosing them.
 	 */
-	public void launchGameSetupScreen() {
-		SetupScreen gameSetupWindow = new SetupScreen(this);
+	public void finishGameSetup() {
+		setStartingMoney();
+		generateStarterAthletes();
+		setState(GameState.TEAM_SETUP);
 	}
 
 	/**
-	 * Closes the game setup screen and launches the team setup screen.
-	 * 
-	 * @param gameSetupWindow The game setup screen to close.
+	 * Sets the starting money of the game based on the difficulty.
 	 */
-	public void closeGameSetupScreen(SetupScreen gameSetupWindow) {
-		if (difficulty.equals("Easy")) {
-			money = 5000;
-		} else {
-			money = 3000;
-		}
-		gameSetupWindow.closeWindow();
-		launchTeamSetupScreen();
+	void setStartingMoney() {
+		money = difficulty.getStartingMoney();
+		bus.publish(ChangeEvent.Kind.MONEY, this);
 	}
 
 	/**
-	 * Launches the team setup screen after generating random starting Athletes
+	 * Generates the random starting Athletes offered to the player, one for each
+	 * position and one extra.
 	 */
-	public void launchTeamSetupScreen() {
+	void generateStarterAthletes() {
 		market.getStarterAthletes().add(random.generateAthlete(0));
 		market.getStarterAthletes().add(random.generateAthlete(1));
 		market.getStarterAthletes().add(random.generateAthlete(2));
 		market.getStarterAthletes().add(random.generateAthlete(3));
 		market.getStarterAthletes().add(random.generateAthlete(4));
 		market.getStarterAthletes().add(random.generateAthlete(random.getRandomNumber(5)));
-		TeamSetupScreen teamSetupWindow = new TeamSetupScreen(this);
 	}
 
 	/**
-	 * Closes the team setup screen and launches the main screen.
-	 * 
-	 * @param teamSetupWindow The team setup screen to close.
+	 * Finishes choosing the starting Athletes, checkpoints the journal and moves
+	 * on to the main state.
 	 */
-	public void closeTeamSetupScreen(TeamSetupScreen teamSetupWindow) {
-		teamSetupWindow.closeWindow();
+	public void finishTeamSetup() {
 		team.getReserves().clear();
-		launchMainScreen();
+		checkpoint();
+		returnToMain();
 	}
 
 	/**
-	 * Launches the main screen.
-	 */
-	public void launchMainScreen() {
-		if (currentWeek < numWeeks) {
-			MainScreen mainWindow = new MainScreen(this);
-		} else {
-			launchGameOverScreen();
-		}
-	}
-
-	/**
-	 * Closes the main screen and navigates to the specified screen.
+	 * Leaves the main state for the given state.
 	 * 
-	 * @param mainWindow The main screen to close.
-	 * @param toScreen   The screen to navigate to.
+	 * @param toScreen The state to move to. MAIN returns to the start.
 	 */
-	public void closeMainScreen(MainScreen mainWindow, GOTOSCREEN toScreen) {
-		this.screen = toScreen;
-
-		switch (screen) {
-
+	public void goTo(GOTOSCREEN toScreen) {
+		switch (toScreen) {
 		case START:
-			mainWindow.closeWindow();
+		case MAIN:
 			launchStartScreen();
 			break;
-
 		case SHOP:
-			mainWindow.closeWindow();
-			launchShopScreen();
+			setState(GameState.SHOP);
 			break;
-
 		case STADIUM:
-			mainWindow.closeWindow();
-			launchStadiumScreen();
+			enterStadium();
 			break;
-
 		case TEAM:
-			mainWindow.closeWindow();
-			launchTeamScreen();
+			setState(GameState.TEAM);
 			break;
-
 		case QUIT:
-			mainWindow.closeWindow();
+			quit();
 			break;
-
-		case MAIN:
-			mainWindow.closeWindow();
-			launchStartScreen();
-
 		default:
 			break;
 		}
 	}
 
 	/**
-	 * Launches the shop screen.
+	 * Leaves the Market, autosaving the game, and moves on to the main state.
 	 */
-	public void launchShopScreen() {
-		ShopScreen shopWindow = new ShopScreen(this);
+	public void leaveShop() {
+		autosave();
+		returnToMain();
 	}
 
 	/**
-	 * Closes the shop screen and launches the main screen.
-	 * 
-	 * @param shopWindow The shop screen to close.
+	 * Moves the game to the stadium state.
+	 */
+	public void enterStadium() {
+		setState(GameState.STADIUM);
+	}
+
+	/**
+	 * Moves the game to choosing the opposing Team of a match.
 	 */
-	public void closeShopScreen(ShopScreen shopWindow) {
-		shopWindow.closeWindow();
-		launchMainScreen();
+	public void selectOpponent() {
+		setState(GameState.OPPONENT_SELECTOR);
 	}
 
 	/**
-	 * Launches the team screen.
+	 * Plays the match against the opposing Team with the simulation runner, then
+	 * moves on to the match state.
+	 * 
+	 * @throws NullPointerException if no opposing Team has been selected.
 	 */
-	public void launchTeamScreen() {
-		TeamScreen teamWindow = new TeamScreen(this);
+	public void startMatch() {
+		Objects.requireNonNull(opposingTeam);
+		runner.run("Playing match...", this::playMatch, winner -> setState(GameState.MATCH));
 	}
 
 	/**
-	 * Closes the team screen and launches the main screen.
+	 * Plays the match against the opposing Team and updates points, and money
+	 * according to match results. If a replay log is set, the match is recorded
+	 * to it: the lineups are written before the match changes their stamina, and
+	 * the result after. If the match fails, its record is dropped.
 	 * 
-	 * @param teamWindow The team screen to close.
+	 * @return The result of the match: "player", "draw" or "opponent".
+	 * @throws UncheckedIOException if the match cannot be recorded.
+	 */
+	public String playMatch() {
+		if (replayLog != null) {
+			try {
+				replayLog.begin(seed, team, opposingTeam, difficulty);
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		Gameplay gamePlay;
+		try {
+			gamePlay = new Gameplay(team, opposingTeam, difficulty);
+			gamePlay.play();
+			if (replayLog != null) {
+				replayLog.finish(gamePlay);
+			}
+		} finally {
+			if (replayLog != null) {
+				replayLog.abort();
+			}
+		}
+		int outcome = gamePlay.getOutcome();
+		finalScore += difficulty.getScore(outcome);
+		money += difficulty.getPayout(outcome);
+		bus.publish(ChangeEvent.Kind.SCORE, this);
+		bus.publish(ChangeEvent.Kind.MONEY, this);
+		journal(GameAction.PLAY_MATCH, null, weeklyTeams.indexOf(opposingTeam));
+		return gamePlay.declareWinner();
+	}
+
+	/**
+	 * Finishes the match, advancing and autosaving the week with the simulation
+	 * runner, then moves on to the main state.
 	 */
-	public void closeTeamScreen(TeamScreen teamWindow) {
-		teamWindow.closeWindow();
-		launchMainScreen();
+	public void finishMatch() {
+		runner.run("Advancing to the next week...", () -> {
+			incrementWeek();
+			autosave();
+			return null;
+		}, done -> returnToMain());
 	}
 
 	/**
-	 * Launches the stadium screen.
+	 * Takes a bye and applies a random event with the simulation runner, then
+	 * moves on to training an Athlete and notifies the observers of the event if
+	 * one happened.
 	 */
-	public void launchStadiumScreen() {
-		StadiumScreen stadiumWindow = new StadiumScreen(this);
+	public void bye() {
+		runner.run("Taking a bye...", () -> {
+			takeBye();
+			return applyRandomEvent();
+		}, message -> {
+			setState(GameState.TRAINING);
+			if (message != null) {
+				for (GameObserver observer : new ArrayList<GameObserver>(observers)) {
+					observer.eventOccurred(message);
+				}
+			}
+		});
 	}
 
 	/**
-	 * Closes the stadium screen.
+	 * Retrieves the final score.
 	 * 
-	 * @param stadiumWindow The stadium screen to close.
+	 * @return The final score.
 	 */
-	public void closeStadiumScreen(StadiumScreen stadiumWindow) {
-		stadiumWindow.closeWindow();
+	public int getScore() {
+		return finalScore;
 	}
 
 	/**
-	 * Launches the opponent selector screen.
+	 * Applies a random event to the Team, which may or may not happen.
+	 * 
+	 * @return A message describing the event, or null if no event happened.
 	 */
-	public void LaunchOpponentSelectorScreen() {
-		OpponentSelectorScreen opponentSelectorWindow = new OpponentSelectorScreen(this);
+	public String applyRandomEvent() {
+		RandomEvent randomEvent = new RandomEvent(team, splitRandom());
+		int chanceOfEvent = randomEvent.generateRandomNumber();
+		String message = randomEvent.generateEvent(randomEvent.generateRandom(), chanceOfEvent);
+		journal(GameAction.RANDOM_EVENT, null);
+		return message;
 	}
 
 	/**
-	 * Closes the opponent selector screen.
+	 * Trains an Athlete, increasing its offence, defence, stamina and agility by
+	 * 10.
 	 * 
-	 * @param opponentSelectorWindow The opponent selector screen to close.
+	 * @param athlete The Athlete to train.
 	 */
-	public void closeOpponentSelectorScreen(OpponentSelectorScreen opponentSelectorWindow) {
-		opponentSelectorWindow.closeWindow();
+	public void trainAthlete(Athlete athlete) {
+		athlete.changeStat(10, Athlete.STATS.O);
+		athlete.changeStat(10, Athlete.STATS.D);
+		athlete.changeStat(10, Athlete.STATS.S);
+		athlete.changeStat(10, Athlete.STATS.A);
+		journal(GameAction.TRAIN_ATHLETE, null, athleteIndex(athlete));
 	}
 
 	/**
-	 * Launches the game screen and updates points, and money according to match
-	 * results
+	 * Buys an Athlete from the Market, adding it to the reserves or swapping it
+	 * in for the starter in its position.
+	 * 
+	 * @param athlete The Athlete to buy.
+	 * @param starter True to make the Athlete a starter, false to add it to the
+	 *                reserves.
 	 */
-	public void launchGameScreen() {
-		Gameplay gamePlay = new Gameplay(team, opposingTeam, difficulty);
-		gamePlay.play();
-		String result = gamePlay.declareWinner();
-		switch (result) {
-		case "player":
-			finalScore += 3;
-			money += 2000;
-			if (difficulty.equals("hard")) {
-				finalScore += 3;
-			}
-			break;
-		case "draw":
-			finalScore += 1;
-			money += 1000;
-			if (difficulty.equals("hard")) {
-				finalScore += 1;
-			}
-			break;
-		case "opponent":
-			money += 500;
-			if (difficulty.equals("hard")) {
-				money += 500;
-			}
-			break;
+	public void buyAthlete(Athlete athlete, boolean starter) {
+		team.buyPlayer(athlete);
+		if (starter) {
+			team.replacePlayer(athlete, team.starter(athlete.getPosition()));
 		}
-		GameScreen gameWindow = new GameScreen(this);
+		changeMoney(-athlete.getPrice());
+		market.addWeeklyPurchasedAthletes(athlete);
+		journal(GameAction.BUY_ATHLETE, null, market.getPurchasableAthletes().indexOf(athlete), starter ? 1 : 0);
 	}
 
 	/**
-	 * Closes the game screen and launches the main screen.
+	 * Buys an Item from the Market.
 	 * 
-	 * @param gameWindow The game screen to close.
+	 * @param item The Item to buy.
 	 */
-	public void closeGameScreen(GameScreen gameWindow) {
-		gameWindow.closeWindow();
-		incrementWeek();
-		launchMainScreen();
+	public void buyItem(Item item) {
+		team.buyConsumable(item);
+		changeMoney(-item.getPrice());
+		market.addWeeklyPurchasedItems(item);
+		journal(GameAction.BUY_ITEM, null, market.getPurchasableItems().indexOf(item));
 	}
 
 	/**
-	 * Retrieves the final score.
+	 * Sells a reserve Athlete for three quarters of its price.
 	 * 
-	 * @return The final score.
+	 * @param athlete The reserve Athlete to sell.
 	 */
-	public int getScore() {
-		return finalScore;
+	public void sellAthlete(Athlete athlete) {
+		int index = team.getReserves().indexOf(athlete);
+		team.sellPlayer(athlete);
+		changeMoney(athlete.getPrice() * 3 / 4);
+		journal(GameAction.SELL_ATHLETE, null, index);
 	}
 
 	/**
-	 * Launches the game over screen.
+	 * Sells an Item for three quarters of its price.
+	 * 
+	 * @param item The Item to sell.
 	 */
-	public void launchGameOverScreen() {
-		GameOverScreen gameOverWindow = new GameOverScreen(this);
+	public void sellItem(Item item) {
+		int index = team.getItems().indexOf(item);
+		team.removeItem(item);
+		changeMoney(item.getPrice() * 3 / 4);
+		journal(GameAction.SELL_ITEM, null, index);
 	}
 
 	/**
-	 * Closes the game over screen and launches the start screen.
+	 * Swaps a reserve Athlete with the starter in its position.
 	 * 
-	 * @param gameOverWindow The game over screen to close.
+	 * @param athlete The reserve Athlete to make a starter.
 	 */
-	public void closeGameOverScreen(GameOverScreen gameOverWindow) {
-		gameOverWindow.closeWindow();
-		System.exit(0);
+	public void makeStarter(Athlete athlete) {
+		int index = team.getReserves().indexOf(athlete);
+		team.replacePlayer(athlete, team.starter(athlete.getPosition()));
+		journal(GameAction.MAKE_STARTER, null, index);
 	}
 
 	/**
-	 * Closes the train athlete screen and launches the main screen.
+	 * Uses an Item on an Athlete, removing the Item from the Team.
 	 * 
-	 * @param trainAthleteScreen The train athlete screen to close.
+	 * @param item    The Item to use.
+	 * @param athlete The Athlete to use it on.
 	 */
-	public void closeTrainAthleteScreen(TrainAthleteScreen trainAthleteScreen) {
-		trainAthleteScreen.closeWindow();
-		launchMainScreen();
+	public void useItem(Item item, Athlete athlete) {
+		int index = team.getItems().indexOf(item);
+		item.consume(athlete);
+		team.removeItem(item);
+		journal(GameAction.USE_ITEM, null, index, athleteIndex(athlete));
 	}
 
 	/**
-	 * Launches the train athlete screen.
+	 * Gives an Athlete a nickname.
+	 * 
+	 * @param athlete  The Athlete to rename.
+	 * @param nickname The nickname.
 	 */
-	public void launchTrainAthleteScreen() {
-		TrainAthleteScreen trainAthleteWindow = new TrainAthleteScreen(this);
+	public void renameAthlete(Athlete athlete, String nickname) {
+		athlete.setNickname(nickname);
+		journal(GameAction.RENAME_ATHLETE, nickname, athleteIndex(athlete));
 	}
 
 	/**
-	 * Launches a dialogue box to provide information about random events.
+	 * Identifies an Athlete in the player's Team for the journal.
 	 * 
-	 * @param message A String message to display in the dialogue box
+	 * @param athlete The Athlete.
+	 * @return The POSITION ordinal if the Athlete is a starter, Athlete.NUM_POSITIONS
+	 *         plus its index in the reserves if it is a reserve, or -1 if it is
+	 *         not in the Team.
 	 */
-	public void launchDialogueBox(String message) {
-		DialogueBox dialogueBox = new DialogueBox(this, message);
+	private int athleteIndex(Athlete athlete) {
+		if (team.starter(athlete.getPosition()) == athlete) {
+			return athlete.getPosition().ordinal();
+		}
+		int index = team.getReserves().indexOf(athlete);
+		return index < 0 ? -1 : Athlete.NUM_POSITIONS + index;
 	}
 
 	/**
-	 * Launches a random event
+	 * Finds an Athlete in the player's Team identified by athleteIndex.
+	 * 
+	 * @param index The index from athleteIndex.
+	 * @return The Athlete.
+	 * @throws IndexOutOfBoundsException If there is no Athlete at the index.
 	 */
-	public void launchRandomEvent() {
-		RandomEvent randomEvent = new RandomEvent(team);
-		int chanceOfEvent = randomEvent.generateRandomNumber();
-		String message = randomEvent.generateEvent(randomEvent.generateRandom(), chanceOfEvent);
-		if (message instanceof String) {
-			launchDialogueBox(message);
+	Athlete athleteAt(int index) {
+		if (index < Athlete.NUM_POSITIONS) {
+			return team.starter(Athlete.POSITIONS[index]);
 		}
+		return team.getReserves().get(index - Athlete.NUM_POSITIONS);
 	}
 
 	/**
-	 * Launches the application
-	 * @param args command line args (not needed)
+	 * Applies a journaled action again, used when recovering a game from its
+	 * journal.
+	 * 
+	 * @param action    The action.
+	 * @param text      The text argument of the action, or null.
+	 * @param arguments The integer arguments of the action.
 	 */
-	public static void main(String args[]) {
-		GameManager manager = new GameManager();
-		manager.launchStartScreen();
+	void apply(GameAction action, String text, int[] arguments) {
+		switch (action) {
+		case BUY_ATHLETE:
+			buyAthlete(market.getPurchasableAthletes().get(arguments[0]), arguments[1] != 0);
+			break;
+		case BUY_ITEM:
+			buyItem(market.getPurchasableItems().get(arguments[0]));
+			break;
+		case SELL_ATHLETE:
+			sellAthlete(team.getReserves().get(arguments[0]));
+			break;
+		case SELL_ITEM:
+			sellItem(team.getItems().get(arguments[0]));
+			break;
+		case MAKE_STARTER:
+			makeStarter(team.getReserves().get(arguments[0]));
+			break;
+		case USE_ITEM:
+			useItem(team.getItems().get(arguments[0]), athleteAt(arguments[1]));
+			break;
+		case RENAME_ATHLETE:
+			renameAthlete(athleteAt(arguments[0]), text);
+			break;
+		case TRAIN_ATHLETE:
+			trainAthlete(athleteAt(arguments[0]));
+			break;
+		case RANDOM_EVENT:
+			applyRandomEvent();
+			break;
+		case TAKE_BYE:
+			takeBye();
+			break;
+		case INCREMENT_WEEK:
+			incrementWeek();
+			break;
+		case PLAY_MATCH:
+			opposingTeam = weeklyTeams.get(arguments[0]);
+			playMatch();
+			break;
+		}
 	}
 
 }
@@ -0,0 +1,29 @@
+package main;
+
+/**
+ * The GameObserver interface is notified as a GameManager moves between
+ * states and as random events happen, so a GUI can follow a game without the
+ * game knowing about any screens.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public interface GameObserver {
+	/**
+	 * Called after the game moves to a new state, or is asked to show its
+	 * current state again.
+	 *
+	 * @param previous the state the game was in
+	 * @param state    the state the game is in now
+	 */
+	void stateChanged(GameState previous, GameState state);
+
+	/**
+	 * Called after a random event happens to the player's Team.
+	 *
+	 * @param message the message describing the event
+	 */
+	default void eventOccurred(String message) {
+	}
+}
@@ -0,0 +1,478 @@
+package main;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+
+/**
+ * The GameSave class saves the full state of a game to a compact binary file
+ * and loads it back. The state is streamed through a small fixed size buffer,
+ * so saving a Team with a very large list of reserves uses no more memory than
+ * saving a small one.
+ *
+ * A save starts with MAGIC and VERSION, followed by the GameManager, its
+ * Market and random generator state, the player's Team and the weekly Teams.
+ * Numbers are written in big-endian order and strings as a two byte length
+ * followed by UTF-8 bytes, with a length of -1 for null.
+ *
+ * Athletes in the Market lists are saved separately from the Team's, so an
+ * Athlete bought this week is a different object from its Market entry after
+ * loading. Which Market entries have been bought is saved by index, so the
+ * Market still knows not to sell them again.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class GameSave {
+	/**
+	 * The first four bytes of a save file.
+	 */
+	public static final int MAGIC = 0x484D5356;
+
+	/**
+	 * The version of the save format.
+	 */
+	public static final int VERSION = 3;
+
+	/**
+	 * The size of the buffer the save is streamed through.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * The channel being written to, or null if reading.
+	 */
+	private WritableByteChannel out;
+
+	/**
+	 * The channel being read from, or null if writing.
+	 */
+	private ReadableByteChannel in;
+
+	/**
+	 * The buffer the save is streamed through.
+	 */
+	private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).order(ByteOrder.BIG_ENDIAN);
+
+	/**
+	 * Constructs a GameSave writing to the given channel.
+	 *
+	 * @param out the channel to write to
+	 */
+	private GameSave(WritableByteChannel out) {
+		this.out = out;
+	}
+
+	/**
+	 * Constructs a GameSave reading from the given channel.
+	 *
+	 * @param in the channel to read from
+	 */
+	private GameSave(ReadableByteChannel in) {
+		this.in = in;
+		buffer.limit(0);
+	}
+
+	/**
+	 * Saves a game to a file, replacing the file if it exists.
+	 *
+	 * @param manager the GameManager of the game
+	 * @param path    the path of the save file
+	 * @throws IOException if the file cannot be written
+	 */
+	public static void save(GameManager manager, Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			save(manager, channel);
+		}
+	}
+
+	/**
+	 * Saves a game to a channel. The states of the game's random number
+	 * generators are written as they are, so saving does not change the running
+	 * game, and any game loaded from the save draws the same numbers from then
+	 * on.
+	 *
+	 * @param manager the GameManager of the game
+	 * @param channel the channel to write to
+	 * @throws IOException if the channel cannot be written
+	 */
+	public static void save(GameManager manager, WritableByteChannel channel) throws IOException {
+		GameSave save = new GameSave(channel);
+		save.putInt(MAGIC);
+		save.putInt(VERSION);
+		manager.write(save);
+		save.flush();
+	}
+
+	/**
+	 * Loads a game from a file.
+	 *
+	 * @param path the path of the save file
+	 * @return the GameManager of the loaded game
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the file is not a save of a supported
+	 *                                  version
+	 */
+	public static GameManager load(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			return load(channel);
+		}
+	}
+
+	/**
+	 * Loads a game from a channel.
+	 *
+	 * @param channel the channel to read from
+	 * @return the GameManager of the loaded game
+	 * @throws IOException              if the channel cannot be read
+	 * @throws IllegalArgumentException if the channel does not hold a save of a
+	 *                                  supported version
+	 */
+	public static GameManager load(ReadableByteChannel channel) throws IOException {
+		GameSave save = new GameSave(channel);
+		if (save.getInt() != MAGIC) {
+			throw new IllegalArgumentException("Not a saved game");
+		}
+		int version = save.getInt();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported save version: " + version);
+		}
+		return GameManager.read(save);
+	}
+
+	/**
+	 * Writes a byte.
+	 *
+	 * @param value the byte
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putByte(int value) throws IOException {
+		reserve(1);
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Writes an int.
+	 *
+	 * @param value the int
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putInt(int value) throws IOException {
+		reserve(4);
+		buffer.putInt(value);
+	}
+
+	/**
+	 * Writes a long.
+	 *
+	 * @param value the long
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putLong(long value) throws IOException {
+		reserve(8);
+		buffer.putLong(value);
+	}
+
+	/**
+	 * Writes a float.
+	 *
+	 * @param value the float
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putFloat(float value) throws IOException {
+		reserve(4);
+		buffer.putFloat(value);
+	}
+
+	/**
+	 * Writes a string, which may be null.
+	 *
+	 * @param value the string
+	 * @throws IOException              if the channel cannot be written
+	 * @throws IllegalArgumentException if the string is longer than 32767 bytes in
+	 *                                  UTF-8
+	 */
+	void putString(String value) throws IOException {
+		if (value == null) {
+			reserve(2);
+			buffer.putShort((short) -1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		if (bytes.length > Short.MAX_VALUE) {
+			throw new IllegalArgumentException("String too long to save: " + bytes.length + " bytes");
+		}
+		reserve(2);
+		buffer.putShort((short) bytes.length);
+		int written = 0;
+		while (written < bytes.length) {
+			reserve(1);
+			int length = Math.min(buffer.remaining(), bytes.length - written);
+			buffer.put(bytes, written, length);
+			written += length;
+		}
+	}
+
+	/**
+	 * Writes an Athlete, including its current stamina and injuries.
+	 *
+	 * @param athlete the Athlete
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putAthlete(Athlete athlete) throws IOException {
+		putString(athlete.getName());
+		reserve(2 + Athlete.NUM_STATS + 8);
+		buffer.put((byte) athlete.getPosition().ordinal());
+		for (Athlete.STATS stat : Athlete.STATS.values()) {
+			buffer.put((byte) athlete.getStat(stat));
+		}
+		buffer.putInt(athlete.getPrice());
+		buffer.putInt(athlete.getInjuries());
+	}
+
+	/**
+	 * Writes a list of Athletes.
+	 *
+	 * @param athletes the Athletes
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putAthletes(ArrayList<Athlete> athletes) throws IOException {
+		putInt(athletes.size());
+		for (Athlete athlete : athletes) {
+			putAthlete(athlete);
+		}
+	}
+
+	/**
+	 * Writes a list of Items.
+	 *
+	 * @param items the Items
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putItems(ArrayList<Item> items) throws IOException {
+		putInt(items.size());
+		for (Item item : items) {
+			putString(item.getName());
+			putByte(item.getStat().ordinal());
+			putInt(item.getValue());
+		}
+	}
+
+	/**
+	 * Writes a Team: its name, its starting lineup by POSITION ordinal, its
+	 * reserves and its Items.
+	 *
+	 * @param team the Team
+	 * @throws IOException if the channel cannot be written
+	 */
+	void putTeam(Team team) throws IOException {
+		putString(team.getTeamName());
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			Athlete athlete = team.starter(position);
+			putByte(athlete == null ? 0 : 1);
+			if (athlete != null) {
+				putAthlete(athlete);
+			}
+		}
+		putAthletes(team.getReserves());
+		putItems(team.getItems());
+	}
+
+	/**
+	 * Reads a byte.
+	 *
+	 * @return the byte
+	 * @throws IOException if the channel cannot be read
+	 */
+	int getByte() throws IOException {
+		require(1);
+		return buffer.get();
+	}
+
+	/**
+	 * Reads an int.
+	 *
+	 * @return the int
+	 * @throws IOException if the channel cannot be read
+	 */
+	int getInt() throws IOException {
+		require(4);
+		return buffer.getInt();
+	}
+
+	/**
+	 * Reads a long.
+	 *
+	 * @return the long
+	 * @throws IOException if the channel cannot be read
+	 */
+	long getLong() throws IOException {
+		require(8);
+		return buffer.getLong();
+	}
+
+	/**
+	 * Reads a float.
+	 *
+	 * @return the float
+	 * @throws IOException if the channel cannot be read
+	 */
+	float getFloat() throws IOException {
+		require(4);
+		return buffer.getFloat();
+	}
+
+	/**
+	 * Reads a string.
+	 *
+	 * @return the string, which may be null
+	 * @throws IOException if the channel cannot be read
+	 */
+	String getString() throws IOException {
+		require(2);
+		int length = buffer.getShort();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		int read = 0;
+		while (read < length) {
+			require(1);
+			int count = Math.min(buffer.remaining(), length - read);
+			buffer.get(bytes, read, count);
+			read += count;
+		}
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Reads an Athlete.
+	 *
+	 * @return the Athlete
+	 * @throws IOException if the channel cannot be read
+	 */
+	Athlete getAthlete() throws IOException {
+		String name = getString();
+		require(2 + Athlete.NUM_STATS + 8);
+		Athlete.POSITION position = Athlete.POSITIONS[buffer.get()];
+		int[] stats = new int[Athlete.NUM_STATS];
+		for (int i = 0; i < Athlete.NUM_STATS; i++) {
+			stats[i] = buffer.get();
+		}
+		int price = buffer.getInt();
+		int injuries = buffer.getInt();
+		return new Athlete(name, position, stats, price, injuries);
+	}
+
+	/**
+	 * Reads a list of Athletes.
+	 *
+	 * @return the Athletes
+	 * @throws IOException if the channel cannot be read
+	 */
+	ArrayList<Athlete> getAthletes() throws IOException {
+		int size = getInt();
+		ArrayList<Athlete> athletes = new ArrayList<Athlete>(size);
+		for (int i = 0; i < size; i++) {
+			athletes.add(getAthlete());
+		}
+		return athletes;
+	}
+
+	/**
+	 * Reads a list of Items.
+	 *
+	 * @return the Items
+	 * @throws IOException if the channel cannot be read
+	 */
+	ArrayList<Item> getItems() throws IOException {
+		int size = getInt();
+		ArrayList<Item> items = new ArrayList<Item>(size);
+		for (int i = 0; i < size; i++) {
+			String name = getString();
+			Athlete.STATS stat = Athlete.STATS.values()[getByte()];
+			items.add(new Item(name, stat, getInt()));
+		}
+		return items;
+	}
+
+	/**
+	 * Reads a Team.
+	 *
+	 * @return the Team
+	 * @throws IOException if the channel cannot be read
+	 */
+	Team getTeam() throws IOException {
+		Team team = new Team(getString());
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			if (getByte() != 0) {
+				team.addPlayer(getAthlete());
+			}
+		}
+		int reserves = getInt();
+		for (int i = 0; i < reserves; i++) {
+			team.addReserves(getAthlete());
+		}
+		for (Item item : getItems()) {
+			team.buyConsumable(item);
+		}
+		return team;
+	}
+
+	/**
+	 * Makes room in the buffer for the given number of bytes, writing out what is
+	 * already in it if needed.
+	 *
+	 * @param bytes the number of bytes to make room for
+	 * @throws IOException if the channel cannot be written
+	 */
+	private void reserve(int bytes) throws IOException {
+		if (buffer.remaining() < bytes) {
+			flush();
+		}
+	}
+
+	/**
+	 * Writes everything in the buffer to the channel.
+	 *
+	 * @throws IOException if the channel cannot be written
+	 */
+	private void flush() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			out.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Reads from the channel until the buffer holds at least the given number of
+	 * bytes.
+	 *
+	 * @param bytes the number of bytes needed
+	 * @throws IOException  if the channel cannot be read
+	 * @throws EOFException if the channel ends first
+	 */
+	private void require(int bytes) throws IOException {
+		if (buffer.remaining() >= bytes) {
+			return;
+		}
+		buffer.compact();
+		while (buffer.position() < bytes) {
+			if (in.read(buffer) < 0) {
+				throw new EOFException("Save ends unexpectedly");
+			}
+		}
+		buffer.flip();
+	}
+}
@@ -0,0 +1,686 @@
+package main;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The GameServer class hosts many independent games behind a local HTTP API
+ * that answers in JSON. Each session is a GameManager that never opens a
+ * window, and is played with the same actions as the screens and the
+ * SeasonSimulator:
+ *
+ * <pre>
+ * POST   /sessions?team=&amp;difficulty=&amp;weeks=&amp;seed=  start a game
+ * GET    /sessions/{id}                             the state of a game
+ * DELETE /sessions/{id}                             end a game
+ * POST   /sessions/{id}/match?opponent=             play a match and end the week
+ * POST   /sessions/{id}/bye?train=                  take a bye, training an Athlete
+ * POST   /sessions/{id}/buy-athlete?index=&amp;starter= buy an Athlete from the Market
+ * POST   /sessions/{id}/buy-item?index=             buy an Item from the Market
+ * </pre>
+ *
+ * Athletes of the player's Team are identified by POSITION ordinal for the
+ * starters, and by Athlete.NUM_POSITIONS plus their index for the reserves.
+ *
+ * Requests are handled on a fixed pool of threads. A session is only held by
+ * a thread while one of its requests is handled, so the number of sessions is
+ * limited by a cap rather than by threads; starting a game past the cap is
+ * answered with 503. Sessions that have not been requested for longer than
+ * the idle timeout are ended by a periodic sweep. Requests to the same session
+ * are handled one at a time; requests to different sessions run in parallel.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class GameServer {
+	/**
+	 * The path every request is under.
+	 */
+	public static final String PATH = "/sessions";
+
+	/**
+	 * The default port of the server.
+	 */
+	public static final int DEFAULT_PORT = 8080;
+
+	/**
+	 * The default maximum number of sessions.
+	 */
+	public static final int DEFAULT_MAX_SESSIONS = 10000;
+
+	/**
+	 * The default time, in milliseconds, a session is kept without requests.
+	 */
+	public static final long DEFAULT_IDLE_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+	/**
+	 * The HTTP server the requests arrive on.
+	 */
+	private HttpServer server;
+
+	/**
+	 * The threads the requests are handled on.
+	 */
+	private ExecutorService workers;
+
+	/**
+	 * The thread idle sessions are swept on.
+	 */
+	private ScheduledExecutorService sweeper;
+
+	/**
+	 * The games being played, by session id.
+	 */
+	private ConcurrentHashMap<Long, Session> sessions = new ConcurrentHashMap<Long, Session>();
+
+	/**
+	 * The maximum number of sessions.
+	 */
+	private int maxSessions;
+
+	/**
+	 * The time, in nanoseconds, a session is kept without requests.
+	 */
+	private long idleNanos;
+
+	/**
+	 * The id of the last session started.
+	 */
+	private AtomicLong lastId = new AtomicLong();
+
+	/**
+	 * Constructs a new GameServer listening on the given address, with the
+	 * default session cap and idle timeout. The server does not accept requests
+	 * until it is started.
+	 *
+	 * @param address the address to listen on, with port 0 for any free port
+	 * @param threads the number of threads requests are handled on
+	 * @throws IOException if the address cannot be bound
+	 */
+	public GameServer(InetSocketAddress address, int threads) throws IOException {
+		this(address, threads, DEFAULT_MAX_SESSIONS, DEFAULT_IDLE_MILLIS);
+	}
+
+	/**
+	 * Constructs a new GameServer listening on the given address. The server does
+	 * not accept requests until it is started.
+	 *
+	 * @param address     the address to listen on, with port 0 for any free port
+	 * @param threads     the number of threads requests are handled on
+	 * @param maxSessions the maximum number of sessions
+	 * @param idleMillis  the time, in milliseconds, a session is kept without
+	 *                    requests
+	 * @throws IOException if the address cannot be bound
+	 */
+	public GameServer(InetSocketAddress address, int threads, int maxSessions, long idleMillis) throws IOException {
+		if (maxSessions < 1 || idleMillis < 1) {
+			throw new IllegalArgumentException("The session cap and idle timeout must be positive");
+		}
+		this.maxSessions = maxSessions;
+		idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+		server = HttpServer.create(address, 0);
+		workers = Executors.newFixedThreadPool(threads, task -> {
+			Thread thread = new Thread(task, "game-server");
+			thread.setDaemon(true);
+			return thread;
+		});
+		server.setExecutor(workers);
+		server.createContext(PATH, this::handle);
+		sweeper = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "game-server-sweeper");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Starts accepting requests, and sweeping idle sessions every half of the
+	 * idle timeout.
+	 */
+	public void start() {
+		server.start();
+		long period = Math.max(1, idleNanos / 2);
+		sweeper.scheduleAtFixedRate(this::evictIdleSessions, period, period, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Stops accepting requests, waiting up to a second for the requests being
+	 * handled to finish, and ends every session.
+	 */
+	public void stop() {
+		server.stop(1);
+		sweeper.shutdownNow();
+		workers.shutdown();
+		try {
+			workers.awaitTermination(1, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		sessions.clear();
+	}
+
+	/**
+	 * Retrieves the port the server is listening on.
+	 *
+	 * @return the port
+	 */
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	/**
+	 * Retrieves the number of sessions being played.
+	 *
+	 * @return the number of sessions
+	 */
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	/**
+	 * Ends every session that has not been requested for longer than the idle
+	 * timeout.
+	 *
+	 * @return the number of sessions ended
+	 */
+	public int evictIdleSessions() {
+		long now = System.nanoTime();
+		int evicted = 0;
+		for (Long id : sessions.keySet()) {
+			Session session = sessions.get(id);
+			if (session != null && now - session.lastAccess > idleNanos && sessions.remove(id, session)) {
+				evicted++;
+			}
+		}
+		return evicted;
+	}
+
+	/**
+	 * Handles a request, answering with the JSON response of its route or with
+	 * an error.
+	 *
+	 * @param exchange the request and its response
+	 * @throws IOException if the response cannot be sent
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+		int status = 200;
+		String body;
+		try (InputStream in = exchange.getRequestBody()) {
+			in.readAllBytes();
+			body = route(exchange.getRequestMethod(), exchange.getRequestURI().getRawPath(),
+					query(exchange.getRequestURI().getRawQuery()));
+		} catch (RequestException e) {
+			status = e.status;
+			body = error(e.getMessage());
+		} catch (NumberFormatException | IndexOutOfBoundsException e) {
+			status = 400;
+			body = error("Bad request: " + e.getMessage());
+		} catch (RuntimeException e) {
+			status = 500;
+			body = error(String.valueOf(e));
+		}
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	/**
+	 * Routes a request to the action it names.
+	 *
+	 * @param method the HTTP method
+	 * @param path   the path of the request
+	 * @param params the query parameters
+	 * @return the JSON response
+	 * @throws RequestException if there is no such route, session or action
+	 */
+	private String route(String method, String path, HashMap<String, String> params) throws RequestException {
+		String[] parts = path.substring(PATH.length()).split("/");
+		if (parts.length > 0 && !parts[0].isEmpty()) {
+			throw new RequestException(404, "No such path: " + path);
+		} else if (parts.length <= 1) {
+			expect(method, "POST");
+			return create(params);
+		}
+		long id;
+		try {
+			id = Long.parseLong(parts[1]);
+		} catch (NumberFormatException e) {
+			throw new RequestException(404, "No such session: " + parts[1]);
+		}
+		Session session = sessions.get(id);
+		if (session == null) {
+			throw new RequestException(404, "No such session: " + id);
+		}
+		session.lastAccess = System.nanoTime();
+		GameManager manager = session.manager;
+		if (parts.length == 2) {
+			if (method.equals("DELETE")) {
+				sessions.remove(id);
+				return "{\"deleted\":" + id + "}";
+			}
+			expect(method, "GET");
+			synchronized (manager) {
+				return state(id, manager);
+			}
+		}
+		if (parts.length > 3) {
+			throw new RequestException(404, "No such action: " + path);
+		}
+		expect(method, "POST");
+		synchronized (manager) {
+			if (manager.getCurrentWeek() >= manager.getNumWeeks()) {
+				throw new RequestException(409, "The season is over");
+			}
+			switch (parts[2]) {
+			case "match":
+				return match(id, manager, params);
+			case "bye":
+				return bye(id, manager, params);
+			case "buy-athlete":
+				return buyAthlete(id, manager, params);
+			case "buy-item":
+				return buyItem(id, manager, params);
+			default:
+				throw new RequestException(404, "No such action: " + parts[2]);
+			}
+		}
+	}
+
+	/**
+	 * Starts a new game, set up the same way as a SeasonSimulator season.
+	 *
+	 * @param params the team name, difficulty, number of weeks and optional seed
+	 * @return the state of the new game
+	 * @throws RequestException if the difficulty or number of weeks is invalid
+	 */
+	private String create(HashMap<String, String> params) throws RequestException {
+		Difficulty difficulty;
+		try {
+			difficulty = Difficulty.fromName(params.getOrDefault("difficulty", "Easy"));
+		} catch (IllegalArgumentException e) {
+			throw new RequestException(400, e.getMessage());
+		}
+		int weeks = Integer.parseInt(params.getOrDefault("weeks", "10"));
+		if (weeks < 5 || weeks > 15) {
+			throw new RequestException(400, "The season must be between 5 and 15 weeks");
+		}
+		String seed = params.get("seed");
+		GameManager manager = SeasonSimulator.newSeason(
+				seed == null ? new SplittableRandom().nextLong() : Long.parseLong(seed),
+				params.getOrDefault("team", "Team"), difficulty, weeks);
+		long id = lastId.incrementAndGet();
+		sessions.put(id, new Session(manager));
+		if (sessions.size() > maxSessions) {
+			sessions.remove(id);
+			throw new RequestException(503, "Too many games are being played");
+		}
+		synchronized (manager) {
+			return state(id, manager);
+		}
+	}
+
+	/**
+	 * Plays a match against one of the week's opposing Teams and moves on to the
+	 * next week.
+	 *
+	 * @param id      the id of the session
+	 * @param manager the GameManager of the session
+	 * @param params  the index of the opposing Team
+	 * @return the winner of the match and the state of the game
+	 * @throws RequestException if the Team cannot play
+	 */
+	private String match(long id, GameManager manager, HashMap<String, String> params) throws RequestException {
+		Team opponent = manager.getWeeklyTeams().get(Integer.parseInt(required(params, "opponent")));
+		if (!manager.getTeam().canPlay()) {
+			throw new RequestException(409, "Not all starters are ready to play");
+		}
+		manager.setOpposingTeam(opponent);
+		String winner = manager.playMatch();
+		manager.incrementWeek();
+		return "{\"winner\":" + quote(winner) + ",\"state\":" + state(id, manager) + "}";
+	}
+
+	/**
+	 * Takes a bye, optionally training an Athlete, and applies a random event.
+	 *
+	 * @param id      the id of the session
+	 * @param manager the GameManager of the session
+	 * @param params  the optional Athlete to train
+	 * @return the random event and the state of the game
+	 * @throws RequestException if there is no Athlete to train
+	 */
+	private String bye(long id, GameManager manager, HashMap<String, String> params) throws RequestException {
+		Athlete athlete = null;
+		if (params.containsKey("train")) {
+			athlete = manager.athleteAt(Integer.parseInt(params.get("train")));
+			if (athlete == null) {
+				throw new RequestException(400, "No Athlete to train at " + params.get("train"));
+			}
+		}
+		manager.takeBye();
+		if (athlete != null) {
+			manager.trainAthlete(athlete);
+		}
+		String event = manager.applyRandomEvent();
+		return "{\"event\":" + quote(event) + ",\"state\":" + state(id, manager) + "}";
+	}
+
+	/**
+	 * Buys an Athlete from the Market, following the same rules as the shop
+	 * screen.
+	 *
+	 * @param id      the id of the session
+	 * @param manager the GameManager of the session
+	 * @param params  the index of the Athlete and whether to make it a starter
+	 * @return the state of the game
+	 * @throws RequestException if the Athlete cannot be bought
+	 */
+	private String buyAthlete(long id, GameManager manager, HashMap<String, String> params)
+			throws RequestException {
+		Market market = manager.getMarket();
+		Athlete athlete = market.getPurchasableAthletes().get(Integer.parseInt(required(params, "index")));
+		if (market.getWeeklyPurchasedAthletes().contains(athlete)) {
+			throw new RequestException(409, "That Athlete has already been bought this week");
+		} else if (manager.getMoney() < athlete.getPrice()) {
+			throw new RequestException(409, "Not enough money");
+		} else if (manager.getTeam().getReserves().size() == 5) {
+			throw new RequestException(409, "The reserves are full");
+		}
+		manager.buyAthlete(athlete, Boolean.parseBoolean(params.get("starter")));
+		return state(id, manager);
+	}
+
+	/**
+	 * Buys an Item from the Market, following the same rules as the shop screen.
+	 *
+	 * @param id      the id of the session
+	 * @param manager the GameManager of the session
+	 * @param params  the index of the Item
+	 * @return the state of the game
+	 * @throws RequestException if the Item cannot be bought
+	 */
+	private String buyItem(long id, GameManager manager, HashMap<String, String> params) throws RequestException {
+		Market market = manager.getMarket();
+		Item item = market.getPurchasableItems().get(Integer.parseInt(required(params, "index")));
+		if (market.getWeeklyPurchasedItems().contains(item)) {
+			throw new RequestException(409, "That Item has already been bought this week");
+		} else if (manager.getMoney() < item.getPrice()) {
+			throw new RequestException(409, "Not enough money");
+		}
+		manager.buyItem(item);
+		return state(id, manager);
+	}
+
+	/**
+	 * Writes the state of a game as JSON.
+	 *
+	 * @param id      the id of the session
+	 * @param manager the GameManager of the session
+	 * @return the JSON state
+	 */
+	private static String state(long id, GameManager manager) {
+		Team team = manager.getTeam();
+		Market market = manager.getMarket();
+		StringBuilder json = new StringBuilder(4096);
+		json.append("{\"id\":").append(id);
+		json.append(",\"week\":").append(manager.getCurrentWeek());
+		json.append(",\"weeks\":").append(manager.getNumWeeks());
+		json.append(",\"over\":").append(manager.getCurrentWeek() >= manager.getNumWeeks());
+		json.append(",\"difficulty\":").append(quote(String.valueOf(manager.getDifficulty())));
+		json.append(",\"money\":").append(manager.getMoney());
+		json.append(",\"score\":").append(manager.getScore());
+		json.append(",\"team\":{\"name\":").append(quote(manager.getTeamName()));
+		json.append(",\"starters\":");
+		athletes(json, team.getPlayersArray(), null);
+		json.append(",\"reserves\":");
+		athletes(json, team.getReserves(), null);
+		json.append(",\"items\":");
+		items(json, team.getItems(), null);
+		json.append("},\"market\":{\"athletes\":");
+		athletes(json, market.getPurchasableAthletes(), market.getWeeklyPurchasedAthletes());
+		json.append(",\"items\":");
+		items(json, market.getPurchasableItems(), market.getWeeklyPurchasedItems());
+		json.append("},\"opponents\":[");
+		ArrayList<Team> opponents = manager.getWeeklyTeams();
+		for (int i = 0; i < opponents.size(); i++) {
+			json.append(i == 0 ? "" : ",").append("{\"name\":").append(quote(opponents.get(i).getTeamName()));
+			json.append(",\"starters\":");
+			athletes(json, opponents.get(i).getPlayersArray(), null);
+			json.append('}');
+		}
+		return json.append("]}").toString();
+	}
+
+	/**
+	 * Writes a list of Athletes as a JSON array.
+	 *
+	 * @param json      the JSON being written
+	 * @param athletes  the Athletes
+	 * @param purchased the Athletes bought this week, or null to leave out
+	 *                  whether each Athlete was bought
+	 */
+	private static void athletes(StringBuilder json, ArrayList<Athlete> athletes, ArrayList<Athlete> purchased) {
+		json.append('[');
+		for (int i = 0; i < athletes.size(); i++) {
+			Athlete athlete = athletes.get(i);
+			json.append(i == 0 ? "" : ",").append("{\"name\":").append(quote(athlete.getName()));
+			json.append(",\"position\":").append(quote(athlete.getPosition().name()));
+			json.append(",\"rating\":").append(athlete.getRating());
+			json.append(",\"price\":").append(athlete.getPrice());
+			json.append(",\"offence\":").append(athlete.getStat(Athlete.STATS.O));
+			json.append(",\"defence\":").append(athlete.getStat(Athlete.STATS.D));
+			json.append(",\"stamina\":").append(athlete.getStat(Athlete.STATS.S));
+			json.append(",\"agility\":").append(athlete.getStat(Athlete.STATS.A));
+			json.append(",\"currentStamina\":").append(athlete.getStat(Athlete.STATS.CS));
+			json.append(",\"injuries\":").append(athlete.getInjuries());
+			if (purchased != null) {
+				json.append(",\"purchased\":").append(purchased.contains(athlete));
+			}
+			json.append('}');
+		}
+		json.append(']');
+	}
+
+	/**
+	 * Writes a list of Items as a JSON array.
+	 *
+	 * @param json      the JSON being written
+	 * @param items     the Items
+	 * @param purchased the Items bought this week, or null to leave out whether
+	 *                  each Item was bought
+	 */
+	private static void items(StringBuilder json, ArrayList<Item> items, ArrayList<Item> purchased) {
+		json.append('[');
+		for (int i = 0; i < items.size(); i++) {
+			Item item = items.get(i);
+			json.append(i == 0 ? "" : ",").append("{\"name\":").append(quote(item.getName()));
+			json.append(",\"stat\":").append(quote(item.getStat().name()));
+			json.append(",\"value\":").append(item.getValue());
+			json.append(",\"price\":").append(item.getPrice());
+			if (purchased != null) {
+				json.append(",\"purchased\":").append(purchased.contains(item));
+			}
+			json.append('}');
+		}
+		json.append(']');
+	}
+
+	/**
+	 * Writes a JSON error response.
+	 *
+	 * @param message the error message
+	 * @return the JSON response
+	 */
+	private static String error(String message) {
+		return "{\"error\":" + quote(message) + "}";
+	}
+
+	/**
+	 * Quotes a String as a JSON string.
+	 *
+	 * @param text the String, or null
+	 * @return the JSON string, or null
+	 */
+	static String quote(String text) {
+		if (text == null) {
+			return "null";
+		}
+		StringBuilder quoted = new StringBuilder(text.length() + 2).append('"');
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			switch (c) {
+			case '"':
+				quoted.append("\\\"");
+				break;
+			case '\\':
+				quoted.append("\\\\");
+				break;
+			case '\n':
+				quoted.append("\\n");
+				break;
+			default:
+				if (c < 0x20) {
+					quoted.append(String.format("\\u%04x", (int) c));
+				} else {
+					quoted.append(c);
+				}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+
+	/**
+	 * Parses the query of a request into its parameters.
+	 *
+	 * @param rawQuery the encoded query, or null if there is none
+	 * @return the parameters by name
+	 */
+	private static HashMap<String, String> query(String rawQuery) {
+		HashMap<String, String> params = new HashMap<String, String>();
+		if (rawQuery == null || rawQuery.isEmpty()) {
+			return params;
+		}
+		for (String pair : rawQuery.split("&")) {
+			int equals = pair.indexOf('=');
+			String name = equals < 0 ? pair : pair.substring(0, equals);
+			String value = equals < 0 ? "" : pair.substring(equals + 1);
+			params.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+		}
+		return params;
+	}
+
+	/**
+	 * Retrieves a parameter the request must have.
+	 *
+	 * @param params the parameters of the request
+	 * @param name   the name of the parameter
+	 * @return the value of the parameter
+	 * @throws RequestException if the parameter is missing
+	 */
+	private static String required(HashMap<String, String> params, String name) throws RequestException {
+		String value = params.get(name);
+		if (value == null) {
+			throw new RequestException(400, "Missing parameter: " + name);
+		}
+		return value;
+	}
+
+	/**
+	 * Checks the method of a request.
+	 *
+	 * @param method   the method of the request
+	 * @param expected the method the route accepts
+	 * @throws RequestException if the methods differ
+	 */
+	private static void expect(String method, String expected) throws RequestException {
+		if (!method.equals(expected)) {
+			throw new RequestException(405, "Expected " + expected + " but was " + method);
+		}
+	}
+
+	/**
+	 * The Session class is a game being played, with the last time it was
+	 * requested.
+	 */
+	private static class Session {
+		/**
+		 * The GameManager of the game.
+		 */
+		private GameManager manager;
+
+		/**
+		 * The System.nanoTime() of the last request to the game.
+		 */
+		private volatile long lastAccess = System.nanoTime();
+
+		/**
+		 * Constructs a new Session of a game.
+		 *
+		 * @param manager the GameManager of the game
+		 */
+		Session(GameManager manager) {
+			this.manager = manager;
+		}
+	}
+
+	/**
+	 * The RequestException class is thrown when a request cannot be handled, and
+	 * carries the HTTP status to answer with.
+	 */
+	private static class RequestException extends Exception {
+		/**
+		 * The serial version of the exception.
+		 */
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * The HTTP status to answer with.
+		 */
+		private int status;
+
+		/**
+		 * Constructs a new RequestException.
+		 *
+		 * @param status  the HTTP status to answer with
+		 * @param message the error message
+		 */
+		RequestException(int status, String message) {
+			super(message);
+			this.status = status;
+		}
+	}
+
+	/**
+	 * Runs a GameServer on localhost until the program is stopped.
+	 *
+	 * @param args the optional port and number of threads
+	 * @throws IOException if the port cannot be bound
+	 */
+	public static void main(String[] args) throws IOException {
+		int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+		int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors() * 2;
+		GameServer server = new GameServer(new InetSocketAddress("localhost", port), threads);
+		server.start();
+		System.out.println("Serving games on http://localhost:" + server.getPort() + PATH);
+	}
+}
@@ -0,0 +1,72 @@
+package main;
+
+/**
+ * The GameState enum lists the states a game moves through. Each state is
+ * shown by one screen in the GUI, but a game can move through them without
+ * any screens at all.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public enum GameState {
+	/**
+	 * The start of the game, before it is set up or when returning to the title.
+	 */
+	START,
+
+	/**
+	 * Choosing the Team name, difficulty and season length.
+	 */
+	SETUP,
+
+	/**
+	 * Choosing the starting Athletes.
+	 */
+	TEAM_SETUP,
+
+	/**
+	 * Between activities in a week.
+	 */
+	MAIN,
+
+	/**
+	 * Buying and selling in the Market.
+	 */
+	SHOP,
+
+	/**
+	 * Managing the player's Team.
+	 */
+	TEAM,
+
+	/**
+	 * Choosing between a match and a bye.
+	 */
+	STADIUM,
+
+	/**
+	 * Choosing the opposing Team of a match.
+	 */
+	OPPONENT_SELECTOR,
+
+	/**
+	 * The results of a match that has been played.
+	 */
+	MATCH,
+
+	/**
+	 * Training an Athlete during a bye.
+	 */
+	TRAINING,
+
+	/**
+	 * The end of the season.
+	 */
+	GAME_OVER,
+
+	/**
+	 * The game has been closed.
+	 */
+	QUIT
+}
@@ -33,7 +33,7 @@ public class Gameplay {
 	/**
 	 * The difficulty level of the game.
 	 */
-	private String difficulty;
+	private Difficulty difficulty;
 
 	/**
 	 * Constructs a new Gameplay object with the specified player's Team, opposing
@@ -43,7 +43,7 @@ public class Gameplay {
 	 * @param opposingTeam The opposing Team participating in the game.
 	 * @param difficulty   The difficulty level of the game.
 	 */
-	public Gameplay(Team playerTeam, Team opposingTeam, String difficulty) {
+	public Gameplay(Team playerTeam, Team opposingTeam, Difficulty difficulty) {
 		this.playerTeam = playerTeam;
 		this.opposingTeam = opposingTeam;
 		this.difficulty = difficulty;
@@ -72,26 +72,32 @@ public class Gameplay {
 	 * stamina accordingly.
 	 */
 	public void play() {
-		for (Athlete player : playerTeam.getPlayersArray()) {
-			Athlete opponent = opposingTeam.getPlayersMap().get(player.getPosition());
-			if (player.getRating() > opponent.getRating()) {
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			Athlete player = playerTeam.starter(position);
+			if (player == null) {
+				continue;
+			}
+			int outcome = Difficulty.outcome(player.getRating(), opposingTeam.starter(position).getRating());
+			if (outcome == Difficulty.WIN) {
 				playerPoints += 1;
-				if (difficulty.equals("easy")) {
-					player.changeStat(-10, Athlete.STATS.CS);
-				} else {
-					player.changeStat(-20, Athlete.STATS.CS);
-				}
-			} else if (player.getRating() < opponent.getRating()) {
+			} else if (outcome == Difficulty.LOSS) {
 				opponentPoints += 1;
-				if (difficulty.equals("easy")) {
-					player.changeStat(-15, Athlete.STATS.CS);
-				} else {
-					player.changeStat(-25, Athlete.STATS.CS);
-				}
+			}
+			if (outcome != Difficulty.DRAW) {
+				player.changeStat(difficulty.getStaminaChange(outcome), Athlete.STATS.CS);
 			}
 		}
 	}
 
+	/**
+	 * Determines the outcome of the game for the player's Team.
+	 *
+	 * @return Difficulty.WIN, Difficulty.DRAW or Difficulty.LOSS.
+	 */
+	public int getOutcome() {
+		return Difficulty.outcome(playerPoints, opponentPoints);
+	}
+
 	/**
 	 * Determines the winner of the game based on the total points earned by the
 	 * player's Team and the opposing Team.
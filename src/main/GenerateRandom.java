@@ -1,5 +1,6 @@
 package main;
 
+import java.io.IOException;
 import java.util.*;
 
 /**
@@ -15,7 +16,7 @@ public class GenerateRandom {
 	/**
 	 * Random number generator.
 	 */
-	private Random random;
+	private SeededRandom random;
 
 	/**
 	 * Multiplier value used for generating random statistics.
@@ -23,60 +24,61 @@ public class GenerateRandom {
 	private float multiplier = 1.0f;
 
 	/**
-	 * List of possible names for generating Athletes.
+	 * Sampler drawing unique names for generating Athletes.
 	 */
-	private ArrayList<String> possibleNames;
+	private NameSampler athleteNames;
 
 	/**
-	 * List of possible names for generating Items.
+	 * Sampler drawing unique names for generating Items.
 	 */
-	private ArrayList<String> possibleItemNames;
+	private NameSampler itemNames;
 
 	/**
-	 * List of possible names for generating Teams.
+	 * Sampler drawing unique names for generating Teams.
 	 */
-	private ArrayList<String> possibleTeamNames;
+	private NameSampler teamNames;
 
 	/**
-	 * List of names that have already been used for generating Athletes.
-	 */
-	private ArrayList<String> usedNames;
-
-	/**
-	 * List of names that have already been used for generating Items.
+	 * Constructs a new GenerateRandom object with default settings.
 	 */
-	private ArrayList<String> usedItemNames;
+	public GenerateRandom() {
+		this(new SplittableRandom());
+	}
 
 	/**
-	 * List of names that have already been used for generating Teams.
+	 * Constructs a new GenerateRandom object that draws from the given random
+	 * number generator, so the same generator state always produces the same
+	 * objects.
+	 * 
+	 * @param random The random number generator to draw from.
 	 */
-	private ArrayList<String> usedTeamNames;
+	public GenerateRandom(SplittableRandom random) {
+		this(new SeededRandom(random.nextLong()));
+	}
 
 	/**
-	 * Constructs a new GenerateRandom object with default settings.
+	 * Constructs a new GenerateRandom object that draws from the given generator,
+	 * whose state can be saved with the rest of the GenerateRandom.
+	 * 
+	 * @param random The random number generator to draw from.
 	 */
-	public GenerateRandom() {
+	GenerateRandom(SeededRandom random) {
+		this.random = random;
 
-		random = new Random();
-
-		possibleNames = new ArrayList<String>(Arrays.asList("Michael", "Jordan", "Steph", "Kush", "Droopy", "Hoi Fung",
+		athleteNames = new NameSampler(Arrays.asList("Michael", "Jordan", "Steph", "Kush", "Droopy", "Hoi Fung",
 				"Ray", "Zaza", "Archibold", "Freddie", "Wij", "Richard", "Kang", "Zheng", "Rundle", "Tim", "Sum",
 				"Ting", "Wong", "Jake", "Tuffy", "Stevo", "Gavin", "Miguel", "Andy", "Giancarlo", "Gus", "Walter",
 				"Jesse", "Hank", "Cornelius", "Erik", "Bjorn", "Steve", "Alex", "Lucas", "Lars", "Jaron", "Kel",
 				"Geraldo", "Sui"));
 
-		possibleItemNames = new ArrayList<String>(Arrays.asList("Apple", "Blue Pot", "Sushi", "Katsu Chicken Sandwich",
+		itemNames = new NameSampler(Arrays.asList("Apple", "Blue Pot", "Sushi", "Katsu Chicken Sandwich",
 				"Protein Shake", "Trenbolone Acetate", "Energy Drink", "Preworkout", "Ghost Pepper", "Protein Bar",
 				"Can of Spinach", "Pot of Greed", "Chicken Dinner", "Stardrop", "Uranium"));
 
-		possibleTeamNames = new ArrayList<String>(Arrays.asList("Celtics", "Nets", "Knicks", "76ers", "Raptors",
+		teamNames = new NameSampler(Arrays.asList("Celtics", "Nets", "Knicks", "76ers", "Raptors",
 				"Bulls", "Cavaliers", "Pistons", "Pacers", "Bucks", "Hawks", "Hornets", "Heat", "Magic", "Wizards",
 				"Nuggets", "Timberwolves", "Thunder", "Trail Blazers", "Jazz", "Warriors", "Clippers", "Lakers", "Suns",
 				"Kings", "Mavericks", "Rockets", "Grizzlies", "Pelicans", "Spurs"));
-
-		usedNames = new ArrayList<String>();
-		usedItemNames = new ArrayList<String>();
-		usedTeamNames = new ArrayList<String>();
 	}
 
 	/**
@@ -87,13 +89,7 @@ public class GenerateRandom {
 	 */
 	public Athlete generateAthlete(int index) {
 		HashMap<Athlete.STATS, Integer> statValues = new HashMap<Athlete.STATS, Integer>();
-		int nameIndex = random.nextInt(possibleNames.size());
-		String name = possibleNames.get(nameIndex);
-		while (usedNames.contains(name)) {
-			nameIndex = random.nextInt(possibleNames.size());
-			name = possibleNames.get(nameIndex);
-		}
-		usedNames.add(name);
+		String name = athleteNames.next(random);
 		int offence = (int) (random.nextInt(60, 70) * multiplier);
 		if (offence > 99) {
 			offence = 99;
@@ -161,7 +157,7 @@ public class GenerateRandom {
 			Athlete athlete = generateAthlete(positionIndex);
 			weeklyAthletes.add(athlete);
 		}
-		usedNames.clear();
+		athleteNames.reset();
 		return weeklyAthletes;
 	}
 
@@ -173,15 +169,9 @@ public class GenerateRandom {
 	public ArrayList<Item> generateWeeklyItems() {
 		ArrayList<Item> weeklyItems = new ArrayList<Item>();
 		while (weeklyItems.size() < 3) {
-			int index = random.nextInt(possibleItemNames.size());
 			int statIndex = random.nextInt(5);
 			Athlete.STATS s = Athlete.STATS.A;
-			String name = possibleItemNames.get(index);
-			while (usedItemNames.contains(name)) {
-				index = random.nextInt(possibleItemNames.size());
-				name = possibleItemNames.get(index);
-			}
-			usedItemNames.add(name);
+			String name = itemNames.next(random);
 			int increaseBy = (int) (random.nextInt(5, 10) * multiplier);
 			switch (statIndex) {
 			case 0:
@@ -205,7 +195,7 @@ public class GenerateRandom {
 			Item item = new Item(name, s, increaseBy);
 			weeklyItems.add(item);
 		}
-		usedItemNames.clear();
+		itemNames.reset();
 		return weeklyItems;
 	}
 
@@ -215,24 +205,29 @@ public class GenerateRandom {
 	 * @return The list of generated opposing Teams.
 	 */
 	public ArrayList<Team> generateTeams() {
-		ArrayList<Team> opposingTeams = new ArrayList<Team>();
-		while (opposingTeams.size() < 3) {
-			int teamIndex = random.nextInt(possibleTeamNames.size());
-			String name = possibleTeamNames.get(teamIndex);
-			while (usedTeamNames.contains(name)) {
-				teamIndex = random.nextInt(possibleTeamNames.size());
-				name = possibleTeamNames.get(teamIndex);
-			}
-			usedTeamNames.add(name);
+		return generateTeams(3);
+	}
+
+	/**
+	 * Generates a list of the given number of Teams with unique names. Once every
+	 * Team name has been used, the names are reused with a numbered suffix.
+	 *
+	 * @param count The number of Teams to generate.
+	 * @return The list of generated Teams.
+	 */
+	public ArrayList<Team> generateTeams(int count) {
+		ArrayList<Team> opposingTeams = new ArrayList<Team>(count);
+		while (opposingTeams.size() < count) {
+			String name = teamNames.next(random);
 			Team team = new Team(name);
 			for (int i = 0; i < 5; i++) {
 				Athlete athlete = generateAthlete(i);
 				team.addPlayer(athlete);
 			}
 			opposingTeams.add(team);
-			usedNames.clear();
+			athleteNames.reset();
 		}
-		usedTeamNames.clear();
+		teamNames.reset();
 		return opposingTeams;
 	}
 
@@ -246,6 +241,50 @@ public class GenerateRandom {
 		return random.nextInt(upper);
 	}
 
+	/**
+	 * Splits off an independent random number generator, for use by another
+	 * subsystem or worker thread without sharing this one.
+	 *
+	 * @return The new random number generator.
+	 */
+	public SplittableRandom splitRandom() {
+		return new SplittableRandom(random.nextLong());
+	}
+
+	/**
+	 * Creates an independent GenerateRandom with the same multiplier, for use on
+	 * another worker thread.
+	 *
+	 * @return The new GenerateRandom object.
+	 */
+	public GenerateRandom split() {
+		return split(nextSeed());
+	}
+
+	/**
+	 * Draws a seed for a GenerateRandom created later with split(long). The seed
+	 * can be saved, so the same GenerateRandom can be created again after
+	 * loading.
+	 * 
+	 * @return The seed.
+	 */
+	long nextSeed() {
+		return random.nextLong();
+	}
+
+	/**
+	 * Creates an independent GenerateRandom with the same multiplier, drawing
+	 * from the given seed.
+	 * 
+	 * @param seed A seed from nextSeed.
+	 * @return The new GenerateRandom object.
+	 */
+	GenerateRandom split(long seed) {
+		GenerateRandom generator = new GenerateRandom(new SeededRandom(seed));
+		generator.multiplier = multiplier;
+		return generator;
+	}
+
 	/**
 	 * Increments the multiplier value. This method increases the multiplier by 0.02
 	 * per week.
@@ -253,4 +292,34 @@ public class GenerateRandom {
 	public void incrementMultiplier() {
 		multiplier += 0.02;
 	}
+
+	/**
+	 * Writes the state of the random number generator, the multiplier and the
+	 * name samplers to a save. Writing does not change the GenerateRandom.
+	 *
+	 * @param save The save to write to.
+	 * @throws IOException If the save cannot be written.
+	 */
+	void write(GameSave save) throws IOException {
+		save.putLong(random.getState());
+		save.putFloat(multiplier);
+		athleteNames.write(save);
+		itemNames.write(save);
+		teamNames.write(save);
+	}
+
+	/**
+	 * Restores the state of the random number generator, the multiplier and the
+	 * name samplers from a save written by write.
+	 *
+	 * @param save The save to read from.
+	 * @throws IOException If the save cannot be read.
+	 */
+	void read(GameSave save) throws IOException {
+		random = new SeededRandom(save.getLong());
+		multiplier = save.getFloat();
+		athleteNames.read(save);
+		itemNames.read(save);
+		teamNames.read(save);
+	}
 }
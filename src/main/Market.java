@@ -1,5 +1,6 @@
 package main;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
 /**
@@ -48,6 +49,11 @@ public class Market {
 	 */
 	private GenerateRandom randomPurchasables;
 
+	/**
+	 * The ChangeBus the Market publishes its changes to, or null if it has none.
+	 */
+	private ChangeBus bus;
+
 	/**
 	 * Constructs a new Market object with the specified instance of GenerateRandom.
 	 * 
@@ -73,6 +79,17 @@ public class Market {
 	 */
 	public void setPurchasableAthletes() {
 		purchasableAthletes = randomPurchasables.generateWeeklyAthletes();
+		changed();
+	}
+
+	/**
+	 * Sets the list of purchasable Athletes to Athletes generated ahead of time.
+	 * 
+	 * @param athletes the list of purchasable Athletes
+	 */
+	public void setPurchasableAthletes(ArrayList<Athlete> athletes) {
+		purchasableAthletes = athletes;
+		changed();
 	}
 
 	/**
@@ -90,6 +107,17 @@ public class Market {
 	 */
 	public void setPurchasableItems() {
 		purchasableItems = randomPurchasables.generateWeeklyItems();
+		changed();
+	}
+
+	/**
+	 * Sets the list of purchasable Items to Items generated ahead of time.
+	 * 
+	 * @param items the list of purchasable Items
+	 */
+	public void setPurchasableItems(ArrayList<Item> items) {
+		purchasableItems = items;
+		changed();
 	}
 
 	/**
@@ -126,6 +154,7 @@ public class Market {
 	 */
 	public void addWeeklyPurchasedAthletes(Athlete athlete) {
 		weeklyPurchasedAthletes.add(athlete);
+		changed();
 	}
 
 	/**
@@ -135,6 +164,7 @@ public class Market {
 	 */
 	public void addWeeklyPurchasedItems(Item item) {
 		weeklyPurchasedItems.add(item);
+		changed();
 	}
 
 	/**
@@ -143,5 +173,72 @@ public class Market {
 	public void clearWeeklyPurchases() {
 		weeklyPurchasedAthletes.clear();
 		weeklyPurchasedItems.clear();
+		changed();
+	}
+
+	/**
+	 * Sets the ChangeBus the Market publishes its changes to. Called by the
+	 * GameManager that owns the Market.
+	 * 
+	 * @param newBus the ChangeBus
+	 */
+	void setChangeBus(ChangeBus newBus) {
+		bus = newBus;
+	}
+
+	/**
+	 * Publishes a MARKET change, if the Market has a ChangeBus.
+	 */
+	private void changed() {
+		if (bus != null) {
+			bus.publish(ChangeEvent.Kind.MARKET, this);
+		}
+	}
+
+	/**
+	 * Writes the lists of the Market to a save. The weekly purchases are written
+	 * as indices into the purchasable lists.
+	 * 
+	 * @param save the save to write to
+	 * @throws IOException if the save cannot be written
+	 */
+	void write(GameSave save) throws IOException {
+		save.putAthletes(purchasableAthletes);
+		save.putItems(purchasableItems);
+		save.putAthletes(starterAthletes);
+		save.putInt(weeklyPurchasedAthletes.size());
+		for (Athlete athlete : weeklyPurchasedAthletes) {
+			save.putInt(purchasableAthletes.indexOf(athlete));
+		}
+		save.putInt(weeklyPurchasedItems.size());
+		for (Item item : weeklyPurchasedItems) {
+			save.putInt(purchasableItems.indexOf(item));
+		}
+	}
+
+	/**
+	 * Restores the lists of the Market from a save written by write.
+	 * 
+	 * @param save the save to read from
+	 * @throws IOException if the save cannot be read
+	 */
+	void read(GameSave save) throws IOException {
+		purchasableAthletes = save.getAthletes();
+		purchasableItems = save.getItems();
+		starterAthletes = save.getAthletes();
+		weeklyPurchasedAthletes.clear();
+		for (int i = save.getInt(); i > 0; i--) {
+			int index = save.getInt();
+			if (index >= 0) {
+				weeklyPurchasedAthletes.add(purchasableAthletes.get(index));
+			}
+		}
+		weeklyPurchasedItems.clear();
+		for (int i = save.getInt(); i > 0; i--) {
+			int index = save.getInt();
+			if (index >= 0) {
+				weeklyPurchasedItems.add(purchasableItems.get(index));
+			}
+		}
 	}
 }
@@ -0,0 +1,84 @@
+package main;
+
+/**
+ * The MatchEngine class plays matches without any windows. It runs Gameplay
+ * for many pairs of Teams at once and collects the results, so that matches
+ * can be simulated in bulk away from the GameManager and the GUI.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class MatchEngine {
+	/**
+	 * The difficulty level the matches are played at.
+	 */
+	private Difficulty difficulty;
+
+	/**
+	 * Constructs a new MatchEngine object that plays matches at the given
+	 * difficulty.
+	 * 
+	 * @param difficulty The difficulty level of the matches.
+	 */
+	public MatchEngine(Difficulty difficulty) {
+		this.difficulty = difficulty;
+	}
+
+	/**
+	 * Plays a single match between the two Teams. The current stamina of the
+	 * player's Athletes is changed as it would be in a normal game.
+	 * 
+	 * @param playerTeam   The player's Team.
+	 * @param opposingTeam The opposing Team.
+	 * @return The result of the match.
+	 */
+	public MatchResult play(Team playerTeam, Team opposingTeam) {
+		int[] staminaDeltas = new int[Athlete.NUM_POSITIONS];
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			Athlete player = playerTeam.starter(position);
+			if (player != null) {
+				staminaDeltas[position.ordinal()] = -player.getStat(Athlete.STATS.CS);
+			}
+		}
+		Gameplay gamePlay = new Gameplay(playerTeam, opposingTeam, difficulty);
+		gamePlay.play();
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			Athlete player = playerTeam.starter(position);
+			if (player != null) {
+				staminaDeltas[position.ordinal()] += player.getStat(Athlete.STATS.CS);
+			}
+		}
+		return new MatchResult(gamePlay.getPlayerPoints(), gamePlay.getOpponentPoints(), gamePlay.declareWinner(),
+				staminaDeltas);
+	}
+
+	/**
+	 * Plays a match for each pair of Teams, where the Team at index i of
+	 * playerTeams plays the Team at index i of opposingTeams.
+	 * 
+	 * @param playerTeams   The player Teams.
+	 * @param opposingTeams The opposing Teams, the same length as playerTeams.
+	 * @return The results of the matches, in the same order as the Teams.
+	 * @throws IllegalArgumentException if the arrays have different lengths.
+	 */
+	public MatchResult[] playAll(Team[] playerTeams, Team[] opposingTeams) {
+		if (playerTeams.length != opposingTeams.length) {
+			throw new IllegalArgumentException("Each player Team needs exactly one opposing Team");
+		}
+		MatchResult[] results = new MatchResult[playerTeams.length];
+		for (int i = 0; i < playerTeams.length; i++) {
+			results[i] = play(playerTeams[i], opposingTeams[i]);
+		}
+		return results;
+	}
+
+	/**
+	 * Retrieves the difficulty level the matches are played at.
+	 * 
+	 * @return The difficulty level.
+	 */
+	public Difficulty getDifficulty() {
+		return difficulty;
+	}
+}
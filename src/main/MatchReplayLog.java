@@ -0,0 +1,243 @@
+package main;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The MatchReplayLog class appends a compact binary record of every match
+ * played to a file, so disputed results can be re-simulated exactly by a
+ * MatchReplayer. Each record holds the seed of the game, the difficulty, the
+ * result, and the stats of both starting lineups as they were before the
+ * match.
+ *
+ * The file starts with an 8 byte header (MAGIC, then VERSION) followed by
+ * records of RECORD_SIZE bytes in native byte order:
+ *
+ * <pre>
+ * offset  size  field
+ *  0      8     seed
+ *  8      1     difficulty (Difficulty ordinal)
+ *  9      1     outcome (Difficulty.WIN, DRAW or LOSS)
+ * 10      1     player points
+ * 11      1     opponent points
+ * 12      25    player's Athletes, by POSITION ordinal: O, D, S, A, CS
+ * 37      25    opposing Athletes, by POSITION ordinal: O, D, S, A, CS
+ * 62      2     padding
+ * </pre>
+ *
+ * Records are buffered and written in batches, so a log must be closed, or
+ * flushed, before it is replayed. A match can be recorded in two steps, begin
+ * before it is played and finish after, so the lineups are written as they were
+ * before the match without copying the Teams.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class MatchReplayLog implements Closeable {
+	/**
+	 * The first four bytes of a replay log file.
+	 */
+	public static final int MAGIC = 0x484D524C;
+
+	/**
+	 * The version of the record layout.
+	 */
+	public static final int VERSION = 1;
+
+	/**
+	 * The size of the file header in bytes.
+	 */
+	public static final int HEADER_SIZE = 8;
+
+	/**
+	 * The size of a record in bytes.
+	 */
+	public static final int RECORD_SIZE = 64;
+
+	/**
+	 * The offset of the player's lineup in a record.
+	 */
+	static final int PLAYER_LINEUP = 12;
+
+	/**
+	 * The offset of the opposing lineup in a record.
+	 */
+	static final int OPPOSING_LINEUP = PLAYER_LINEUP + Athlete.NUM_POSITIONS * Athlete.NUM_STATS;
+
+	/**
+	 * The number of records buffered before they are written to the file.
+	 */
+	private static final int RECORDS_PER_WRITE = 256;
+
+	/**
+	 * The channel of the log file.
+	 */
+	private FileChannel channel;
+
+	/**
+	 * The records waiting to be written.
+	 */
+	private ByteBuffer buffer = ByteBuffer.allocate(RECORDS_PER_WRITE * RECORD_SIZE).order(ByteOrder.nativeOrder());
+
+	/**
+	 * The stats of an Athlete, reused for each Athlete written.
+	 */
+	private int[] stats = new int[Athlete.NUM_STATS];
+
+	/**
+	 * The position in the buffer of the record begun but not yet finished, or -1
+	 * if there is none.
+	 */
+	private int begun = -1;
+
+	/**
+	 * Opens a replay log, creating the file if it does not exist and appending to
+	 * it if it does.
+	 *
+	 * @param path the path of the log file
+	 * @throws IOException if the file cannot be opened
+	 */
+	public MatchReplayLog(Path path) throws IOException {
+		channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		if (channel.size() == 0) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+			header.putInt(MAGIC).putInt(VERSION).flip();
+			while (header.hasRemaining()) {
+				channel.write(header);
+			}
+		}
+	}
+
+	/**
+	 * Records a match that has been played. The lineups are written as they are
+	 * now, after the match; to record them as they were before the match, call
+	 * begin before playing it and finish after.
+	 *
+	 * @param seed         the seed of the game
+	 * @param playerTeam   the player's Team
+	 * @param opposingTeam the opposing Team
+	 * @param difficulty   the difficulty level of the match
+	 * @param gamePlay     the Gameplay the match was played with
+	 * @throws IOException if the records cannot be written
+	 */
+	public void record(long seed, Team playerTeam, Team opposingTeam, Difficulty difficulty, Gameplay gamePlay)
+			throws IOException {
+		begin(seed, playerTeam, opposingTeam, difficulty);
+		finish(gamePlay);
+	}
+
+	/**
+	 * Begins the record of a match that is about to be played, writing the
+	 * lineups of both Teams as they are now. The record is completed by finish,
+	 * or dropped by abort if the match is not played. If the record cannot be
+	 * written, it is dropped.
+	 *
+	 * @param seed         the seed of the game
+	 * @param playerTeam   the player's Team
+	 * @param opposingTeam the opposing Team
+	 * @param difficulty   the difficulty level of the match
+	 * @throws IOException           if earlier records cannot be written
+	 * @throws IllegalStateException if a record has been begun and not finished
+	 */
+	public void begin(long seed, Team playerTeam, Team opposingTeam, Difficulty difficulty) throws IOException {
+		if (begun >= 0) {
+			throw new IllegalStateException("A match is already being recorded");
+		}
+		if (!buffer.hasRemaining()) {
+			flush();
+		}
+		begun = buffer.position();
+		try {
+			buffer.putLong(seed);
+			buffer.put((byte) difficulty.ordinal());
+			buffer.position(begun + PLAYER_LINEUP);
+			putLineup(playerTeam);
+			putLineup(opposingTeam);
+			buffer.putShort((short) 0);
+		} catch (RuntimeException e) {
+			abort();
+			throw e;
+		}
+	}
+
+	/**
+	 * Finishes the record begun by begin with the result of the match.
+	 *
+	 * @param gamePlay the Gameplay the match was played with
+	 * @throws IllegalStateException if no record has been begun
+	 */
+	public void finish(Gameplay gamePlay) {
+		if (begun < 0) {
+			throw new IllegalStateException("No match is being recorded");
+		}
+		buffer.put(begun + 9, (byte) gamePlay.getOutcome());
+		buffer.put(begun + 10, (byte) gamePlay.getPlayerPoints());
+		buffer.put(begun + 11, (byte) gamePlay.getOpponentPoints());
+		begun = -1;
+	}
+
+	/**
+	 * Drops the record begun by begin, so the next record is written in its
+	 * place. Does nothing if no record has been begun.
+	 */
+	public void abort() {
+		if (begun >= 0) {
+			buffer.position(begun);
+			begun = -1;
+		}
+	}
+
+	/**
+	 * Writes the buffered records to the file.
+	 *
+	 * @throws IOException           if the records cannot be written
+	 * @throws IllegalStateException if a record has been begun and not finished
+	 */
+	public void flush() throws IOException {
+		if (begun >= 0) {
+			throw new IllegalStateException("A match is still being recorded");
+		}
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	/**
+	 * Writes the buffered records and closes the file.
+	 *
+	 * @throws IOException if the records cannot be written
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Puts the stats of the starting lineup of a Team into the buffer, by
+	 * POSITION ordinal.
+	 *
+	 * @param team the Team
+	 */
+	private void putLineup(Team team) {
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			Athlete athlete = team.starter(position);
+			athlete.getStats(stats);
+			for (int stat : stats) {
+				buffer.put((byte) stat);
+			}
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package main;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The MatchReplayer class reads a log written by MatchReplayLog and plays the
+ * logged matches again through Gameplay to check that they give the same
+ * results. The log is memory-mapped and read in place, so no objects are
+ * deserialized and thousands of matches can be checked per second.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class MatchReplayer {
+	/**
+	 * The memory-mapped log file.
+	 */
+	private MappedByteBuffer log;
+
+	/**
+	 * The number of records in the log.
+	 */
+	private int size;
+
+	/**
+	 * The stats of an Athlete, reused for each Athlete read.
+	 */
+	private int[] stats = new int[Athlete.NUM_STATS];
+
+	/**
+	 * Opens a replay log for reading.
+	 *
+	 * @param path the path of the log file
+	 * @throws IOException              if the file cannot be read
+	 * @throws IllegalArgumentException if the file is not a replay log
+	 */
+	public MatchReplayer(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			long length = channel.size();
+			if (length < MatchReplayLog.HEADER_SIZE) {
+				throw new IllegalArgumentException("Not a replay log: " + path);
+			}
+			log = channel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+		}
+		log.order(ByteOrder.nativeOrder());
+		if (log.getInt(0) != MatchReplayLog.MAGIC || log.getInt(4) != MatchReplayLog.VERSION) {
+			throw new IllegalArgumentException("Not a replay log: " + path);
+		}
+		size = (log.capacity() - MatchReplayLog.HEADER_SIZE) / MatchReplayLog.RECORD_SIZE;
+	}
+
+	/**
+	 * Retrieves the number of matches in the log.
+	 *
+	 * @return the number of matches
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Retrieves the seed of the game a logged match was played in.
+	 *
+	 * @param index the index of the match
+	 * @return the seed
+	 */
+	public long getSeed(int index) {
+		return log.getLong(offset(index));
+	}
+
+	/**
+	 * Retrieves the logged result of a match.
+	 *
+	 * @param index the index of the match
+	 * @return the result: "player", "draw" or "opponent"
+	 */
+	public String getWinner(int index) {
+		return decodeWinner(log.get(offset(index) + 9));
+	}
+
+	/**
+	 * Retrieves the difficulty level a logged match was played at.
+	 *
+	 * @param index the index of the match
+	 * @return the difficulty level
+	 */
+	public Difficulty getDifficulty(int index) {
+		return Difficulty.values()[log.get(offset(index) + 8)];
+	}
+
+	/**
+	 * Plays a logged match again from the logged lineups.
+	 *
+	 * @param index the index of the match
+	 * @return the Gameplay the match was played again with
+	 */
+	public Gameplay replay(int index) {
+		int base = offset(index);
+		Team playerTeam = readLineup(base + MatchReplayLog.PLAYER_LINEUP);
+		Team opposingTeam = readLineup(base + MatchReplayLog.OPPOSING_LINEUP);
+		Gameplay gamePlay = new Gameplay(playerTeam, opposingTeam, getDifficulty(index));
+		gamePlay.play();
+		return gamePlay;
+	}
+
+	/**
+	 * Checks that playing a logged match again gives the logged points and
+	 * result.
+	 *
+	 * @param index the index of the match
+	 * @return true if the match gives the same result, false otherwise
+	 */
+	public boolean verify(int index) {
+		int base = offset(index);
+		Gameplay gamePlay = replay(index);
+		return gamePlay.getPlayerPoints() == log.get(base + 10) && gamePlay.getOpponentPoints() == log.get(base + 11)
+				&& gamePlay.getOutcome() == log.get(base + 9);
+	}
+
+	/**
+	 * Checks every logged match.
+	 *
+	 * @return the number of matches that gave a different result
+	 */
+	public int verifyAll() {
+		int mismatches = 0;
+		for (int i = 0; i < size; i++) {
+			if (!verify(i)) {
+				mismatches++;
+			}
+		}
+		return mismatches;
+	}
+
+	/**
+	 * Builds a Team from a logged lineup.
+	 *
+	 * @param start the offset of the lineup in the log
+	 * @return the Team
+	 */
+	private Team readLineup(int start) {
+		Team team = new Team((String) null);
+		int offset = start;
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			for (int i = 0; i < Athlete.NUM_STATS; i++) {
+				stats[i] = log.get(offset++);
+			}
+			team.addPlayer(new Athlete(position.name(), position, stats, 0, 0));
+		}
+		return team;
+	}
+
+	/**
+	 * Retrieves the offset of a record in the log.
+	 *
+	 * @param index the index of the record
+	 * @return the offset in bytes
+	 * @throws IndexOutOfBoundsException if there is no record at the index
+	 */
+	private int offset(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException(index);
+		}
+		return MatchReplayLog.HEADER_SIZE + index * MatchReplayLog.RECORD_SIZE;
+	}
+
+	/**
+	 * Decodes a result written by MatchReplayLog.
+	 *
+	 * @param winner the encoded result
+	 * @return the result: "player", "draw" or "opponent"
+	 */
+	private static String decodeWinner(byte winner) {
+		switch (winner) {
+		case 0:
+			return "player";
+		case 1:
+			return "draw";
+		default:
+			return "opponent";
+		}
+	}
+}
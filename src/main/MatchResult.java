@@ -0,0 +1,88 @@
+package main;
+
+/**
+ * The MatchResult class holds the outcome of a single match played by the
+ * MatchEngine: the points scored by each Team, the winner, and how much the
+ * current stamina of each of the player's starting Athletes changed.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class MatchResult {
+	/**
+	 * The total points earned by the player's Team.
+	 */
+	private int playerPoints;
+
+	/**
+	 * The total points earned by the opposing Team.
+	 */
+	private int opponentPoints;
+
+	/**
+	 * The result of the match: "player", "draw" or "opponent".
+	 */
+	private String winner;
+
+	/**
+	 * The change in current stamina of the player's starting Athletes, indexed by
+	 * POSITION ordinal.
+	 */
+	private int[] staminaDeltas;
+
+	/**
+	 * Constructs a new MatchResult object.
+	 * 
+	 * @param playerPoints   The total points earned by the player's Team.
+	 * @param opponentPoints The total points earned by the opposing Team.
+	 * @param winner         The result of the match.
+	 * @param staminaDeltas  The change in current stamina of the player's
+	 *                       starting Athletes, indexed by POSITION ordinal.
+	 */
+	public MatchResult(int playerPoints, int opponentPoints, String winner, int[] staminaDeltas) {
+		this.playerPoints = playerPoints;
+		this.opponentPoints = opponentPoints;
+		this.winner = winner;
+		this.staminaDeltas = staminaDeltas;
+	}
+
+	/**
+	 * Retrieves the total points earned by the player's Team.
+	 *
+	 * @return The total points earned by the player's Team.
+	 */
+	public int getPlayerPoints() {
+		return playerPoints;
+	}
+
+	/**
+	 * Retrieves the total points earned by the opposing Team.
+	 *
+	 * @return The total points earned by the opposing Team.
+	 */
+	public int getOpponentPoints() {
+		return opponentPoints;
+	}
+
+	/**
+	 * Retrieves the result of the match.
+	 *
+	 * @return "player" if the player's Team won, "draw" if the points were equal,
+	 *         or "opponent" if the opposing Team won.
+	 */
+	public String getWinner() {
+		return winner;
+	}
+
+	/**
+	 * Retrieves the change in current stamina of the player's starting Athlete at
+	 * the given position.
+	 *
+	 * @param position The position of the starting Athlete.
+	 * @return The change in current stamina, zero or negative.
+	 */
+	public int getStaminaDelta(Athlete.POSITION position) {
+		return staminaDeltas[position.ordinal()];
+	}
+}
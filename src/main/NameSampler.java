@@ -0,0 +1,120 @@
+package main;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.random.RandomGenerator;
+
+/**
+ * The NameSampler class draws unique names from a fixed pool without
+ * repetition. Each draw is one step of a Fisher-Yates shuffle, so it takes
+ * constant time no matter how many names have been used. Once every name in
+ * the pool has been drawn, the pool is reused with a numbered suffix (e.g.
+ * "Celtics 2"), so drawing never runs out of names.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class NameSampler {
+	/**
+	 * The names that can be drawn. The first drawn entries are the names already
+	 * used in the current pass.
+	 */
+	private String[] pool;
+
+	/**
+	 * The number of names drawn in the current pass through the pool.
+	 */
+	private int drawn = 0;
+
+	/**
+	 * The number of complete passes made through the pool since the last reset.
+	 */
+	private int passes = 0;
+
+	/**
+	 * Constructs a new NameSampler drawing from the given names.
+	 *
+	 * @param names the names that can be drawn
+	 * @throws IllegalArgumentException if there are no names to draw from
+	 */
+	public NameSampler(List<String> names) {
+		if (names.isEmpty()) {
+			throw new IllegalArgumentException("At least one name is required");
+		}
+		pool = names.toArray(new String[0]);
+	}
+
+	/**
+	 * Draws a name that has not been drawn since the last reset.
+	 *
+	 * @param random the random number generator to draw with
+	 * @return the drawn name
+	 */
+	public String next(RandomGenerator random) {
+		if (drawn == pool.length) {
+			drawn = 0;
+			passes++;
+		}
+		int index = drawn + random.nextInt(pool.length - drawn);
+		String name = pool[index];
+		pool[index] = pool[drawn];
+		pool[drawn] = name;
+		drawn++;
+		if (passes > 0) {
+			return name + " " + (passes + 1);
+		}
+		return name;
+	}
+
+	/**
+	 * Retrieves the number of names that can be drawn before suffixes are used.
+	 *
+	 * @return the number of unused names left in the pool
+	 */
+	public int remaining() {
+		if (passes > 0) {
+			return 0;
+		}
+		return pool.length - drawn;
+	}
+
+	/**
+	 * Makes every name in the pool available to be drawn again.
+	 */
+	public void reset() {
+		drawn = 0;
+		passes = 0;
+	}
+
+	/**
+	 * Writes the state of the sampler to a save: the order of the pool and how
+	 * far through it the sampler is.
+	 *
+	 * @param save the save to write to
+	 * @throws IOException if the save cannot be written
+	 */
+	void write(GameSave save) throws IOException {
+		save.putInt(pool.length);
+		for (String name : pool) {
+			save.putString(name);
+		}
+		save.putInt(drawn);
+		save.putInt(passes);
+	}
+
+	/**
+	 * Restores the state of the sampler from a save written by write.
+	 *
+	 * @param save the save to read from
+	 * @throws IOException if the save cannot be read
+	 */
+	void read(GameSave save) throws IOException {
+		pool = new String[save.getInt()];
+		for (int i = 0; i < pool.length; i++) {
+			pool[i] = save.getString();
+		}
+		drawn = save.getInt();
+		passes = save.getInt();
+	}
+}
@@ -0,0 +1,306 @@
+package main;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * The OffHeapAthleteStore class stores Athletes in direct ByteBuffers, which
+ * live in native memory outside the Java heap. The garbage collector never
+ * scans or copies the rows, so stores of tens of millions of Athletes do not
+ * cause long GC pauses.
+ *
+ * Each Athlete is a fixed size record:
+ *
+ * <pre>
+ * offset  size  field
+ *  0      5     O, D, S, A, CS (one byte each, by STATS ordinal)
+ *  5      1     rating
+ *  6      1     position (POSITION ordinal)
+ *  7      1     padding
+ *  8      4     price
+ * 12      4     injuries
+ * 16      4     name id
+ * </pre>
+ *
+ * Records are kept in chunks of ROWS_PER_CHUNK rows, so the store can grow
+ * past the 2 GB limit of a single buffer without copying existing rows. Names
+ * are stored once each in a dictionary on the heap and referenced by id.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class OffHeapAthleteStore implements AthleteStore {
+	/**
+	 * The size of a record in bytes.
+	 */
+	public static final int RECORD_SIZE = 20;
+
+	/**
+	 * The number of rows in each chunk.
+	 */
+	public static final int ROWS_PER_CHUNK = 1 << 16;
+
+	/**
+	 * The offset of the rating in a record.
+	 */
+	private static final int RATING = 5;
+
+	/**
+	 * The offset of the position in a record.
+	 */
+	private static final int POSITION = 6;
+
+	/**
+	 * The offset of the price in a record.
+	 */
+	private static final int PRICE = 8;
+
+	/**
+	 * The offset of the injuries in a record.
+	 */
+	private static final int INJURIES = 12;
+
+	/**
+	 * The offset of the name id in a record.
+	 */
+	private static final int NAME_ID = 16;
+
+	/**
+	 * The chunks of records.
+	 */
+	private ArrayList<ByteBuffer> chunks = new ArrayList<ByteBuffer>();
+
+	/**
+	 * The number of rows in the store.
+	 */
+	private int size = 0;
+
+	/**
+	 * The names in the dictionary, indexed by id.
+	 */
+	private ArrayList<String> names = new ArrayList<String>();
+
+	/**
+	 * The ids of the names in the dictionary.
+	 */
+	private HashMap<String, Integer> ids = new HashMap<String, Integer>();
+
+	/**
+	 * Constructs a new empty OffHeapAthleteStore. Native memory is allocated one
+	 * chunk at a time as rows are added.
+	 */
+	public OffHeapAthleteStore() {
+	}
+
+	@Override
+	public int add(String name, Athlete.POSITION position, int offence, int defence, int stamina, int agility) {
+		int row = newRow();
+		ByteBuffer chunk = chunk(row);
+		int base = offset(row);
+		chunk.put(base + Athlete.STATS.O.ordinal(), (byte) offence);
+		chunk.put(base + Athlete.STATS.D.ordinal(), (byte) defence);
+		chunk.put(base + Athlete.STATS.S.ordinal(), (byte) stamina);
+		chunk.put(base + Athlete.STATS.A.ordinal(), (byte) agility);
+		chunk.put(base + Athlete.STATS.CS.ordinal(), (byte) stamina);
+		int rating = (offence + defence + stamina + agility) / 4;
+		chunk.put(base + RATING, (byte) rating);
+		chunk.put(base + POSITION, (byte) position.ordinal());
+		chunk.putInt(base + PRICE, rating * 20);
+		chunk.putInt(base + INJURIES, 0);
+		chunk.putInt(base + NAME_ID, nameId(name));
+		return row;
+	}
+
+	@Override
+	public int add(Athlete athlete) {
+		int row = newRow();
+		set(row, athlete);
+		return row;
+	}
+
+	@Override
+	public Athlete get(int row) {
+		ByteBuffer chunk = chunk(row);
+		int base = offset(row);
+		int[] values = new int[Athlete.NUM_STATS];
+		for (int i = 0; i < Athlete.NUM_STATS; i++) {
+			values[i] = chunk.get(base + i);
+		}
+		return new Athlete(names.get(chunk.getInt(base + NAME_ID)), Athlete.POSITIONS[chunk.get(base + POSITION)],
+				values, chunk.getInt(base + PRICE), chunk.getInt(base + INJURIES));
+	}
+
+	@Override
+	public void set(int row, Athlete athlete) {
+		ByteBuffer chunk = chunk(row);
+		int base = offset(row);
+		for (Athlete.STATS stat : Athlete.STATS.values()) {
+			chunk.put(base + stat.ordinal(), (byte) athlete.getStat(stat));
+		}
+		chunk.put(base + RATING, (byte) athlete.getRating());
+		chunk.put(base + POSITION, (byte) athlete.getPosition().ordinal());
+		chunk.putInt(base + PRICE, athlete.getPrice());
+		chunk.putInt(base + INJURIES, athlete.getInjuries());
+		chunk.putInt(base + NAME_ID, nameId(athlete.getName()));
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public String getName(int row) {
+		return names.get(chunk(row).getInt(offset(row) + NAME_ID));
+	}
+
+	@Override
+	public Athlete.POSITION getPosition(int row) {
+		return Athlete.POSITIONS[chunk(row).get(offset(row) + POSITION)];
+	}
+
+	@Override
+	public int getStat(int row, Athlete.STATS stat) {
+		return chunk(row).get(offset(row) + stat.ordinal());
+	}
+
+	@Override
+	public int getRating(int row) {
+		return chunk(row).get(offset(row) + RATING);
+	}
+
+	@Override
+	public int getPrice(int row) {
+		return chunk(row).getInt(offset(row) + PRICE);
+	}
+
+	@Override
+	public int getInjuries(int row) {
+		return chunk(row).getInt(offset(row) + INJURIES);
+	}
+
+	@Override
+	public boolean isInjured(int row) {
+		return chunk(row).get(offset(row) + Athlete.STATS.CS.ordinal()) == 0;
+	}
+
+	@Override
+	public void changeStat(int row, int value, Athlete.STATS stat) {
+		ByteBuffer chunk = chunk(row);
+		int base = offset(row);
+		int oldVal = chunk.get(base + stat.ordinal());
+		int newVal = Math.max(0, Math.min(99, oldVal + value));
+		chunk.put(base + stat.ordinal(), (byte) newVal);
+		if (stat != Athlete.STATS.CS) {
+			int rating = (chunk.get(base + Athlete.STATS.O.ordinal()) + chunk.get(base + Athlete.STATS.D.ordinal())
+					+ chunk.get(base + Athlete.STATS.A.ordinal()) + chunk.get(base + Athlete.STATS.S.ordinal())) / 4;
+			chunk.put(base + RATING, (byte) rating);
+		} else if (oldVal > 0 && newVal == 0) {
+			chunk.putInt(base + INJURIES, chunk.getInt(base + INJURIES) + 1);
+		}
+	}
+
+	@Override
+	public void restoreCurrentStamina(int row) {
+		ByteBuffer chunk = chunk(row);
+		int base = offset(row);
+		chunk.put(base + Athlete.STATS.CS.ordinal(), chunk.get(base + Athlete.STATS.S.ordinal()));
+	}
+
+	@Override
+	public int bestRating(Athlete.POSITION position) {
+		int target = position.ordinal();
+		int best = -1;
+		int bestRating = -1;
+		for (int c = 0; c < chunks.size(); c++) {
+			ByteBuffer chunk = chunks.get(c);
+			int first = c * ROWS_PER_CHUNK;
+			int rows = Math.min(ROWS_PER_CHUNK, size - first);
+			for (int i = 0, base = 0; i < rows; i++, base += RECORD_SIZE) {
+				if (chunk.get(base + POSITION) == target && chunk.get(base + RATING) > bestRating) {
+					bestRating = chunk.get(base + RATING);
+					best = first + i;
+				}
+			}
+		}
+		return best;
+	}
+
+	@Override
+	public int[] bestRatingByPosition() {
+		int[] best = new int[Athlete.NUM_POSITIONS];
+		int[] bestRating = new int[Athlete.NUM_POSITIONS];
+		Arrays.fill(best, -1);
+		Arrays.fill(bestRating, -1);
+		for (int c = 0; c < chunks.size(); c++) {
+			ByteBuffer chunk = chunks.get(c);
+			int first = c * ROWS_PER_CHUNK;
+			int rows = Math.min(ROWS_PER_CHUNK, size - first);
+			for (int i = 0, base = 0; i < rows; i++, base += RECORD_SIZE) {
+				int position = chunk.get(base + POSITION);
+				int rating = chunk.get(base + RATING);
+				if (rating > bestRating[position]) {
+					bestRating[position] = rating;
+					best[position] = first + i;
+				}
+			}
+		}
+		return best;
+	}
+
+	/**
+	 * Appends an empty row, allocating a new chunk if the last one is full.
+	 *
+	 * @return the index of the new row
+	 */
+	private int newRow() {
+		if (size == chunks.size() * ROWS_PER_CHUNK) {
+			chunks.add(ByteBuffer.allocateDirect(ROWS_PER_CHUNK * RECORD_SIZE).order(ByteOrder.nativeOrder()));
+		}
+		return size++;
+	}
+
+	/**
+	 * Retrieves the chunk holding a row.
+	 *
+	 * @param row the row
+	 * @return the chunk
+	 * @throws IndexOutOfBoundsException if the row does not exist
+	 */
+	private ByteBuffer chunk(int row) {
+		if (row < 0 || row >= size) {
+			throw new IndexOutOfBoundsException(row);
+		}
+		return chunks.get(row / ROWS_PER_CHUNK);
+	}
+
+	/**
+	 * Retrieves the offset of a row's record within its chunk.
+	 *
+	 * @param row the row
+	 * @return the offset in bytes
+	 */
+	private static int offset(int row) {
+		return (row % ROWS_PER_CHUNK) * RECORD_SIZE;
+	}
+
+	/**
+	 * Retrieves the id of a name, adding it to the dictionary if it is new.
+	 *
+	 * @param name the name
+	 * @return the id of the name
+	 */
+	private int nameId(String name) {
+		Integer id = ids.get(name);
+		if (id == null) {
+			id = names.size();
+			names.add(name);
+			ids.put(name, id);
+		}
+		return id;
+	}
+}
@@ -0,0 +1,127 @@
+package main;
+
+/**
+ * The PlayByPlayEvent class describes one possession of a match played by a
+ * PossessionEngine, along with the score after it, for displays that follow a
+ * match as it is played.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class PlayByPlayEvent {
+	/**
+	 * The number of the possession in the match, from 0.
+	 */
+	private int number;
+
+	/**
+	 * The side with the ball: PossessionEngine.PLAYER or PossessionEngine.OPPONENT.
+	 */
+	private int side;
+
+	/**
+	 * The position of the Athlete with the ball.
+	 */
+	private Athlete.POSITION position;
+
+	/**
+	 * The points scored in the possession.
+	 */
+	private int points;
+
+	/**
+	 * The points of the player's Team after the possession.
+	 */
+	private int playerScore;
+
+	/**
+	 * The points of the opposing Team after the possession.
+	 */
+	private int opponentScore;
+
+	/**
+	 * Constructs a new PlayByPlayEvent.
+	 *
+	 * @param number        the number of the possession in the match
+	 * @param side          the side with the ball
+	 * @param position      the position of the Athlete with the ball
+	 * @param points        the points scored in the possession
+	 * @param playerScore   the points of the player's Team after the possession
+	 * @param opponentScore the points of the opposing Team after the possession
+	 */
+	public PlayByPlayEvent(int number, int side, Athlete.POSITION position, int points, int playerScore,
+			int opponentScore) {
+		this.number = number;
+		this.side = side;
+		this.position = position;
+		this.points = points;
+		this.playerScore = playerScore;
+		this.opponentScore = opponentScore;
+	}
+
+	/**
+	 * Retrieves the number of the possession in the match.
+	 *
+	 * @return the number of the possession, from 0
+	 */
+	public int getNumber() {
+		return number;
+	}
+
+	/**
+	 * Retrieves the side with the ball.
+	 *
+	 * @return PossessionEngine.PLAYER or PossessionEngine.OPPONENT
+	 */
+	public int getSide() {
+		return side;
+	}
+
+	/**
+	 * Retrieves the position of the Athlete with the ball.
+	 *
+	 * @return the position
+	 */
+	public Athlete.POSITION getPosition() {
+		return position;
+	}
+
+	/**
+	 * Retrieves the points scored in the possession.
+	 *
+	 * @return the points, or 0 for a miss
+	 */
+	public int getPoints() {
+		return points;
+	}
+
+	/**
+	 * Retrieves the points of the player's Team after the possession.
+	 *
+	 * @return the points of the player's Team
+	 */
+	public int getPlayerScore() {
+		return playerScore;
+	}
+
+	/**
+	 * Retrieves the points of the opposing Team after the possession.
+	 *
+	 * @return the points of the opposing Team
+	 */
+	public int getOpponentScore() {
+		return opponentScore;
+	}
+
+	/**
+	 * Returns a line of commentary for the possession.
+	 *
+	 * @return the commentary
+	 */
+	public String toString() {
+		String team = side == PossessionEngine.PLAYER ? "Your " : "Their ";
+		String play = points == 0 ? " misses" : " scores " + points;
+		return team + position + play + " (" + playerScore + "-" + opponentScore + ")";
+	}
+}
@@ -0,0 +1,102 @@
+package main;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.random.RandomGenerator;
+
+/**
+ * The PlayByPlayPublisher class plays a match with a PossessionEngine and
+ * publishes each possession as a PlayByPlayEvent to its subscribers, then
+ * completes.
+ *
+ * Each subscriber has a buffer of at most bufferCapacity events. When a slow
+ * subscriber's buffer is full, play waits until the subscriber catches up, so
+ * memory use stays bounded however slow the subscriber is. A subscriber that
+ * requests Long.MAX_VALUE events receives them as fast as the match is
+ * simulated.
+ *
+ * A PlayByPlayPublisher publishes a single match: play completes every
+ * subscriber, so it can only be called once, and a new PlayByPlayPublisher is
+ * needed for each match. Subscribers must subscribe before play is called, and
+ * play is usually called on a background thread, since it may wait for
+ * subscribers.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class PlayByPlayPublisher implements Flow.Publisher<PlayByPlayEvent> {
+	/**
+	 * The publisher that buffers events and delivers them to subscribers.
+	 */
+	private SubmissionPublisher<PlayByPlayEvent> publisher;
+
+	/**
+	 * The engine the match is played with.
+	 */
+	private PossessionEngine engine;
+
+	/**
+	 * Constructs a new PlayByPlayPublisher.
+	 *
+	 * @param executor       the executor events are delivered to subscribers on
+	 * @param bufferCapacity the maximum number of events buffered per subscriber,
+	 *                       rounded up to a power of two
+	 * @param random         the random number generator possessions are decided
+	 *                       with
+	 */
+	public PlayByPlayPublisher(Executor executor, int bufferCapacity, RandomGenerator random) {
+		publisher = new SubmissionPublisher<PlayByPlayEvent>(executor, bufferCapacity);
+		engine = new PossessionEngine(random);
+	}
+
+	@Override
+	public void subscribe(Flow.Subscriber<? super PlayByPlayEvent> subscriber) {
+		publisher.subscribe(subscriber);
+	}
+
+	/**
+	 * Plays a match between two Teams, publishing each possession, and then
+	 * completes every subscriber. Waits whenever a subscriber's buffer is full.
+	 *
+	 * @param playerTeam   the player's Team
+	 * @param opposingTeam the opposing Team
+	 * @return the engine the match was played with, holding the final score
+	 * @throws IllegalStateException if a match has already been played
+	 */
+	public PossessionEngine play(Team playerTeam, Team opposingTeam) {
+		if (publisher.isClosed()) {
+			throw new IllegalStateException("A PlayByPlayPublisher can only play one match");
+		}
+		engine.load(playerTeam, opposingTeam);
+		int[] scores = new int[2];
+		engine.play((number, side, position, points) -> {
+			scores[side] += points;
+			publisher.submit(new PlayByPlayEvent(number, side, Athlete.POSITIONS[position], points,
+					scores[PossessionEngine.PLAYER], scores[PossessionEngine.OPPONENT]));
+		});
+		publisher.close();
+		return engine;
+	}
+
+	/**
+	 * Retrieves the maximum number of events buffered per subscriber.
+	 *
+	 * @return the buffer capacity
+	 */
+	public int getBufferCapacity() {
+		return publisher.getMaxBufferCapacity();
+	}
+
+	/**
+	 * Retrieves the largest number of events published but not yet consumed by
+	 * any one subscriber. This is at most the buffer capacity plus the event the
+	 * subscriber is handling.
+	 *
+	 * @return the largest lag
+	 */
+	public int getMaximumLag() {
+		return publisher.estimateMaximumLag();
+	}
+}
@@ -0,0 +1,232 @@
+package main;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The PossessionEngine class plays a match one possession at a time instead
+ * of deciding it with one rating comparison per position. The sides take
+ * turns with the ball, and each possession is a shot by one Athlete against
+ * the defence of the Athlete in the same position:
+ * <ul>
+ * <li>the chance of scoring is the shooter's offence against the defender's
+ * defence, both reduced as their current stamina runs down;</li>
+ * <li>a made shot is worth 3 points if the shooter's agility wins a second
+ * roll, and 2 otherwise;</li>
+ * <li>the shooter and defender each lose STAMINA_PER_POSSESSION current
+ * stamina.</li>
+ * </ul>
+ * The number of possessions in a match, the tempo, grows with the agility of
+ * all ten Athletes.
+ *
+ * The stats of both lineups are copied into preallocated arrays when a match
+ * is loaded, and each possession is passed to a PossessionSink as primitive
+ * values, so playing a match creates no objects. An engine can be reused for
+ * any number of matches, but not by several threads at once.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class PossessionEngine {
+	/**
+	 * The side of the player's Team.
+	 */
+	public static final int PLAYER = 0;
+
+	/**
+	 * The side of the opposing Team.
+	 */
+	public static final int OPPONENT = 1;
+
+	/**
+	 * The number of possessions in a match before agility is added.
+	 */
+	public static final int BASE_POSSESSIONS = 60;
+
+	/**
+	 * The total agility of all ten Athletes that adds one possession to a match.
+	 */
+	public static final int AGILITY_PER_POSSESSION = 20;
+
+	/**
+	 * The current stamina the shooter and the defender each lose per possession.
+	 */
+	public static final int STAMINA_PER_POSSESSION = 1;
+
+	/**
+	 * The offence of each Athlete, indexed by side * NUM_POSITIONS + POSITION
+	 * ordinal.
+	 */
+	private int[] offence = new int[2 * Athlete.NUM_POSITIONS];
+
+	/**
+	 * The defence of each Athlete, indexed like offence.
+	 */
+	private int[] defence = new int[2 * Athlete.NUM_POSITIONS];
+
+	/**
+	 * The agility of each Athlete, indexed like offence.
+	 */
+	private int[] agility = new int[2 * Athlete.NUM_POSITIONS];
+
+	/**
+	 * The current stamina of each Athlete, indexed like offence. Runs down as the
+	 * match is played.
+	 */
+	private int[] stamina = new int[2 * Athlete.NUM_POSITIONS];
+
+	/**
+	 * The points scored by each side.
+	 */
+	private int[] scores = new int[2];
+
+	/**
+	 * The number of possessions in the last match played.
+	 */
+	private int possessions;
+
+	/**
+	 * The random number generator possessions are decided with.
+	 */
+	private RandomGenerator random;
+
+	/**
+	 * Constructs a new PossessionEngine.
+	 *
+	 * @param random the random number generator possessions are decided with
+	 */
+	public PossessionEngine(RandomGenerator random) {
+		this.random = random;
+	}
+
+	/**
+	 * Loads the starting lineups of two Teams for the next match. An empty
+	 * position is loaded with all stats 0.
+	 *
+	 * @param playerTeam   the player's Team
+	 * @param opposingTeam the opposing Team
+	 */
+	public void load(Team playerTeam, Team opposingTeam) {
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			load(PLAYER, position.ordinal(), playerTeam.starter(position));
+			load(OPPONENT, position.ordinal(), opposingTeam.starter(position));
+		}
+	}
+
+	/**
+	 * Loads the stats of one Athlete for the next match.
+	 *
+	 * @param side     PLAYER or OPPONENT
+	 * @param position the POSITION ordinal of the Athlete
+	 * @param athlete  the Athlete, or null for an empty position
+	 */
+	private void load(int side, int position, Athlete athlete) {
+		if (athlete == null) {
+			load(side, position, 0, 0, 0, 0);
+		} else {
+			load(side, position, athlete.getStat(Athlete.STATS.O), athlete.getStat(Athlete.STATS.D),
+					athlete.getStat(Athlete.STATS.A), athlete.getStat(Athlete.STATS.CS));
+		}
+	}
+
+	/**
+	 * Loads the stats of one Athlete for the next match, for callers that hold
+	 * stats as primitives, such as an AthleteStore.
+	 *
+	 * @param side           PLAYER or OPPONENT
+	 * @param position       the POSITION ordinal of the Athlete
+	 * @param offence        the offence stat
+	 * @param defence        the defence stat
+	 * @param agility        the agility stat
+	 * @param currentStamina the current stamina
+	 */
+	public void load(int side, int position, int offence, int defence, int agility, int currentStamina) {
+		int slot = side * Athlete.NUM_POSITIONS + position;
+		this.offence[slot] = offence;
+		this.defence[slot] = defence;
+		this.agility[slot] = agility;
+		stamina[slot] = currentStamina;
+	}
+
+	/**
+	 * Plays a match between the loaded lineups, passing each possession to the
+	 * sink.
+	 *
+	 * @param sink the sink receiving the possessions
+	 */
+	public void play(PossessionSink sink) {
+		scores[PLAYER] = 0;
+		scores[OPPONENT] = 0;
+		int totalAgility = 0;
+		for (int value : agility) {
+			totalAgility += value;
+		}
+		possessions = BASE_POSSESSIONS + totalAgility / AGILITY_PER_POSSESSION;
+		for (int number = 0; number < possessions; number++) {
+			int side = number & 1;
+			int position = (number >> 1) % Athlete.NUM_POSITIONS;
+			int shooter = side * Athlete.NUM_POSITIONS + position;
+			int defender = (1 - side) * Athlete.NUM_POSITIONS + position;
+			int attack = tired(offence[shooter], stamina[shooter]);
+			int points = 0;
+			if (random.nextInt(attack + tired(defence[defender], stamina[defender]) + 1) < attack) {
+				points = random.nextInt(100) < agility[shooter] / 2 ? 3 : 2;
+				scores[side] += points;
+			}
+			stamina[shooter] = Math.max(0, stamina[shooter] - STAMINA_PER_POSSESSION);
+			stamina[defender] = Math.max(0, stamina[defender] - STAMINA_PER_POSSESSION);
+			sink.possession(number, side, position, points);
+		}
+	}
+
+	/**
+	 * Reduces a stat by how tired an Athlete is. An Athlete with 100 current
+	 * stamina plays at full strength and one with none plays at half strength.
+	 *
+	 * @param stat    the stat
+	 * @param stamina the current stamina of the Athlete
+	 * @return the reduced stat
+	 */
+	private static int tired(int stat, int stamina) {
+		return stat * (100 + stamina) / 200;
+	}
+
+	/**
+	 * Retrieves the points scored by a side in the last match played.
+	 *
+	 * @param side PLAYER or OPPONENT
+	 * @return the points scored
+	 */
+	public int getScore(int side) {
+		return scores[side];
+	}
+
+	/**
+	 * Retrieves the current stamina of an Athlete after the last match played.
+	 *
+	 * @param side     PLAYER or OPPONENT
+	 * @param position the POSITION ordinal of the Athlete
+	 * @return the current stamina
+	 */
+	public int getStamina(int side, int position) {
+		return stamina[side * Athlete.NUM_POSITIONS + position];
+	}
+
+	/**
+	 * Retrieves the number of possessions in the last match played.
+	 *
+	 * @return the number of possessions
+	 */
+	public int getPossessions() {
+		return possessions;
+	}
+
+	/**
+	 * Determines the outcome of the last match played for the player's side.
+	 *
+	 * @return Difficulty.WIN, Difficulty.DRAW or Difficulty.LOSS
+	 */
+	public int getOutcome() {
+		return Difficulty.outcome(scores[PLAYER], scores[OPPONENT]);
+	}
+}
@@ -0,0 +1,24 @@
+package main;
+
+/**
+ * The PossessionSink interface receives the possessions of a match played by
+ * a PossessionEngine as they happen. Each possession is passed as primitive
+ * values, so no objects are created per possession.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+@FunctionalInterface
+public interface PossessionSink {
+	/**
+	 * Called after each possession.
+	 *
+	 * @param number   the number of the possession in the match, from 0
+	 * @param side     the side with the ball: PossessionEngine.PLAYER or
+	 *                 PossessionEngine.OPPONENT
+	 * @param position the POSITION ordinal of the Athlete with the ball
+	 * @param points   the points scored, or 0 for a miss
+	 */
+	void possession(int number, int side, int position, int points);
+}
@@ -0,0 +1,85 @@
+package main;
+
+import java.util.ArrayList;
+
+/**
+ * The PregeneratedWeek class holds the Market Athletes and Items and the
+ * opposing Teams of a week, generated ahead of time so moving on to that week
+ * only swaps them in.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class PregeneratedWeek {
+	/**
+	 * The Athletes for sale in the Market during the week.
+	 */
+	private ArrayList<Athlete> athletes;
+
+	/**
+	 * The Items for sale in the Market during the week.
+	 */
+	private ArrayList<Item> items;
+
+	/**
+	 * The opposing Teams of the week.
+	 */
+	private ArrayList<Team> teams;
+
+	/**
+	 * Constructs a new PregeneratedWeek.
+	 *
+	 * @param athletes the Athletes for sale in the Market
+	 * @param items    the Items for sale in the Market
+	 * @param teams    the opposing Teams
+	 */
+	public PregeneratedWeek(ArrayList<Athlete> athletes, ArrayList<Item> items, ArrayList<Team> teams) {
+		this.athletes = athletes;
+		this.items = items;
+		this.teams = teams;
+	}
+
+	/**
+	 * Generates the next week in the same order as moving on to a week always
+	 * has: the Market with the current multiplier, then the opposing Teams with
+	 * the multiplier of the next week. The generator's multiplier is incremented,
+	 * so the generator must not be shared with the game.
+	 *
+	 * @param generator a generator split off the game's generator
+	 * @return the generated week
+	 */
+	public static PregeneratedWeek generate(GenerateRandom generator) {
+		ArrayList<Athlete> athletes = generator.generateWeeklyAthletes();
+		ArrayList<Item> items = generator.generateWeeklyItems();
+		generator.incrementMultiplier();
+		return new PregeneratedWeek(athletes, items, generator.generateTeams());
+	}
+
+	/**
+	 * Retrieves the Athletes for sale in the Market during the week.
+	 *
+	 * @return the Athletes
+	 */
+	public ArrayList<Athlete> getAthletes() {
+		return athletes;
+	}
+
+	/**
+	 * Retrieves the Items for sale in the Market during the week.
+	 *
+	 * @return the Items
+	 */
+	public ArrayList<Item> getItems() {
+		return items;
+	}
+
+	/**
+	 * Retrieves the opposing Teams of the week.
+	 *
+	 * @return the Teams
+	 */
+	public ArrayList<Team> getTeams() {
+		return teams;
+	}
+}
@@ -1,7 +1,7 @@
 package main;
 
 import java.util.ArrayList;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
  * This is the RandomEvent class. This class controls the logic for generating
@@ -15,7 +15,7 @@ public class RandomEvent {
 	/**
 	 * The random number generator used for generating random events.
 	 */
-	private Random random;
+	private SplittableRandom random;
 
 	/**
 	 * The randomly generated integer used for event generation comparison.
@@ -30,7 +30,7 @@ public class RandomEvent {
 	/**
 	 * The instance of the GenerateRandom class used for generating random Athletes.
 	 */
-	private GenerateRandom generateRandom = new GenerateRandom();
+	private GenerateRandom generateRandom;
 
 	/**
 	 * Constructs a new RandomEvent object with the given Team.
@@ -38,7 +38,19 @@ public class RandomEvent {
 	 * @param tempTeam The Team object to which the random events will be applied.
 	 */
 	public RandomEvent(Team tempTeam) {
-		random = new Random();
+		this(tempTeam, new SplittableRandom());
+	}
+
+	/**
+	 * Constructs a new RandomEvent object with the given Team that draws from the
+	 * given random number generator.
+	 *
+	 * @param tempTeam The Team object to which the random events will be applied.
+	 * @param tempRandom The random number generator used for generating events.
+	 */
+	public RandomEvent(Team tempTeam, SplittableRandom tempRandom) {
+		random = tempRandom;
+		generateRandom = new GenerateRandom(random.split());
 		randomInt = random.nextInt(50);
 		team = tempTeam;
 	}
@@ -76,7 +88,7 @@ public class RandomEvent {
 			switch (event) {
 			case 0:
 				// Random starter Athlete gets a stat boost
-				Athlete athlete = team.getPlayersArray().get(random.nextInt(team.getPlayersArray().size()));
+				Athlete athlete = team.starter(random.nextInt(team.getStarterCount()));
 				athlete.changeStat(random.nextInt(1, 11), Athlete.STATS.O);
 				athlete.changeStat(random.nextInt(1, 11), Athlete.STATS.D);
 				athlete.changeStat(random.nextInt(1, 11), Athlete.STATS.A);
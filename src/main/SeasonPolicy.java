@@ -0,0 +1,83 @@
+package main;
+
+import java.util.ArrayList;
+
+/**
+ * The SeasonPolicy interface makes the player's decisions when a SeasonSimulator
+ * plays a season without the GUI: what to buy, which opponent to play or
+ * whether to take a bye, and which Athlete to train during a bye.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public interface SeasonPolicy {
+	/**
+	 * Called at the start of each week so the policy can buy from the Market or
+	 * change the lineup. Does nothing by default.
+	 *
+	 * @param manager the GameManager of the season
+	 */
+	default void visitShop(GameManager manager) {
+	}
+
+	/**
+	 * Chooses the opposing Team to play this week.
+	 *
+	 * @param manager   the GameManager of the season
+	 * @param opponents the opposing Teams available this week
+	 * @return the Team to play, or null to take a bye
+	 */
+	Team chooseOpponent(GameManager manager, ArrayList<Team> opponents);
+
+	/**
+	 * Chooses the Athlete to train during a bye. Trains nobody by default.
+	 *
+	 * @param manager the GameManager of the season
+	 * @return the Athlete to train, or null to train nobody
+	 */
+	default Athlete chooseAthleteToTrain(GameManager manager) {
+		return null;
+	}
+
+	/**
+	 * Creates a policy that plays the opponent with the lowest total rating
+	 * whenever the Team can play, takes a bye otherwise, and trains the starter
+	 * with the lowest rating during a bye.
+	 *
+	 * @return the policy
+	 */
+	static SeasonPolicy weakestOpponent() {
+		return new SeasonPolicy() {
+			public Team chooseOpponent(GameManager manager, ArrayList<Team> opponents) {
+				if (!manager.getTeam().canPlay()) {
+					return null;
+				}
+				Team weakest = null;
+				int weakestRating = Integer.MAX_VALUE;
+				for (Team opponent : opponents) {
+					int rating = 0;
+					for (Athlete.POSITION position : Athlete.POSITIONS) {
+						rating += opponent.starter(position).getRating();
+					}
+					if (rating < weakestRating) {
+						weakestRating = rating;
+						weakest = opponent;
+					}
+				}
+				return weakest;
+			}
+
+			public Athlete chooseAthleteToTrain(GameManager manager) {
+				Athlete weakest = null;
+				for (Athlete.POSITION position : Athlete.POSITIONS) {
+					Athlete athlete = manager.getTeam().starter(position);
+					if (athlete != null && (weakest == null || athlete.getRating() < weakest.getRating())) {
+						weakest = athlete;
+					}
+				}
+				return weakest;
+			}
+		};
+	}
+}
@@ -0,0 +1,165 @@
+package main;
+
+/**
+ * The SeasonReport class holds the outcome of a season played by a
+ * SeasonSimulator: the final score and money, the record of the player's Team,
+ * and how long each week took to simulate.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class SeasonReport {
+	/**
+	 * The final score of the season.
+	 */
+	private int finalScore;
+
+	/**
+	 * The money left at the end of the season.
+	 */
+	private int money;
+
+	/**
+	 * The number of matches won.
+	 */
+	private int wins;
+
+	/**
+	 * The number of matches drawn.
+	 */
+	private int draws;
+
+	/**
+	 * The number of matches lost.
+	 */
+	private int losses;
+
+	/**
+	 * The number of byes taken.
+	 */
+	private int byes;
+
+	/**
+	 * The time taken to simulate each week in nanoseconds.
+	 */
+	private long[] weekNanos;
+
+	/**
+	 * Constructs a new SeasonReport.
+	 *
+	 * @param finalScore the final score of the season
+	 * @param money      the money left at the end of the season
+	 * @param wins       the number of matches won
+	 * @param draws      the number of matches drawn
+	 * @param losses     the number of matches lost
+	 * @param byes       the number of byes taken
+	 * @param weekNanos  the time taken to simulate each week in nanoseconds
+	 */
+	public SeasonReport(int finalScore, int money, int wins, int draws, int losses, int byes, long[] weekNanos) {
+		this.finalScore = finalScore;
+		this.money = money;
+		this.wins = wins;
+		this.draws = draws;
+		this.losses = losses;
+		this.byes = byes;
+		this.weekNanos = weekNanos;
+	}
+
+	/**
+	 * Retrieves the final score of the season.
+	 *
+	 * @return the final score
+	 */
+	public int getFinalScore() {
+		return finalScore;
+	}
+
+	/**
+	 * Retrieves the money left at the end of the season.
+	 *
+	 * @return the money
+	 */
+	public int getMoney() {
+		return money;
+	}
+
+	/**
+	 * Retrieves the number of matches won.
+	 *
+	 * @return the number of wins
+	 */
+	public int getWins() {
+		return wins;
+	}
+
+	/**
+	 * Retrieves the number of matches drawn.
+	 *
+	 * @return the number of draws
+	 */
+	public int getDraws() {
+		return draws;
+	}
+
+	/**
+	 * Retrieves the number of matches lost.
+	 *
+	 * @return the number of losses
+	 */
+	public int getLosses() {
+		return losses;
+	}
+
+	/**
+	 * Retrieves the number of byes taken.
+	 *
+	 * @return the number of byes
+	 */
+	public int getByes() {
+		return byes;
+	}
+
+	/**
+	 * Retrieves the number of weeks simulated.
+	 *
+	 * @return the number of weeks
+	 */
+	public int getWeeks() {
+		return weekNanos.length;
+	}
+
+	/**
+	 * Retrieves the time taken to simulate a week.
+	 *
+	 * @param week the index of the week, starting at 0
+	 * @return the time in nanoseconds
+	 */
+	public long getWeekNanos(int week) {
+		return weekNanos[week];
+	}
+
+	/**
+	 * Retrieves the total time taken to simulate the season.
+	 *
+	 * @return the time in nanoseconds
+	 */
+	public long getTotalNanos() {
+		long total = 0;
+		for (long nanos : weekNanos) {
+			total += nanos;
+		}
+		return total;
+	}
+
+	/**
+	 * Returns a summary of the season.
+	 *
+	 * @return the summary
+	 */
+	@Override
+	public String toString() {
+		return String.format("Score %d, Money $%d, %d-%d-%d with %d byes in %d weeks (%.3f ms)", finalScore, money,
+				wins, draws, losses, byes, getWeeks(), getTotalNanos() / 1e6);
+	}
+}
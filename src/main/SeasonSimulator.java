@@ -0,0 +1,128 @@
+package main;
+
+import java.util.concurrent.Executor;
+
+/**
+ * The SeasonSimulator class plays a whole season of a GameManager without the
+ * GUI. Each week follows the same steps as the screens: the policy visits the
+ * shop, then either a match is played against the opponent the policy chooses,
+ * with the usual score and money payouts, or a bye is taken, which restores
+ * stamina, trains an Athlete and may trigger a random event. The time taken by
+ * each week is recorded so whole seasons can be benchmarked.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class SeasonSimulator {
+	/**
+	 * The policy making the player's decisions.
+	 */
+	private SeasonPolicy policy;
+
+	/**
+	 * Constructs a new SeasonSimulator with the given policy.
+	 *
+	 * @param policy the policy making the player's decisions
+	 */
+	public SeasonSimulator(SeasonPolicy policy) {
+		this.policy = policy;
+	}
+
+	/**
+	 * Creates a GameManager set up as if the setup screens had been completed:
+	 * the starting money is set from the difficulty, and the starting Athletes
+	 * for each position are added to the Team.
+	 *
+	 * @param seed       the seed of the game
+	 * @param teamName   the name of the player's Team
+	 * @param difficulty the Difficulty of the season
+	 * @param numWeeks   the number of weeks in the season
+	 * @return the GameManager
+	 */
+	public static GameManager newSeason(long seed, String teamName, Difficulty difficulty, int numWeeks) {
+		return setUp(new GameManager(seed), teamName, difficulty, numWeeks);
+	}
+
+	/**
+	 * Creates a GameManager set up the same way as newSeason(long, String,
+	 * Difficulty, int), generating each next week on the given executor.
+	 *
+	 * @param seed          the seed of the game
+	 * @param teamName      the name of the player's Team
+	 * @param difficulty    the Difficulty of the season
+	 * @param numWeeks      the number of weeks in the season
+	 * @param weekGenerator the executor the next week is generated on
+	 * @return the GameManager
+	 */
+	public static GameManager newSeason(long seed, String teamName, Difficulty difficulty, int numWeeks,
+			Executor weekGenerator) {
+		return setUp(new GameManager(seed, weekGenerator), teamName, difficulty, numWeeks);
+	}
+
+	/**
+	 * Sets up a new GameManager as if the setup screens had been completed.
+	 *
+	 * @param manager    the new GameManager
+	 * @param teamName   the name of the player's Team
+	 * @param difficulty the Difficulty of the season
+	 * @param numWeeks   the number of weeks in the season
+	 * @return the GameManager
+	 */
+	private static GameManager setUp(GameManager manager, String teamName, Difficulty difficulty, int numWeeks) {
+		manager.setTeamName(teamName);
+		manager.setDifficulty(difficulty);
+		manager.setNumWeeks(numWeeks);
+		manager.setStartingMoney();
+		manager.generateStarterAthletes();
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			manager.getTeam().addPlayer(manager.getMarket().getStarterAthletes().get(i));
+		}
+		return manager;
+	}
+
+	/**
+	 * Plays the remaining weeks of the season.
+	 *
+	 * @param manager the GameManager of the season, with a full starting lineup
+	 * @return the report of the season
+	 */
+	public SeasonReport play(GameManager manager) {
+		int weeks = Math.max(0, manager.getNumWeeks() - manager.getCurrentWeek());
+		long[] weekNanos = new long[weeks];
+		int wins = 0;
+		int draws = 0;
+		int losses = 0;
+		int byes = 0;
+		for (int week = 0; week < weeks; week++) {
+			long start = System.nanoTime();
+			policy.visitShop(manager);
+			Team opponent = policy.chooseOpponent(manager, manager.getWeeklyTeams());
+			if (opponent != null && manager.getTeam().canPlay()) {
+				manager.setOpposingTeam(opponent);
+				switch (manager.playMatch()) {
+				case "player":
+					wins++;
+					break;
+				case "draw":
+					draws++;
+					break;
+				default:
+					losses++;
+					break;
+				}
+				manager.incrementWeek();
+			} else {
+				byes++;
+				manager.takeBye();
+				Athlete athlete = policy.chooseAthleteToTrain(manager);
+				if (athlete != null) {
+					manager.trainAthlete(athlete);
+				}
+				manager.applyRandomEvent();
+			}
+			weekNanos[week] = System.nanoTime() - start;
+		}
+		return new SeasonReport(manager.getScore(), manager.getMoney(), wins, draws, losses, byes, weekNanos);
+	}
+}
@@ -0,0 +1,66 @@
+package main;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The SeededRandom class is a random number generator whose whole state is a
+ * single long, so a game can save its generators exactly as they are and carry
+ * on from the same point after loading, without reseeding them.
+ *
+ * It uses the SplitMix64 algorithm, the same one SplittableRandom is built on:
+ * each number is the state, advanced by a fixed odd gamma, passed through a
+ * mixing function.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public class SeededRandom implements RandomGenerator {
+	/**
+	 * The amount the state advances by for each number, the odd integer closest
+	 * to 2^64 divided by the golden ratio.
+	 */
+	private static final long GAMMA = 0x9e3779b97f4a7c15L;
+
+	/**
+	 * The state of the generator.
+	 */
+	private long state;
+
+	/**
+	 * Constructs a new SeededRandom starting from the given state.
+	 *
+	 * @param state the state to start from
+	 */
+	public SeededRandom(long state) {
+		this.state = state;
+	}
+
+	@Override
+	public long nextLong() {
+		long z = state += GAMMA;
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * Splits off an independent generator, seeded from the next number of this
+	 * one.
+	 *
+	 * @return the new generator
+	 */
+	public SeededRandom split() {
+		return new SeededRandom(nextLong());
+	}
+
+	/**
+	 * Retrieves the state of the generator, which a new SeededRandom can be
+	 * constructed from to continue where this one is.
+	 *
+	 * @return the state
+	 */
+	public long getState() {
+		return state;
+	}
+}
@@ -0,0 +1,44 @@
+package main;
+
+import java.util.concurrent.Callable;
+import java.util.function.Consumer;
+
+/**
+ * The SimulationRunner interface decides where a GameManager runs simulation
+ * work such as matches, week advancement and random events. Without a GUI the
+ * work runs directly on the calling thread; the GUI runs it in the background
+ * and continues on the Event Dispatch Thread.
+ *
+ * @author Yunu Cho
+ * @author Kush Desai
+ *
+ */
+public interface SimulationRunner {
+	/**
+	 * Runs simulation work directly on the calling thread.
+	 */
+	SimulationRunner DIRECT = new SimulationRunner() {
+		@Override
+		public <T> void run(String message, Callable<T> work, Consumer<T> then) {
+			T result;
+			try {
+				result = work.call();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+			then.accept(result);
+		}
+	};
+
+	/**
+	 * Runs simulation work, then passes its result to the next step.
+	 *
+	 * @param <T>     the type of the result of the work
+	 * @param message a message describing the work, for progress indicators
+	 * @param work    the simulation work
+	 * @param then    the next step, run with the result
+	 */
+	<T> void run(String message, Callable<T> work, Consumer<T> then);
+}
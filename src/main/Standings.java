@@ -0,0 +1,186 @@
+package main;
+
+/**
+ * The Standings class keeps the league table of a tournament. Each Team is
+ * identified by its index in the tournament, and the table records its points,
+ * wins, draws and losses.
+ * 
+ * Standings are not shared between threads. Each task of a tournament records
+ * its fixtures into Standings of its own, and the tasks' Standings are added
+ * together as the tasks join, so the workers never write to the same memory.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class Standings {
+	/**
+	 * The points awarded for a win.
+	 */
+	public static final int WIN_POINTS = 3;
+
+	/**
+	 * The points awarded for a draw.
+	 */
+	public static final int DRAW_POINTS = 1;
+
+	/**
+	 * The Teams in the tournament.
+	 */
+	private Team[] teams;
+
+	/**
+	 * The points of each Team.
+	 */
+	private int[] points;
+
+	/**
+	 * The number of wins of each Team.
+	 */
+	private int[] wins;
+
+	/**
+	 * The number of draws of each Team.
+	 */
+	private int[] draws;
+
+	/**
+	 * The number of losses of each Team.
+	 */
+	private int[] losses;
+
+	/**
+	 * Constructs empty Standings for the given Teams.
+	 * 
+	 * @param teams the Teams in the tournament
+	 */
+	public Standings(Team[] teams) {
+		this.teams = teams;
+		points = new int[teams.length];
+		wins = new int[teams.length];
+		draws = new int[teams.length];
+		losses = new int[teams.length];
+	}
+
+	/**
+	 * Records the result of a match between two Teams.
+	 * 
+	 * @param home   the index of the Team that played as the player's Team
+	 * @param away   the index of the Team that played as the opposing Team
+	 * @param winner the result of the match, as returned by
+	 *               Gameplay.declareWinner()
+	 */
+	public void record(int home, int away, String winner) {
+		switch (winner) {
+		case "player":
+			points[home] += WIN_POINTS;
+			wins[home]++;
+			losses[away]++;
+			break;
+		case "draw":
+			points[home] += DRAW_POINTS;
+			points[away] += DRAW_POINTS;
+			draws[home]++;
+			draws[away]++;
+			break;
+		case "opponent":
+			points[away] += WIN_POINTS;
+			wins[away]++;
+			losses[home]++;
+			break;
+		default:
+			break;
+		}
+	}
+
+	/**
+	 * Adds the results recorded in other Standings of the same Teams to these.
+	 * 
+	 * @param other the Standings to add
+	 */
+	void add(Standings other) {
+		for (int i = 0; i < teams.length; i++) {
+			points[i] += other.points[i];
+			wins[i] += other.wins[i];
+			draws[i] += other.draws[i];
+			losses[i] += other.losses[i];
+		}
+	}
+
+	/**
+	 * Retrieves the number of Teams in the tournament.
+	 * 
+	 * @return the number of Teams
+	 */
+	public int size() {
+		return teams.length;
+	}
+
+	/**
+	 * Retrieves the Team at the given index.
+	 * 
+	 * @param index the index of the Team
+	 * @return the Team
+	 */
+	public Team getTeam(int index) {
+		return teams[index];
+	}
+
+	/**
+	 * Retrieves the points of the Team at the given index.
+	 * 
+	 * @param index the index of the Team
+	 * @return the points of the Team
+	 */
+	public int getPoints(int index) {
+		return points[index];
+	}
+
+	/**
+	 * Retrieves the number of wins of the Team at the given index.
+	 * 
+	 * @param index the index of the Team
+	 * @return the number of wins
+	 */
+	public int getWins(int index) {
+		return wins[index];
+	}
+
+	/**
+	 * Retrieves the number of draws of the Team at the given index.
+	 * 
+	 * @param index the index of the Team
+	 * @return the number of draws
+	 */
+	public int getDraws(int index) {
+		return draws[index];
+	}
+
+	/**
+	 * Retrieves the number of losses of the Team at the given index.
+	 * 
+	 * @param index the index of the Team
+	 * @return the number of losses
+	 */
+	public int getLosses(int index) {
+		return losses[index];
+	}
+
+	/**
+	 * Retrieves the index of the Team with the most points. Ties are won by the
+	 * Team with the lower index.
+	 * 
+	 * @return the index of the leading Team, or -1 if there are no Teams
+	 */
+	public int getLeader() {
+		int leader = -1;
+		int best = Integer.MIN_VALUE;
+		for (int i = 0; i < teams.length; i++) {
+			if (points[i] > best) {
+				best = points[i];
+				leader = i;
+			}
+		}
+		return leader;
+	}
+}
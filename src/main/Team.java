@@ -2,8 +2,8 @@
 package main;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
+import java.util.function.Consumer;
 
 /**
  * This is the Team class. This class handles the logic to provide a functioning
@@ -23,9 +23,16 @@ public class Team {
 	 */
 	private String teamName;
 	/**
-	 * The mapping of player positions to athlete objects in the Team.
+	 * The starting Athletes of the Team, indexed by POSITION ordinal. A slot is
+	 * null if no Athlete plays that position.
 	 */
-	private HashMap<Athlete.POSITION, Athlete> players = new HashMap<Athlete.POSITION, Athlete>();
+	private Athlete[] lineup = new Athlete[Athlete.NUM_POSITIONS];
+	/**
+	 * A bitmask of the positions that have been filled, indexed by POSITION
+	 * ordinal. A position stays filled after its Athlete is removed with
+	 * removePlayer, leaving a null slot.
+	 */
+	private int filled = 0;
 	/**
 	 * The list of reserve Athletes in the Team.
 	 */
@@ -35,6 +42,12 @@ public class Team {
 	 */
 	private ArrayList<Item> consumables = new ArrayList<Item>();
 
+	/**
+	 * The ChangeBus the Team and its Athletes publish their changes to, or null if
+	 * the Team belongs to no game. Copies of the Team do not share it.
+	 */
+	private ChangeBus bus;
+
 	/**
 	 * Constructs a new Team object with the given name.
 	 *
@@ -44,6 +57,42 @@ public class Team {
 		teamName = name;
 	}
 
+	/**
+	 * Constructs a copy of the given Team. The starting and reserve Athletes are
+	 * copied, so changing their stats does not affect the original Team.
+	 *
+	 * @param other the Team to copy
+	 */
+	public Team(Team other) {
+		teamName = other.teamName;
+		filled = other.filled;
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			Athlete player = other.lineup[i];
+			lineup[i] = player == null ? null : new Athlete(player);
+		}
+		for (Athlete reserve : other.reserves) {
+			reserves.add(new Athlete(reserve));
+		}
+		consumables.addAll(other.consumables);
+	}
+
+	/**
+	 * Creates a copy of the Team's starting lineup only. The starting Athletes are
+	 * copied, so a match played with the copy does not affect this Team, while
+	 * the reserves and Items, which a match never uses, are left out.
+	 *
+	 * @return a new Team with copies of the starting Athletes
+	 */
+	public Team copyStarters() {
+		Team copy = new Team(teamName);
+		copy.filled = filled;
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			Athlete player = lineup[i];
+			copy.lineup[i] = player == null ? null : new Athlete(player);
+		}
+		return copy;
+	}
+
 	/**
 	 * Adds an Athlete to the Team's player mapping, used to add players into the
 	 * opponent Team.
@@ -51,7 +100,8 @@ public class Team {
 	 * @param player the Athlete to be added to the team
 	 */
 	public void addPlayer(Athlete player) {
-		players.put(player.getPosition(), player);
+		setStarter(player.getPosition(), player);
+		changed(ChangeEvent.Kind.LINEUP);
 	}
 
 	/**
@@ -60,7 +110,8 @@ public class Team {
 	 * @param player the Athlete to be added as a reserve
 	 */
 	public void addReserves(Athlete player) {
-		reserves.add(player);
+		reserves.add(join(player));
+		changed(ChangeEvent.Kind.RESERVES);
 	}
 
 	/**
@@ -69,7 +120,8 @@ public class Team {
 	 * @param player the Athlete to be bought and added to the reserves
 	 */
 	public void buyPlayer(Athlete player) {
-		reserves.add(player);
+		reserves.add(join(player));
+		changed(ChangeEvent.Kind.RESERVES);
 	}
 
 	/**
@@ -79,6 +131,7 @@ public class Team {
 	 */
 	public void sellPlayer(Athlete player) {
 		reserves.remove(player);
+		changed(ChangeEvent.Kind.RESERVES);
 		// TODO throw exception if player is in team
 	}
 	
@@ -91,8 +144,10 @@ public class Team {
 	 *               reserves
 	 */
 	public void removePlayer(Athlete player) {
-		players.put(player.getPosition(), null);
+		setStarter(player.getPosition(), null);
 		reserves.add(player);
+		changed(ChangeEvent.Kind.LINEUP);
+		changed(ChangeEvent.Kind.RESERVES);
 	}
 
 	/**
@@ -103,9 +158,11 @@ public class Team {
 	 * @param out the Athlete to be removed from the team and added to the reserves
 	 */
 	public void replacePlayer(Athlete in, Athlete out) {
-		players.put(in.getPosition(), in);
+		setStarter(in.getPosition(), in);
 		reserves.add(out);
 		reserves.remove(in);
+		changed(ChangeEvent.Kind.LINEUP);
+		changed(ChangeEvent.Kind.RESERVES);
 	}
 
 	/**
@@ -115,25 +172,135 @@ public class Team {
 	 */
 	public void buyConsumable(Item consumable) {
 		consumables.add(consumable);
+		changed(ChangeEvent.Kind.ITEMS);
 	}
 
 
 	/**
 	 * Checks if the Team can play a game. A Team can play if it has exactly 5
-	 * players and none of them are injured.
+	 * players and none of them are injured. Checking does not change the Team or
+	 * its Athletes.
 	 *
 	 * @return true if the Team can play, false otherwise
 	 */
 	public boolean canPlay() {
-		if (players.size() == 5) {
-			for (Athlete athlete : players.values()) {
-				if (athlete.isInjured()) {
-					return false;
-				}
+		for (Athlete athlete : lineup) {
+			if (athlete == null || athlete.isInjured()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Puts the Athlete in the lineup slot of the given position and marks the
+	 * position as filled.
+	 *
+	 * @param position the position of the slot
+	 * @param player   the Athlete to put in the slot, or null to empty it
+	 */
+	private void setStarter(Athlete.POSITION position, Athlete player) {
+		lineup[position.ordinal()] = player == null ? null : join(player);
+		filled |= 1 << position.ordinal();
+	}
+
+	/**
+	 * Gives an Athlete joining the Team the Team's ChangeBus, if it has one.
+	 *
+	 * @param player the Athlete joining the Team
+	 * @return the Athlete
+	 */
+	private Athlete join(Athlete player) {
+		if (bus != null) {
+			player.setChangeBus(bus);
+		}
+		return player;
+	}
+
+	/**
+	 * Publishes a change to the Team, if it has a ChangeBus.
+	 *
+	 * @param kind the kind of change
+	 */
+	private void changed(ChangeEvent.Kind kind) {
+		if (bus != null) {
+			bus.publish(kind, this);
+		}
+	}
+
+	/**
+	 * Sets the ChangeBus the Team and all of its Athletes publish their changes
+	 * to. Called by the GameManager that owns the Team.
+	 *
+	 * @param newBus the ChangeBus
+	 */
+	void setChangeBus(ChangeBus newBus) {
+		bus = newBus;
+		for (Athlete athlete : lineup) {
+			if (athlete != null) {
+				athlete.setChangeBus(newBus);
+			}
+		}
+		for (Athlete reserve : reserves) {
+			reserve.setChangeBus(newBus);
+		}
+	}
+
+	/**
+	 * Retrieves the starting Athlete playing the given position.
+	 *
+	 * @param position the position of the Athlete
+	 * @return the Athlete, or null if no Athlete plays that position
+	 */
+	public Athlete starter(Athlete.POSITION position) {
+		return lineup[position.ordinal()];
+	}
+
+	/**
+	 * Retrieves a starting Athlete by index, counting only the positions with an
+	 * Athlete, in POSITION order.
+	 *
+	 * @param index the index of the Athlete, less than getStarterCount()
+	 * @return the Athlete
+	 * @throws IndexOutOfBoundsException if there is no Athlete at the index
+	 */
+	public Athlete starter(int index) {
+		int remaining = index;
+		for (Athlete athlete : lineup) {
+			if (athlete != null && remaining-- == 0) {
+				return athlete;
+			}
+		}
+		throw new IndexOutOfBoundsException(index);
+	}
+
+	/**
+	 * Retrieves the number of positions with a starting Athlete.
+	 *
+	 * @return the number of starting Athletes
+	 */
+	public int getStarterCount() {
+		int count = 0;
+		for (Athlete athlete : lineup) {
+			if (athlete != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Performs the given action on each starting Athlete in POSITION order,
+	 * without allocating a list of the Athletes.
+	 *
+	 * @param action the action to perform
+	 */
+	public void forEachStarter(Consumer<Athlete> action) {
+		for (Athlete athlete : lineup) {
+			if (athlete != null) {
+				action.accept(athlete);
 			}
-			return true;
 		}
-		return false;
 	}
 
 	/**
@@ -146,21 +313,36 @@ public class Team {
 	}
 
 	/**
-	 * Retrieves the mapping of player positions to Athlete objects in the Team.
+	 * Retrieves a mapping of player positions to Athlete objects in the Team. The
+	 * mapping is a copy, so changing it does not change the Team. Use starter to
+	 * look up a single position without copying.
 	 *
 	 * @return the player mapping
 	 */
 	public HashMap<Athlete.POSITION, Athlete> getPlayersMap() {
+		HashMap<Athlete.POSITION, Athlete> players = new HashMap<Athlete.POSITION, Athlete>();
+		for (Athlete.POSITION position : Athlete.POSITIONS) {
+			if ((filled & (1 << position.ordinal())) != 0) {
+				players.put(position, lineup[position.ordinal()]);
+			}
+		}
 		return players;
 	}
 
 	/**
-	 * Retrieves the list of player Athletes in the Team.
+	 * Retrieves a list of the player Athletes in the Team in POSITION order. The
+	 * list is a copy, and includes a null entry for each position emptied by
+	 * removePlayer. Use forEachStarter or starter to avoid the copy.
 	 *
 	 * @return the list of players
 	 */
 	public ArrayList<Athlete> getPlayersArray() {
-		ArrayList<Athlete> playersArray = new ArrayList<>(players.values());
+		ArrayList<Athlete> playersArray = new ArrayList<>(Athlete.NUM_POSITIONS);
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			if ((filled & (1 << i)) != 0) {
+				playersArray.add(lineup[i]);
+			}
+		}
 		return playersArray;
 	}
 
@@ -189,6 +371,7 @@ public class Team {
 	 */
 	public void removeItem(Item item) {
 		consumables.remove(item);
+		changed(ChangeEvent.Kind.ITEMS);
 	}
 
 	/**
@@ -196,8 +379,10 @@ public class Team {
 	 * current stamina of each Athlete to their maximum stamina.
 	 */
 	public void restoreStamina() {
-		for (Athlete athlete : players.values()) {
-			athlete.restoreCurrentStamina();
+		for (Athlete athlete : lineup) {
+			if (athlete != null) {
+				athlete.restoreCurrentStamina();
+			}
 		}
 	}
 }
@@ -0,0 +1,138 @@
+package main;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The TournamentSimulator class plays a full round-robin tournament, where
+ * every Team plays every other Team once. The fixtures are split across the
+ * threads of a ForkJoinPool, and each fixture is played on a copy of the
+ * player's starting lineup so that matches running at the same time never
+ * change the stamina of a shared Athlete. Each task tallies its results in
+ * Standings of its own, which are added together as the tasks join, so the
+ * workers share no counters while they play.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class TournamentSimulator {
+	/**
+	 * The number of fixtures below which a task plays its fixtures itself instead
+	 * of splitting them further. Tournaments with more Teams than this use one
+	 * fixture per Team instead, so adding a task's Standings together never costs
+	 * more than its fixtures.
+	 */
+	private static final int FIXTURES_PER_TASK = 1024;
+
+	/**
+	 * The difficulty level the matches are played at.
+	 */
+	private Difficulty difficulty;
+
+	/**
+	 * The pool the fixtures are played on.
+	 */
+	private ForkJoinPool pool;
+
+	/**
+	 * Constructs a new TournamentSimulator that plays on the common ForkJoinPool.
+	 * 
+	 * @param difficulty the difficulty level of the matches
+	 */
+	public TournamentSimulator(Difficulty difficulty) {
+		this(difficulty, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * Constructs a new TournamentSimulator that plays on the given ForkJoinPool.
+	 * 
+	 * @param difficulty the difficulty level of the matches
+	 * @param pool       the pool to play the fixtures on
+	 */
+	public TournamentSimulator(Difficulty difficulty, ForkJoinPool pool) {
+		this.difficulty = difficulty;
+		this.pool = pool;
+	}
+
+	/**
+	 * Retrieves the number of fixtures in a round-robin tournament between the
+	 * given number of Teams.
+	 * 
+	 * @param numTeams the number of Teams
+	 * @return the number of fixtures
+	 */
+	public static long numFixtures(int numTeams) {
+		return (long) numTeams * (numTeams - 1) / 2;
+	}
+
+	/**
+	 * Plays a round-robin tournament between the given Teams. The given Teams are
+	 * not changed.
+	 * 
+	 * @param teams the Teams in the tournament, each with a full starting lineup
+	 * @return the final Standings, indexed the same way as teams
+	 */
+	public Standings play(Team[] teams) {
+		long fixturesPerTask = Math.max(FIXTURES_PER_TASK, teams.length);
+		return pool.invoke(new FixtureTask(teams, fixturesPerTask, 0, numFixtures(teams.length)));
+	}
+
+	/**
+	 * A task that plays a contiguous range of fixtures and returns their
+	 * Standings. Fixtures are numbered row by row, so fixture 0 is Team 0 against
+	 * Team 1, and the last fixture is the second to last Team against the last
+	 * Team.
+	 */
+	private class FixtureTask extends RecursiveTask<Standings> {
+		private static final long serialVersionUID = 1L;
+
+		private final Team[] teams;
+		private final long fixturesPerTask;
+		private final long from;
+		private final long to;
+
+		FixtureTask(Team[] teams, long fixturesPerTask, long from, long to) {
+			this.teams = teams;
+			this.fixturesPerTask = fixturesPerTask;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected Standings compute() {
+			if (to - from <= fixturesPerTask) {
+				return playFixtures();
+			}
+			long mid = (from + to) >>> 1;
+			FixtureTask left = new FixtureTask(teams, fixturesPerTask, from, mid);
+			left.fork();
+			Standings standings = new FixtureTask(teams, fixturesPerTask, mid, to).compute();
+			standings.add(left.join());
+			return standings;
+		}
+
+		private Standings playFixtures() {
+			Standings standings = new Standings(teams);
+			int n = teams.length;
+			int home = 0;
+			long rowStart = 0;
+			while (rowStart + (n - 1 - home) <= from) {
+				rowStart += n - 1 - home;
+				home++;
+			}
+			int away = home + 1 + (int) (from - rowStart);
+			for (long fixture = from; fixture < to; fixture++) {
+				Gameplay gamePlay = new Gameplay(teams[home].copyStarters(), teams[away], difficulty);
+				gamePlay.play();
+				standings.record(home, away, gamePlay.declareWinner());
+				away++;
+				if (away == n) {
+					home++;
+					away = home + 1;
+				}
+			}
+			return standings;
+		}
+	}
+}
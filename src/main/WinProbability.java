@@ -0,0 +1,115 @@
+package main;
+
+/**
+ * The WinProbability class holds the chances of the player's Team winning,
+ * drawing and losing a match, as estimated by the WinProbabilityEstimator. An
+ * estimate that no simulated match finished in time for has no chances, which
+ * hasEstimate reports, and is shown as "No estimate".
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class WinProbability {
+	/**
+	 * The number of simulated matches the player's Team won.
+	 */
+	private int wins;
+
+	/**
+	 * The number of simulated matches that were drawn.
+	 */
+	private int draws;
+
+	/**
+	 * The number of simulated matches the player's Team lost.
+	 */
+	private int losses;
+
+	/**
+	 * Constructs a new WinProbability object from the results of the simulated
+	 * matches.
+	 * 
+	 * @param wins   the number of simulated matches the player's Team won
+	 * @param draws  the number of simulated matches that were drawn
+	 * @param losses the number of simulated matches the player's Team lost
+	 */
+	public WinProbability(int wins, int draws, int losses) {
+		this.wins = wins;
+		this.draws = draws;
+		this.losses = losses;
+	}
+
+	/**
+	 * Retrieves the number of matches the estimate is based on.
+	 * 
+	 * @return the number of simulated matches
+	 */
+	public int getSimulations() {
+		return wins + draws + losses;
+	}
+
+	/**
+	 * Checks whether any simulated match finished, so the chances mean something.
+	 * 
+	 * @return true if the estimate is based on at least one match, false otherwise
+	 */
+	public boolean hasEstimate() {
+		return getSimulations() > 0;
+	}
+
+	/**
+	 * Retrieves the chance of the player's Team winning.
+	 * 
+	 * @return the chance of winning, between 0 and 1
+	 */
+	public double getWin() {
+		return fraction(wins);
+	}
+
+	/**
+	 * Retrieves the chance of the match being drawn.
+	 * 
+	 * @return the chance of a draw, between 0 and 1
+	 */
+	public double getDraw() {
+		return fraction(draws);
+	}
+
+	/**
+	 * Retrieves the chance of the player's Team losing.
+	 * 
+	 * @return the chance of losing, between 0 and 1
+	 */
+	public double getLoss() {
+		return fraction(losses);
+	}
+
+	/**
+	 * Returns a string representation of the WinProbability.
+	 * 
+	 * @return the chances as whole percentages, or "No estimate" if no simulated
+	 *         match finished
+	 */
+	public String toString() {
+		if (!hasEstimate()) {
+			return "No estimate";
+		}
+		return String.format("Win %.0f%%, Draw %.0f%%, Loss %.0f%%", getWin() * 100, getDraw() * 100,
+				getLoss() * 100);
+	}
+
+	/**
+	 * Divides a count by the number of simulated matches.
+	 * 
+	 * @param count the count to divide
+	 * @return the fraction of simulated matches, or 0 if there were none
+	 */
+	private double fraction(int count) {
+		int simulations = getSimulations();
+		if (simulations == 0) {
+			return 0;
+		}
+		return (double) count / simulations;
+	}
+}
@@ -0,0 +1,242 @@
+package main;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * The WinProbabilityEstimator class estimates how likely the player's Team is
+ * to beat an opposing Team. It plays many copies of the match through
+ * Gameplay, each time randomly nudging the stats of every Athlete to model
+ * form on the day, and counts the results. The matches are played in parallel
+ * and the estimate stops early once its time budget runs out.
+ * 
+ * @author Yunu Cho
+ * @author Kush Desai
+ * 
+ */
+public class WinProbabilityEstimator {
+	/**
+	 * The default number of matches to simulate.
+	 */
+	public static final int DEFAULT_SIMULATIONS = 5000;
+
+	/**
+	 * The default time budget in milliseconds.
+	 */
+	public static final long DEFAULT_BUDGET_MILLIS = 50;
+
+	/**
+	 * The largest amount a stat is nudged up or down by in a simulated match.
+	 */
+	private static final int MAX_PERTURBATION = 5;
+
+	/**
+	 * The number of matches below which a task plays its matches itself instead
+	 * of splitting them further.
+	 */
+	private static final int SIMULATIONS_PER_TASK = 256;
+
+	/**
+	 * The difficulty level the matches are played at.
+	 */
+	private Difficulty difficulty;
+
+	/**
+	 * The number of matches to simulate.
+	 */
+	private int simulations;
+
+	/**
+	 * The time budget in milliseconds.
+	 */
+	private long budgetMillis;
+
+	/**
+	 * The pool the matches are played on.
+	 */
+	private ForkJoinPool pool;
+
+	/**
+	 * The random number generator each estimate splits its own stream from.
+	 */
+	private SplittableRandom random;
+
+	/**
+	 * Constructs a new WinProbabilityEstimator with the default number of
+	 * simulations and time budget.
+	 * 
+	 * @param difficulty the difficulty level of the matches
+	 */
+	public WinProbabilityEstimator(Difficulty difficulty) {
+		this(difficulty, DEFAULT_SIMULATIONS, DEFAULT_BUDGET_MILLIS);
+	}
+
+	/**
+	 * Constructs a new WinProbabilityEstimator that plays on the common
+	 * ForkJoinPool.
+	 * 
+	 * @param difficulty   the difficulty level of the matches
+	 * @param simulations  the number of matches to simulate
+	 * @param budgetMillis the time budget in milliseconds
+	 */
+	public WinProbabilityEstimator(Difficulty difficulty, int simulations, long budgetMillis) {
+		this(difficulty, simulations, budgetMillis, new SplittableRandom());
+	}
+
+	/**
+	 * Constructs a new WinProbabilityEstimator that plays on the common
+	 * ForkJoinPool and draws from the given random number generator. Every
+	 * simulated match uses a stream split from it in a fixed order, so a seeded
+	 * generator gives the same estimate whenever the time budget does not run
+	 * out.
+	 * 
+	 * @param difficulty   the difficulty level of the matches
+	 * @param simulations  the number of matches to simulate
+	 * @param budgetMillis the time budget in milliseconds
+	 * @param random       the random number generator to draw from
+	 */
+	public WinProbabilityEstimator(Difficulty difficulty, int simulations, long budgetMillis, SplittableRandom random) {
+		this.difficulty = difficulty;
+		this.simulations = simulations;
+		this.budgetMillis = budgetMillis;
+		this.pool = ForkJoinPool.commonPool();
+		this.random = random;
+	}
+
+	/**
+	 * Estimates the chances of the player's Team winning, drawing and losing
+	 * against the opposing Team. Neither Team is changed. The estimate returns
+	 * once the time budget runs out, even if the pool is busy with other work
+	 * and some tasks have not started: every task stops at its next match and
+	 * the estimate is based on the matches played so far.
+	 * 
+	 * @param playerTeam   the player's Team, with a full starting lineup
+	 * @param opposingTeam the opposing Team, with a full starting lineup
+	 * @return the estimated chances, which have no estimate if no match finished
+	 *         within the budget
+	 * @throws InterruptedException if the calling thread is interrupted, for
+	 *                              example because the estimate is no longer
+	 *                              needed
+	 */
+	public WinProbability estimate(Team playerTeam, Team opposingTeam) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+		SplittableRandom stream;
+		synchronized (this) {
+			stream = random.split();
+		}
+		SimulationTask task = new SimulationTask(playerTeam, opposingTeam, deadline, 0, simulations, stream);
+		ForkJoinTask<Void> future = pool.submit(task);
+		try {
+			future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			// Tasks still queued or mid-match stop on their own; every match that
+			// finished in time is already counted
+			task.cancelled = true;
+		} catch (InterruptedException e) {
+			task.cancelled = true;
+			throw e;
+		} catch (ExecutionException e) {
+			throw new IllegalStateException(e.getCause());
+		}
+		AtomicIntegerArray counts = task.counts;
+		return new WinProbability(counts.get(0), counts.get(1), counts.get(2));
+	}
+
+	/**
+	 * Nudges each of the rated stats of the Athlete by a random amount.
+	 * 
+	 * @param athlete the Athlete to change
+	 * @param random  the random number generator to use
+	 */
+	private static void perturb(Athlete athlete, SplittableRandom random) {
+		athlete.changeStat(random.nextInt(-MAX_PERTURBATION, MAX_PERTURBATION + 1), Athlete.STATS.O);
+		athlete.changeStat(random.nextInt(-MAX_PERTURBATION, MAX_PERTURBATION + 1), Athlete.STATS.D);
+		athlete.changeStat(random.nextInt(-MAX_PERTURBATION, MAX_PERTURBATION + 1), Athlete.STATS.S);
+		athlete.changeStat(random.nextInt(-MAX_PERTURBATION, MAX_PERTURBATION + 1), Athlete.STATS.A);
+	}
+
+	/**
+	 * A task that simulates a range of matches, counting each win, draw and loss
+	 * in the root task's counts as soon as the match is played, so the estimate
+	 * can read them without waiting for every task. The root task's cancelled
+	 * flag is shared by every subtask so they all stop when the estimate is
+	 * abandoned.
+	 */
+	private class SimulationTask extends RecursiveAction {
+		private static final long serialVersionUID = 1L;
+
+		private final Team playerTeam;
+		private final Team opposingTeam;
+		private final long deadline;
+		private final int from;
+		private final int to;
+		private final SplittableRandom random;
+		private final SimulationTask root;
+		final AtomicIntegerArray counts;
+		volatile boolean cancelled;
+
+		SimulationTask(Team playerTeam, Team opposingTeam, long deadline, int from, int to,
+				SplittableRandom random) {
+			this(playerTeam, opposingTeam, deadline, from, to, random, null);
+		}
+
+		private SimulationTask(Team playerTeam, Team opposingTeam, long deadline, int from, int to,
+				SplittableRandom random, SimulationTask root) {
+			this.playerTeam = playerTeam;
+			this.opposingTeam = opposingTeam;
+			this.deadline = deadline;
+			this.from = from;
+			this.to = to;
+			this.random = random;
+			this.root = root == null ? this : root;
+			this.counts = root == null ? new AtomicIntegerArray(3) : root.counts;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= SIMULATIONS_PER_TASK) {
+				simulate();
+				return;
+			}
+			int mid = (from + to) >>> 1;
+			// Split both streams here, before forking, so the streams do not
+			// depend on which thread runs which task
+			SimulationTask left = new SimulationTask(playerTeam, opposingTeam, deadline, from, mid, random.split(),
+					root);
+			SimulationTask right = new SimulationTask(playerTeam, opposingTeam, deadline, mid, to, random.split(),
+					root);
+			invokeAll(left, right);
+		}
+
+		private void simulate() {
+			for (int i = from; i < to; i++) {
+				if (root.cancelled || System.nanoTime() > deadline) {
+					break;
+				}
+				Team player = playerTeam.copyStarters();
+				Team opponent = opposingTeam.copyStarters();
+				player.forEachStarter(athlete -> perturb(athlete, random));
+				opponent.forEachStarter(athlete -> perturb(athlete, random));
+				Gameplay gamePlay = new Gameplay(player, opponent, difficulty);
+				gamePlay.play();
+				switch (gamePlay.declareWinner()) {
+				case "player":
+					counts.incrementAndGet(0);
+					break;
+				case "draw":
+					counts.incrementAndGet(1);
+					break;
+				default:
+					counts.incrementAndGet(2);
+					break;
+				}
+			}
+		}
+	}
+}
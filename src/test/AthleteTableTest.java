@@ -0,0 +1,107 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+import main.Athlete.STATS;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+
+public class AthleteTableTest {
+
+	private AthleteTable table;
+
+	@BeforeEach
+	public void setUp() {
+		table = new AthleteTable(2);
+	}
+
+	@Test
+	public void testAdd() {
+		int row = table.add("John Doe", POSITION.PG, 80, 75, 90, 85);
+		assertEquals(0, row);
+		assertEquals(1, table.size());
+		assertEquals("John Doe", table.getName(row));
+		assertEquals(POSITION.PG, table.getPosition(row));
+		assertEquals(82, table.getRating(row));
+		assertEquals(82 * 20, table.getPrice(row));
+		assertEquals(90, table.getStat(row, STATS.CS));
+	}
+
+	@Test
+	public void testGrow() {
+		for (int i = 0; i < 100; i++) {
+			assertEquals(i, table.add("Player" + i, POSITION.C, i % 100, 50, 50, 50));
+		}
+		assertEquals(100, table.size());
+		assertEquals(99, table.getStat(99, STATS.O));
+		assertEquals("Player42", table.getName(42));
+	}
+
+	@Test
+	public void testGetAndSet() {
+		HashMap<STATS, Integer> stats = new HashMap<STATS, Integer>();
+		stats.put(STATS.O, 80);
+		stats.put(STATS.D, 75);
+		stats.put(STATS.S, 90);
+		stats.put(STATS.A, 85);
+		Athlete athlete = new Athlete("John Doe", POSITION.SF, stats);
+		athlete.changeStat(-athlete.getStat(STATS.CS), STATS.CS);
+
+		int row = table.add(athlete);
+		Athlete copy = table.get(row);
+		assertEquals(athlete.toString(), copy.toString());
+		assertEquals(athlete.getPrice(), copy.getPrice());
+		assertEquals(1, copy.getInjuries());
+		assertTrue(copy.isInjured());
+
+		copy.restoreCurrentStamina();
+		copy.changeStat(5, STATS.O);
+		assertTrue(table.isInjured(row));
+		table.set(row, copy);
+		assertFalse(table.isInjured(row));
+		assertEquals(85, table.getStat(row, STATS.O));
+	}
+
+	@Test
+	public void testChangeStat() {
+		int row = table.add("John Doe", POSITION.PG, 80, 75, 90, 85);
+		table.changeStat(row, 100, STATS.O);
+		assertEquals(99, table.getStat(row, STATS.O));
+		assertEquals(87, table.getRating(row));
+
+		table.changeStat(row, -200, STATS.CS);
+		assertEquals(0, table.getStat(row, STATS.CS));
+		assertEquals(1, table.getInjuries(row));
+		table.changeStat(row, -10, STATS.CS);
+		assertEquals(1, table.getInjuries(row));
+
+		table.restoreCurrentStamina(row);
+		assertEquals(90, table.getStat(row, STATS.CS));
+	}
+
+	@Test
+	public void testBestRating() {
+		table.add("A", POSITION.PG, 60, 60, 60, 60);
+		table.add("B", POSITION.PG, 70, 70, 70, 70);
+		table.add("C", POSITION.C, 90, 90, 90, 90);
+		table.add("D", POSITION.PG, 70, 70, 70, 70);
+
+		assertEquals(1, table.bestRating(POSITION.PG));
+		assertEquals(2, table.bestRating(POSITION.C));
+		assertEquals(-1, table.bestRating(POSITION.SG));
+
+		int[] best = table.bestRatingByPosition();
+		assertEquals(1, best[POSITION.PG.ordinal()]);
+		assertEquals(2, best[POSITION.C.ordinal()]);
+		assertEquals(-1, best[POSITION.SG.ordinal()]);
+	}
+
+	@Test
+	public void testMissingRow() {
+		assertThrows(IndexOutOfBoundsException.class, () -> table.getName(0));
+	}
+}
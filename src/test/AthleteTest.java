@@ -86,6 +86,56 @@ public class AthleteTest {
 		assertEquals(1, athlete.getInjuries());
 	}
 
+	@Test
+	public void testIsInjuredHasNoSideEffect() {
+		athlete.changeStat(-athlete.getStat(Athlete.STATS.CS), Athlete.STATS.CS);
+		for (int i = 0; i < 10; i++) {
+			assertTrue(athlete.isInjured());
+		}
+		assertEquals(1, athlete.getInjuries());
+
+		// Staying at 0 stamina is not a new injury
+		athlete.changeStat(-10, Athlete.STATS.CS);
+		assertEquals(1, athlete.getInjuries());
+
+		athlete.restoreCurrentStamina();
+		assertFalse(athlete.isInjured());
+		athlete.changeStat(-athlete.getStat(Athlete.STATS.CS), Athlete.STATS.CS);
+		assertEquals(2, athlete.getInjuries());
+	}
+
+	@Test
+	public void testRecordInjury() {
+		athlete.recordInjury();
+		assertEquals(1, athlete.getInjuries());
+		assertFalse(athlete.isInjured());
+	}
+
+	@Test
+	public void testGetStats() {
+		athlete.changeStat(-20, Athlete.STATS.CS);
+		int[] stats = new int[Athlete.NUM_STATS];
+		athlete.getStats(stats);
+		assertEquals(80, stats[Athlete.STATS.O.ordinal()]);
+		assertEquals(75, stats[Athlete.STATS.D.ordinal()]);
+		assertEquals(90, stats[Athlete.STATS.S.ordinal()]);
+		assertEquals(85, stats[Athlete.STATS.A.ordinal()]);
+		assertEquals(70, stats[Athlete.STATS.CS.ordinal()]);
+	}
+
+	@Test
+	public void testCopy() {
+		athlete.changeStat(-athlete.getStat(Athlete.STATS.CS), Athlete.STATS.CS);
+		athlete.isInjured();
+		Athlete copy = new Athlete(athlete);
+		assertEquals(athlete.toString(), copy.toString());
+		assertEquals(0, copy.getStat(Athlete.STATS.CS));
+		assertEquals(1, copy.getInjuries());
+
+		copy.changeStat(10, Athlete.STATS.CS);
+		assertEquals(0, athlete.getStat(Athlete.STATS.CS));
+	}
+
 	@Test
 	public void testToString() {
 		String expectedString = "John Doe, Point Guard, 82 OVR";
@@ -0,0 +1,69 @@
+package test;
+
+import main.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class AutosaveServiceTest {
+
+	private Path directory;
+
+	private Path path;
+
+	private AutosaveService autosave;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("autosave");
+		path = directory.resolve("game.save");
+		autosave = new AutosaveService(path);
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		autosave.close();
+		Files.deleteIfExists(path);
+		Files.deleteIfExists(directory.resolve("game.save.tmp"));
+		Files.delete(directory);
+	}
+
+	@Test
+	public void testAutosave() throws Exception {
+		GameManager manager = SeasonSimulator.newSeason(1, "Team", Difficulty.EASY, 5);
+		autosave.autosave(manager);
+		autosave.flush();
+		assertEquals(1, autosave.getSaveCount());
+		assertNull(autosave.getLastError());
+		assertEquals(manager.getMoney(), GameSave.load(path).getMoney());
+		assertFalse(Files.exists(directory.resolve("game.save.tmp")));
+	}
+
+	@Test
+	public void testCoalescing() throws Exception {
+		GameManager manager = SeasonSimulator.newSeason(1, "Team", Difficulty.EASY, 5);
+		for (int i = 0; i < 200; i++) {
+			manager.changeMoney(1);
+			autosave.autosave(manager);
+		}
+		autosave.flush();
+		assertTrue(autosave.getSaveCount() >= 1);
+		assertTrue(autosave.getSaveCount() <= 200);
+		assertEquals(manager.getMoney(), GameSave.load(path).getMoney());
+	}
+
+	@Test
+	public void testCloseWritesPending() throws Exception {
+		GameManager manager = SeasonSimulator.newSeason(1, "Team", Difficulty.EASY, 5);
+		manager.changeMoney(123);
+		autosave.autosave(manager);
+		autosave.close();
+		assertEquals(5123, GameSave.load(path).getMoney());
+	}
+}
@@ -0,0 +1,45 @@
+package test;
+
+import bench.*;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+
+public class BenchmarkRunnerTest {
+
+	@Test
+	public void testMeasure() {
+		BenchmarkRunner runner = new BenchmarkRunner(1, 2, 20);
+		BenchmarkResult result = runner.measure("add", () -> 1 + 1);
+		assertEquals("add", result.getName());
+		assertTrue(result.getOperations() > 0);
+		assertTrue(result.getNanosPerOp() > 0);
+		assertTrue(result.getOpsPerSecond() > 0);
+	}
+
+	@Test
+	public void testMeasureAllocation() {
+		BenchmarkRunner runner = new BenchmarkRunner(1, 2, 20);
+		int[][] holder = new int[1][];
+		BenchmarkResult result = runner.measure("array", () -> {
+			holder[0] = new int[64];
+			return holder[0].length;
+		});
+		if (!Double.isNaN(result.getBytesPerOp())) {
+			assertTrue(result.getBytesPerOp() >= 64 * 4);
+		}
+	}
+
+	@Test
+	public void testMeasureAll() {
+		LinkedHashMap<String, Benchmark> benchmarks = CoreBenchmarks.createBenchmarks();
+		assertEquals(11, benchmarks.size());
+		BenchmarkRunner runner = new BenchmarkRunner(0, 1, 5);
+		ArrayList<BenchmarkResult> results = runner.measureAll(benchmarks);
+		assertEquals(11, results.size());
+		assertEquals("Athlete.changeStat", results.get(0).getName());
+	}
+}
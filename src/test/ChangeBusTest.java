@@ -0,0 +1,117 @@
+package test;
+
+import main.*;
+import gui.ChangeCoalescer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import javax.swing.SwingUtilities;
+
+class ChangeBusTest {
+	private GameManager gameManager;
+	private List<ChangeEvent> events;
+
+	@BeforeEach
+	void setUp() {
+		gameManager = new GameManager(7);
+		events = new ArrayList<ChangeEvent>();
+		gameManager.getChangeBus().subscribe(events::add);
+	}
+
+	private List<ChangeEvent.Kind> kinds() {
+		List<ChangeEvent.Kind> kinds = new ArrayList<ChangeEvent.Kind>();
+		for (ChangeEvent event : events) {
+			kinds.add(event.getKind());
+		}
+		return kinds;
+	}
+
+	@Test
+	void testChangeMoneyPublishesMoney() {
+		gameManager.changeMoney(100);
+		assertEquals(List.of(ChangeEvent.Kind.MONEY), kinds());
+		assertSame(gameManager, events.get(0).getSource());
+	}
+
+	@Test
+	void testBuyAthletePublishesReservesMoneyAndMarket() {
+		Athlete athlete = gameManager.getMarket().getPurchasableAthletes().get(0);
+		gameManager.buyAthlete(athlete, false);
+		assertEquals(List.of(ChangeEvent.Kind.RESERVES, ChangeEvent.Kind.MONEY, ChangeEvent.Kind.MARKET), kinds());
+		assertSame(gameManager.getTeam(), events.get(0).getSource());
+		assertSame(gameManager.getMarket(), events.get(2).getSource());
+	}
+
+	@Test
+	void testBoughtAthletePublishesStatChanges() {
+		Athlete athlete = gameManager.getMarket().getPurchasableAthletes().get(0);
+		athlete.changeStat(1, Athlete.STATS.O);
+		assertTrue(events.isEmpty());
+
+		gameManager.buyAthlete(athlete, false);
+		events.clear();
+		gameManager.trainAthlete(athlete);
+		assertEquals(4, events.size());
+		for (ChangeEvent event : events) {
+			assertEquals(ChangeEvent.Kind.ATHLETE, event.getKind());
+			assertSame(athlete, event.getSource());
+		}
+	}
+
+	@Test
+	void testCopiesDoNotPublish() {
+		Athlete athlete = gameManager.getMarket().getPurchasableAthletes().get(0);
+		gameManager.buyAthlete(athlete, false);
+		events.clear();
+		Team copy = new Team(gameManager.getTeam());
+		copy.getReserves().get(0).changeStat(5, Athlete.STATS.D);
+		copy.buyConsumable(gameManager.getMarket().getPurchasableItems().get(0));
+		new Athlete(athlete).setNickname("Copy");
+		assertTrue(events.isEmpty());
+	}
+
+	@Test
+	void testIncrementWeekPublishesWeek() {
+		gameManager.incrementWeek();
+		assertTrue(kinds().contains(ChangeEvent.Kind.MARKET));
+		assertEquals(ChangeEvent.Kind.WEEK, events.get(events.size() - 1).getKind());
+	}
+
+	@Test
+	void testCoalescerHandsOverOncePerFrame() throws Exception {
+		Athlete athlete = gameManager.getMarket().getPurchasableAthletes().get(0);
+		gameManager.buyAthlete(athlete, false);
+		List<Set<ChangeEvent.Kind>> frames = new ArrayList<Set<ChangeEvent.Kind>>();
+		List<Set<Object>> sources = new ArrayList<Set<Object>>();
+		gameManager.getChangeBus().subscribe(new ChangeCoalescer((kinds, changed) -> {
+			frames.add(kinds);
+			sources.add(changed);
+		}));
+		gameManager.trainAthlete(athlete);
+		gameManager.changeMoney(10);
+		SwingUtilities.invokeAndWait(() -> {
+		});
+		assertEquals(1, frames.size());
+		assertEquals(Set.of(ChangeEvent.Kind.ATHLETE, ChangeEvent.Kind.MONEY), frames.get(0));
+		assertEquals(2, sources.get(0).size());
+		assertTrue(sources.get(0).contains(athlete));
+	}
+
+	@Test
+	void testUnsubscribe() {
+		ChangeBus bus = new ChangeBus();
+		List<ChangeEvent> received = new ArrayList<ChangeEvent>();
+		ChangeSubscriber subscriber = received::add;
+		bus.subscribe(subscriber);
+		bus.publish(ChangeEvent.Kind.SCORE, this);
+		bus.unsubscribe(subscriber);
+		bus.publish(ChangeEvent.Kind.SCORE, this);
+		assertEquals(1, received.size());
+	}
+}
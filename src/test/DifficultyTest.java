@@ -0,0 +1,54 @@
+package test;
+
+import main.*;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DifficultyTest {
+
+	@Test
+	public void testFromName() {
+		assertEquals(Difficulty.EASY, Difficulty.fromName("Easy"));
+		assertEquals(Difficulty.EASY, Difficulty.fromName("easy"));
+		assertEquals(Difficulty.HARD, Difficulty.fromName("HARD"));
+		assertThrows(IllegalArgumentException.class, () -> Difficulty.fromName("medium"));
+		assertEquals("Hard", Difficulty.HARD.toString());
+	}
+
+	@Test
+	public void testOutcome() {
+		assertEquals(Difficulty.WIN, Difficulty.outcome(80, 60));
+		assertEquals(Difficulty.DRAW, Difficulty.outcome(70, 70));
+		assertEquals(Difficulty.LOSS, Difficulty.outcome(50, 60));
+		assertEquals(Difficulty.WIN, Difficulty.outcome(Integer.MAX_VALUE, Integer.MIN_VALUE));
+		assertEquals(Difficulty.LOSS, Difficulty.outcome(Integer.MIN_VALUE, Integer.MAX_VALUE));
+	}
+
+	@Test
+	public void testTables() {
+		assertEquals(5000, Difficulty.EASY.getStartingMoney());
+		assertEquals(3000, Difficulty.HARD.getStartingMoney());
+		assertEquals(-10, Difficulty.EASY.getStaminaChange(Difficulty.WIN));
+		assertEquals(-25, Difficulty.HARD.getStaminaChange(Difficulty.LOSS));
+		assertEquals(0, Difficulty.HARD.getStaminaChange(Difficulty.DRAW));
+		assertEquals(6, Difficulty.HARD.getScore(Difficulty.WIN));
+		assertEquals(1000, Difficulty.HARD.getPayout(Difficulty.LOSS));
+		assertEquals(500, Difficulty.EASY.getPayout(Difficulty.LOSS));
+	}
+
+	@Test
+	public void testHardPayout() {
+		GameManager manager = SeasonSimulator.newSeason(1, "Team", Difficulty.HARD, 5);
+		manager.setOpposingTeam(manager.getWeeklyTeams().get(0));
+		int money = manager.getMoney();
+		String result = manager.playMatch();
+		if (result.equals("player")) {
+			assertEquals(6, manager.getScore());
+		} else if (result.equals("draw")) {
+			assertEquals(2, manager.getScore());
+		} else {
+			assertEquals(money + 1000, manager.getMoney());
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package test;
+
+import main.*;
+import main.Athlete.STATS;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class GameJournalTest {
+
+	private Path directory;
+
+	private Path checkpointPath;
+
+	private Path journalPath;
+
+	private GameManager manager;
+
+	private GameJournal journal;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		directory = Files.createTempDirectory("journal");
+		checkpointPath = directory.resolve("game.checkpoint");
+		journalPath = directory.resolve("game.journal");
+		manager = SeasonSimulator.newSeason(9, "Team", Difficulty.EASY, 20);
+		journal = new GameJournal(checkpointPath, journalPath);
+		manager.setJournal(journal);
+		journal.checkpoint(manager);
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		journal.close();
+		Files.deleteIfExists(checkpointPath);
+		Files.deleteIfExists(journalPath);
+		Files.delete(directory);
+	}
+
+	public void assertSameGame(GameManager expected, GameManager actual) {
+		assertEquals(expected.getMoney(), actual.getMoney());
+		assertEquals(expected.getCurrentWeek(), actual.getCurrentWeek());
+		assertEquals(expected.getScore(), actual.getScore());
+		assertEquals(expected.getTeam().getReserves().size(), actual.getTeam().getReserves().size());
+		assertEquals(expected.getTeam().getItems().size(), actual.getTeam().getItems().size());
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			Athlete athlete = expected.getTeam().starter(i);
+			assertEquals(athlete.getName(), actual.getTeam().starter(i).getName());
+			for (STATS stat : STATS.values()) {
+				assertEquals(athlete.getStat(stat), actual.getTeam().starter(i).getStat(stat));
+			}
+		}
+		assertEquals(expected.getWeeklyTeams().get(0).getTeamName(), actual.getWeeklyTeams().get(0).getTeamName());
+	}
+
+	public void playWeek() {
+		Market market = manager.getMarket();
+		manager.buyAthlete(market.getPurchasableAthletes().get(0), false);
+		manager.buyItem(market.getPurchasableItems().get(0));
+		manager.useItem(manager.getTeam().getItems().get(0), manager.getTeam().starter(0));
+		manager.makeStarter(manager.getTeam().getReserves().get(0));
+		manager.renameAthlete(manager.getTeam().getReserves().get(0), "Benched");
+		manager.sellAthlete(manager.getTeam().getReserves().get(0));
+		if (manager.getTeam().canPlay()) {
+			manager.setOpposingTeam(manager.getWeeklyTeams().get(1));
+			manager.playMatch();
+			manager.incrementWeek();
+		} else {
+			manager.takeBye();
+			manager.trainAthlete(manager.getTeam().starter(2));
+			manager.applyRandomEvent();
+		}
+	}
+
+	@Test
+	public void testRecover() throws IOException {
+		for (int i = 0; i < 5; i++) {
+			playWeek();
+		}
+		journal.sync();
+		assertSameGame(manager, GameJournal.recover(checkpointPath, journalPath));
+	}
+
+	@Test
+	public void testCloseWritesWaitingActions() throws IOException {
+		for (int i = 0; i < 5; i++) {
+			playWeek();
+		}
+		journal.close();
+		journal.close();
+		assertSameGame(manager, GameJournal.recover(checkpointPath, journalPath));
+	}
+
+	@Test
+	public void testCompaction() throws IOException {
+		manager.changeMoney(1000000);
+		for (int i = 0; i < 60; i++) {
+			playWeek();
+		}
+		journal.sync();
+		assertTrue(Files.size(journalPath) < 60 * 8 * 32);
+		assertSameGame(manager, GameJournal.recover(checkpointPath, journalPath));
+	}
+
+	@Test
+	public void testRecoverWithAutosave() throws Exception {
+		Path savePath = directory.resolve("game.save");
+		try (AutosaveService autosave = new AutosaveService(savePath)) {
+			manager.setAutosave(autosave);
+			for (int i = 0; i < 4; i++) {
+				playWeek();
+				manager.leaveShop();
+			}
+			autosave.flush();
+		}
+		journal.sync();
+		GameManager recovered = GameJournal.recover(checkpointPath, journalPath);
+		assertSameGame(manager, recovered);
+		for (int i = 0; i < 3; i++) {
+			assertEquals(manager.getMarket().getPurchasableAthletes().get(i).getName(),
+					recovered.getMarket().getPurchasableAthletes().get(i).getName());
+		}
+		manager.incrementWeek();
+		recovered.incrementWeek();
+		assertEquals(manager.getMarket().getPurchasableAthletes().get(0).getName(),
+				recovered.getMarket().getPurchasableAthletes().get(0).getName());
+		Files.delete(savePath);
+	}
+
+	@Test
+	public void testTornTail() throws IOException {
+		playWeek();
+		journal.sync();
+		Files.write(journalPath, new byte[] { 0, 0, 0, 20, 1, 2, 3 }, StandardOpenOption.APPEND);
+		assertSameGame(manager, GameJournal.recover(checkpointPath, journalPath));
+	}
+
+	@Test
+	public void testAppendBeforeCheckpoint() throws IOException {
+		Path otherJournal = directory.resolve("other.journal");
+		try (GameJournal other = new GameJournal(directory.resolve("other.checkpoint"), otherJournal)) {
+			assertThrows(IllegalStateException.class, () -> other.append(GameAction.INCREMENT_WEEK, null));
+		}
+		Files.delete(otherJournal);
+	}
+}
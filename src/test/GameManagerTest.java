@@ -8,6 +8,9 @@ import gui.*;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.List;
+
 class GameManagerTest {
 	private GameManager gameManager;
 
@@ -40,6 +43,40 @@ class GameManagerTest {
 		assertEquals(initialWeek + 1, gameManager.getCurrentWeek());
 	}
 
+	@Test
+	void testIncrementWeekSwapsInNextWeek() {
+		Market market = gameManager.getMarket();
+		ArrayList<Team> teams = gameManager.getWeeklyTeams();
+		ArrayList<Athlete> athletes = market.getPurchasableAthletes();
+		market.addWeeklyPurchasedAthletes(athletes.get(0));
+		gameManager.incrementWeek();
+		assertNotSame(teams, gameManager.getWeeklyTeams());
+		assertNotSame(athletes, market.getPurchasableAthletes());
+		assertEquals(3, gameManager.getWeeklyTeams().size());
+		assertEquals(3, market.getPurchasableAthletes().size());
+		assertEquals(3, market.getPurchasableItems().size());
+		assertTrue(market.getWeeklyPurchasedAthletes().isEmpty());
+	}
+
+	@Test
+	void testSameSeedSameGame() {
+		GameManager first = new GameManager(42);
+		GameManager second = new GameManager(42);
+		assertEquals(42, first.getSeed());
+		for (int week = 0; week < 3; week++) {
+			for (int i = 0; i < first.getWeeklyTeams().size(); i++) {
+				assertEquals(first.getWeeklyTeams().get(i).getTeamName(),
+						second.getWeeklyTeams().get(i).getTeamName());
+				assertEquals(first.getWeeklyTeams().get(i).getPlayersArray().toString(),
+						second.getWeeklyTeams().get(i).getPlayersArray().toString());
+			}
+			assertEquals(first.getMarket().getPurchasableAthletes().toString(),
+					second.getMarket().getPurchasableAthletes().toString());
+			first.incrementWeek();
+			second.incrementWeek();
+		}
+	}
+
 	@Test
 	void testSetAndGetNumWeeks() {
 		int numWeeks = 10;
@@ -65,7 +102,7 @@ class GameManagerTest {
 	@Test
 	void testSetandGetDifficulty() {
 		assertNull(gameManager.getDifficulty());
-		String easy = "Easy";
+		Difficulty easy = Difficulty.EASY;
 		gameManager.setDifficulty(easy);
 		assertEquals(gameManager.getDifficulty(), easy);
 	}
@@ -78,4 +115,45 @@ class GameManagerTest {
 		assertEquals(gameManager.getOpposingTeam(), team);
 	}
 
+	@Test
+	void testHeadlessStateMachine() {
+		ArrayList<GameState> states = new ArrayList<GameState>();
+		gameManager.addObserver((previous, state) -> states.add(state));
+		assertEquals(GameState.START, gameManager.getState());
+		gameManager.start();
+		gameManager.setTeamName("Headless");
+		gameManager.setDifficulty(Difficulty.EASY);
+		gameManager.setNumWeeks(2);
+		gameManager.finishGameSetup();
+		for (int i = 0; i < Athlete.NUM_POSITIONS; i++) {
+			gameManager.getTeam().addPlayer(gameManager.getMarket().getStarterAthletes().get(i));
+		}
+		gameManager.finishTeamSetup();
+		gameManager.goTo(GameManager.GOTOSCREEN.SHOP);
+		gameManager.leaveShop();
+		gameManager.goTo(GameManager.GOTOSCREEN.STADIUM);
+		gameManager.selectOpponent();
+		gameManager.setOpposingTeam(gameManager.getWeeklyTeams().get(0));
+		gameManager.startMatch();
+		assertEquals(GameState.MATCH, gameManager.getState());
+		gameManager.finishMatch();
+		assertEquals(2, gameManager.getCurrentWeek());
+		gameManager.quit();
+		assertEquals(List.of(GameState.SETUP, GameState.TEAM_SETUP, GameState.MAIN, GameState.SHOP,
+				GameState.MAIN, GameState.STADIUM, GameState.OPPONENT_SELECTOR, GameState.MATCH, GameState.GAME_OVER,
+				GameState.QUIT), states);
+	}
+
+	@Test
+	void testByeNotifiesTraining() {
+		gameManager.setNumWeeks(5);
+		ArrayList<GameState> states = new ArrayList<GameState>();
+		gameManager.addObserver((previous, state) -> states.add(state));
+		gameManager.bye();
+		assertEquals(GameState.TRAINING, gameManager.getState());
+		assertEquals(2, gameManager.getCurrentWeek());
+		gameManager.returnToMain();
+		assertEquals(List.of(GameState.TRAINING, GameState.MAIN), states);
+	}
+
 }
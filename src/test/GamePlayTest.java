@@ -51,7 +51,7 @@ public class GamePlayTest {
 		opposingTeam.addPlayer(player5);
 
 		// Create Gameplay object
-		gameplay = new Gameplay(playerTeam, opposingTeam, "easy");
+		gameplay = new Gameplay(playerTeam, opposingTeam, Difficulty.EASY);
 	}
 
 	@Test
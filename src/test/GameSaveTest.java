@@ -0,0 +1,93 @@
+package test;
+
+import main.*;
+import main.Athlete.STATS;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+public class GameSaveTest {
+
+	private Path path;
+
+	private GameManager manager;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		path = Files.createTempFile("game", ".save");
+		manager = SeasonSimulator.newSeason(5, "Team", Difficulty.HARD, 10);
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	@Test
+	public void testSaveAndLoad() throws IOException {
+		manager.incrementWeek();
+		manager.changeMoney(-250);
+		manager.getTeam().starter(0).changeStat(-30, STATS.CS);
+		manager.getTeam().starter(0).setNickname("Nick");
+		manager.getTeam().buyPlayer(manager.getMarket().getPurchasableAthletes().get(1));
+		manager.getTeam().buyConsumable(manager.getMarket().getPurchasableItems().get(0));
+		manager.getMarket().addWeeklyPurchasedAthletes(manager.getMarket().getPurchasableAthletes().get(1));
+		manager.setOpposingTeam(manager.getWeeklyTeams().get(2));
+		GameSave.save(manager, path);
+
+		GameManager loaded = GameSave.load(path);
+		assertEquals(manager.getSeed(), loaded.getSeed());
+		assertEquals(manager.getMoney(), loaded.getMoney());
+		assertEquals(2, loaded.getCurrentWeek());
+		assertEquals(10, loaded.getNumWeeks());
+		assertEquals(Difficulty.HARD, loaded.getDifficulty());
+		assertEquals("Team", loaded.getTeamName());
+		Athlete athlete = loaded.getTeam().starter(0);
+		assertEquals("Nick", athlete.getName());
+		assertEquals(manager.getTeam().starter(0).getStat(STATS.CS), athlete.getStat(STATS.CS));
+		assertEquals(manager.getTeam().starter(0).getRating(), athlete.getRating());
+		assertEquals(1, loaded.getTeam().getReserves().size());
+		assertEquals(manager.getTeam().getItems().get(0).getName(), loaded.getTeam().getItems().get(0).getName());
+		assertSame(loaded.getMarket().getPurchasableAthletes().get(1),
+				loaded.getMarket().getWeeklyPurchasedAthletes().get(0));
+		assertSame(loaded.getWeeklyTeams().get(2), loaded.getOpposingTeam());
+		assertEquals(manager.getWeeklyTeams().get(2).getTeamName(), loaded.getOpposingTeam().getTeamName());
+	}
+
+	@Test
+	public void testLoadedGameContinuesTheSame() throws IOException {
+		GameSave.save(manager, path);
+		GameManager loaded = GameSave.load(path);
+		SeasonSimulator simulator = new SeasonSimulator(SeasonPolicy.weakestOpponent());
+		SeasonReport original = simulator.play(manager);
+		SeasonReport restored = simulator.play(loaded);
+		assertEquals(original.getFinalScore(), restored.getFinalScore());
+		assertEquals(original.getMoney(), restored.getMoney());
+		assertEquals(manager.getWeeklyTeams().get(0).getTeamName(), loaded.getWeeklyTeams().get(0).getTeamName());
+	}
+
+	@Test
+	public void testLargeReserves() throws IOException {
+		GenerateRandom random = new GenerateRandom();
+		for (int i = 0; i < 5000; i++) {
+			manager.getTeam().buyPlayer(random.generateAthlete(i % 5));
+		}
+		GameSave.save(manager, path);
+		GameManager loaded = GameSave.load(path);
+		assertEquals(5000, loaded.getTeam().getReserves().size());
+		assertEquals(manager.getTeam().getReserves().get(4999).getName(),
+				loaded.getTeam().getReserves().get(4999).getName());
+	}
+
+	@Test
+	public void testNotASave() throws IOException {
+		Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+		assertThrows(IllegalArgumentException.class, () -> GameSave.load(path));
+	}
+}
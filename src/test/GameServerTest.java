@@ -0,0 +1,158 @@
+package test;
+
+import main.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class GameServerTest {
+
+	private GameServer server;
+
+	private HttpClient client;
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		server = new GameServer(new InetSocketAddress("localhost", 0), 4);
+		server.start();
+		client = HttpClient.newHttpClient();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		server.stop();
+	}
+
+	private HttpRequest request(String method, String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+				.method(method, HttpRequest.BodyPublishers.noBody()).build();
+	}
+
+	private HttpResponse<String> send(String method, String path) throws IOException, InterruptedException {
+		return client.send(request(method, path), HttpResponse.BodyHandlers.ofString());
+	}
+
+	private static int intField(String json, String name) {
+		Matcher matcher = Pattern.compile("\"" + name + "\":(-?\\d+)").matcher(json);
+		assertTrue(matcher.find());
+		return Integer.parseInt(matcher.group(1));
+	}
+
+	@Test
+	public void testCreateAndGet() throws IOException, InterruptedException {
+		HttpResponse<String> created = send("POST", "/sessions?team=Hoopers%20FC&difficulty=hard&weeks=5&seed=7");
+		assertEquals(200, created.statusCode());
+		assertTrue(created.body().contains("\"name\":\"Hoopers FC\""));
+		assertTrue(created.body().contains("\"difficulty\":\"Hard\""));
+		assertEquals(Difficulty.HARD.getStartingMoney(), intField(created.body(), "money"));
+		int id = intField(created.body(), "id");
+		HttpResponse<String> state = send("GET", "/sessions/" + id);
+		assertEquals(200, state.statusCode());
+		assertEquals(created.body(), state.body());
+		assertEquals(1, server.getSessionCount());
+	}
+
+	@Test
+	public void testPlaySeason() throws IOException, InterruptedException {
+		int id = intField(send("POST", "/sessions?weeks=5&seed=3").body(), "id");
+		for (int week = 1; week < 5; week++) {
+			HttpResponse<String> response = week % 2 == 0 ? send("POST", "/sessions/" + id + "/bye?train=0")
+					: send("POST", "/sessions/" + id + "/match?opponent=0");
+			assertEquals(200, response.statusCode(), response.body());
+			assertEquals(week + 1, intField(response.body(), "week"));
+		}
+		HttpResponse<String> over = send("POST", "/sessions/" + id + "/match?opponent=0");
+		assertEquals(409, over.statusCode());
+		assertTrue(send("GET", "/sessions/" + id).body().contains("\"over\":true"));
+	}
+
+	@Test
+	public void testBuy() throws IOException, InterruptedException {
+		int id = intField(send("POST", "/sessions?seed=5").body(), "id");
+		HttpResponse<String> bought = send("POST", "/sessions/" + id + "/buy-item?index=0");
+		assertEquals(200, bought.statusCode());
+		assertTrue(bought.body().contains("\"purchased\":true"));
+		assertEquals(409, send("POST", "/sessions/" + id + "/buy-item?index=0").statusCode());
+		assertEquals(200, send("POST", "/sessions/" + id + "/buy-athlete?index=0").statusCode());
+		assertTrue(send("GET", "/sessions/" + id).body().matches(".*\"reserves\":\\[\\{.*"));
+	}
+
+	@Test
+	public void testErrors() throws IOException, InterruptedException {
+		assertEquals(404, send("GET", "/sessions/99").statusCode());
+		assertEquals(404, send("GET", "/sessionsx").statusCode());
+		assertEquals(405, send("GET", "/sessions").statusCode());
+		assertEquals(400, send("POST", "/sessions?difficulty=Impossible").statusCode());
+		int id = intField(send("POST", "/sessions").body(), "id");
+		assertEquals(400, send("POST", "/sessions/" + id + "/match").statusCode());
+		assertEquals(400, send("POST", "/sessions/" + id + "/match?opponent=9").statusCode());
+		assertEquals(404, send("POST", "/sessions/" + id + "/dance").statusCode());
+		assertEquals(400, send("POST", "/sessions/" + id + "/bye?train=-1").statusCode());
+		assertEquals(400, send("POST", "/sessions/" + id + "/bye?train=9").statusCode());
+		assertEquals(1, intField(send("GET", "/sessions/" + id).body(), "week"));
+		assertEquals(200, send("DELETE", "/sessions/" + id).statusCode());
+		assertEquals(404, send("GET", "/sessions/" + id).statusCode());
+		assertEquals(0, server.getSessionCount());
+	}
+
+	@Test
+	public void testSessionCap() throws IOException, InterruptedException {
+		server.stop();
+		server = new GameServer(new InetSocketAddress("localhost", 0), 2, 2, GameServer.DEFAULT_IDLE_MILLIS);
+		server.start();
+		assertEquals(200, send("POST", "/sessions").statusCode());
+		int id = intField(send("POST", "/sessions").body(), "id");
+		assertEquals(503, send("POST", "/sessions").statusCode());
+		assertEquals(2, server.getSessionCount());
+		send("DELETE", "/sessions/" + id);
+		assertEquals(200, send("POST", "/sessions").statusCode());
+	}
+
+	@Test
+	public void testIdleSessionsAreEvicted() throws IOException, InterruptedException {
+		server.stop();
+		server = new GameServer(new InetSocketAddress("localhost", 0), 2, 10, 200);
+		server.start();
+		int idle = intField(send("POST", "/sessions").body(), "id");
+		int busy = intField(send("POST", "/sessions").body(), "id");
+		for (int i = 0; i < 10; i++) {
+			Thread.sleep(50);
+			assertEquals(200, send("GET", "/sessions/" + busy).statusCode());
+		}
+		assertEquals(404, send("GET", "/sessions/" + idle).statusCode());
+		assertEquals(200, send("GET", "/sessions/" + busy).statusCode());
+		assertEquals(1, server.getSessionCount());
+	}
+
+	@Test
+	public void testSessionsAreIsolated() {
+		List<CompletableFuture<String>> seasons = new ArrayList<CompletableFuture<String>>();
+		for (int i = 0; i < 50; i++) {
+			seasons.add(client.sendAsync(request("POST", "/sessions?weeks=5&seed=11"), HttpResponse.BodyHandlers.ofString())
+					.thenCompose(created -> {
+						int id = intField(created.body(), "id");
+						return client.sendAsync(request("POST", "/sessions/" + id + "/match?opponent=1"),
+								HttpResponse.BodyHandlers.ofString());
+					}).thenApply(played -> played.body().replaceAll("\"id\":\\d+", "")));
+		}
+		String first = seasons.get(0).join();
+		for (CompletableFuture<String> season : seasons) {
+			assertEquals(first, season.join());
+		}
+		assertEquals(50, server.getSessionCount());
+	}
+}
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -59,6 +60,17 @@ class GenerateRandomTest {
 		}
 	}
 
+	@Test
+	void testGenerateManyTeams() {
+		ArrayList<Team> teams = generateRandom.generateTeams(100);
+		assertEquals(100, teams.size());
+
+		HashSet<String> names = new HashSet<String>();
+		for (Team team : teams) {
+			assertTrue(names.add(team.getTeamName()));
+		}
+	}
+
 	@Test
 	void testGetRandomNumber() {
 		int randomNumber = generateRandom.getRandomNumber(100);
@@ -0,0 +1,76 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+
+public class MatchEngineTest {
+
+	private MatchEngine engine;
+
+	public Athlete generateAthlete(String tempName, POSITION pos, int stat) {
+		HashMap<Athlete.STATS, Integer> stats = new HashMap<Athlete.STATS, Integer>();
+		stats.put(Athlete.STATS.O, stat);
+		stats.put(Athlete.STATS.D, stat);
+		stats.put(Athlete.STATS.S, stat);
+		stats.put(Athlete.STATS.A, stat);
+		return new Athlete(tempName, pos, stats);
+	}
+
+	public Team generateTeam(String name, int stat) {
+		Team team = new Team(name);
+		for (POSITION pos : POSITION.values()) {
+			team.addPlayer(generateAthlete(name + pos, pos, stat));
+		}
+		return team;
+	}
+
+	@BeforeEach
+	public void setUp() {
+		engine = new MatchEngine(Difficulty.EASY);
+	}
+
+	@Test
+	public void testPlayPlayerWins() {
+		MatchResult result = engine.play(generateTeam("Strong", 90), generateTeam("Weak", 60));
+		assertEquals(5, result.getPlayerPoints());
+		assertEquals(0, result.getOpponentPoints());
+		assertEquals("player", result.getWinner());
+		assertEquals(-10, result.getStaminaDelta(POSITION.PG));
+	}
+
+	@Test
+	public void testPlayOpponentWins() {
+		MatchResult result = engine.play(generateTeam("Weak", 60), generateTeam("Strong", 90));
+		assertEquals("opponent", result.getWinner());
+		assertEquals(-15, result.getStaminaDelta(POSITION.C));
+	}
+
+	@Test
+	public void testPlayDrawLeavesStamina() {
+		MatchResult result = engine.play(generateTeam("A", 70), generateTeam("B", 70));
+		assertEquals("draw", result.getWinner());
+		assertEquals(0, result.getStaminaDelta(POSITION.SF));
+	}
+
+	@Test
+	public void testPlayAll() {
+		Team[] players = { generateTeam("A", 90), generateTeam("B", 60) };
+		Team[] opponents = { generateTeam("C", 60), generateTeam("D", 90) };
+		MatchResult[] results = engine.playAll(players, opponents);
+		assertEquals(2, results.length);
+		assertEquals("player", results[0].getWinner());
+		assertEquals("opponent", results[1].getWinner());
+	}
+
+	@Test
+	public void testPlayAllMismatchedLengths() {
+		Team[] players = { generateTeam("A", 90) };
+		assertThrows(IllegalArgumentException.class, () -> engine.playAll(players, new Team[0]));
+	}
+}
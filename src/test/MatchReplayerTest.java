@@ -0,0 +1,137 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+import main.Athlete.STATS;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+
+public class MatchReplayerTest {
+
+	private Path path;
+
+	public Team generateTeam(int stat) {
+		Team team = new Team("Team");
+		for (POSITION pos : POSITION.values()) {
+			HashMap<STATS, Integer> stats = new HashMap<STATS, Integer>();
+			stats.put(STATS.O, stat);
+			stats.put(STATS.D, stat);
+			stats.put(STATS.S, stat);
+			stats.put(STATS.A, stat);
+			team.addPlayer(new Athlete(pos.name(), pos, stats));
+		}
+		return team;
+	}
+
+	@BeforeEach
+	public void setUp() throws IOException {
+		path = Files.createTempFile("replay", ".log");
+		Files.delete(path);
+	}
+
+	@AfterEach
+	public void tearDown() throws IOException {
+		Files.deleteIfExists(path);
+	}
+
+	@Test
+	public void testRecordAndReplay() throws IOException {
+		Team player = generateTeam(80);
+		Team opponent = generateTeam(60);
+		try (MatchReplayLog log = new MatchReplayLog(path)) {
+			Gameplay gamePlay = new Gameplay(new Team(player), opponent, Difficulty.EASY);
+			gamePlay.play();
+			log.record(42, player, opponent, Difficulty.EASY, gamePlay);
+		}
+		MatchReplayer replayer = new MatchReplayer(path);
+		assertEquals(1, replayer.size());
+		assertEquals(42, replayer.getSeed(0));
+		assertEquals(Difficulty.EASY, replayer.getDifficulty(0));
+		assertEquals("player", replayer.getWinner(0));
+		assertEquals(5, replayer.replay(0).getPlayerPoints());
+		assertTrue(replayer.verify(0));
+	}
+
+	@Test
+	public void testAppend() throws IOException {
+		for (int i = 0; i < 2; i++) {
+			try (MatchReplayLog log = new MatchReplayLog(path)) {
+				Gameplay gamePlay = new Gameplay(generateTeam(50), generateTeam(70), Difficulty.HARD);
+				gamePlay.play();
+				log.record(i, generateTeam(50), generateTeam(70), Difficulty.HARD, gamePlay);
+			}
+		}
+		MatchReplayer replayer = new MatchReplayer(path);
+		assertEquals(2, replayer.size());
+		assertEquals(1, replayer.getSeed(1));
+		assertEquals("opponent", replayer.getWinner(1));
+		assertEquals(0, replayer.verifyAll());
+		assertThrows(IndexOutOfBoundsException.class, () -> replayer.getSeed(2));
+	}
+
+	@Test
+	public void testBeginAndFinish() throws IOException {
+		Team player = generateTeam(80);
+		Team opponent = generateTeam(60);
+		try (MatchReplayLog log = new MatchReplayLog(path)) {
+			assertThrows(IllegalStateException.class, () -> log.finish(null));
+			log.begin(7, player, opponent, Difficulty.EASY);
+			assertThrows(IllegalStateException.class, () -> log.begin(7, player, opponent, Difficulty.EASY));
+			assertThrows(IllegalStateException.class, () -> log.flush());
+			Gameplay gamePlay = new Gameplay(player, opponent, Difficulty.EASY);
+			gamePlay.play();
+			log.finish(gamePlay);
+		}
+		MatchReplayer replayer = new MatchReplayer(path);
+		assertEquals(1, replayer.size());
+		assertEquals("player", replayer.getWinner(0));
+		assertTrue(replayer.verify(0));
+	}
+
+	@Test
+	public void testAbort() throws IOException {
+		Team player = generateTeam(80);
+		Team opponent = generateTeam(60);
+		try (MatchReplayLog log = new MatchReplayLog(path)) {
+			log.abort();
+			log.begin(1, player, opponent, Difficulty.HARD);
+			log.abort();
+			assertThrows(NullPointerException.class, () -> log.begin(2, player, new Team("Empty"), Difficulty.HARD));
+			log.begin(7, player, opponent, Difficulty.EASY);
+			Gameplay gamePlay = new Gameplay(player, opponent, Difficulty.EASY);
+			gamePlay.play();
+			log.finish(gamePlay);
+		}
+		MatchReplayer replayer = new MatchReplayer(path);
+		assertEquals(1, replayer.size());
+		assertEquals(7, replayer.getSeed(0));
+		assertTrue(replayer.verify(0));
+	}
+
+	@Test
+	public void testNotAReplayLog() throws IOException {
+		Files.write(path, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+		assertThrows(IllegalArgumentException.class, () -> new MatchReplayer(path));
+	}
+
+	@Test
+	public void testReplaySeason() throws IOException {
+		GameManager manager = SeasonSimulator.newSeason(3, "Team", Difficulty.HARD, 15);
+		try (MatchReplayLog log = new MatchReplayLog(path)) {
+			manager.setReplayLog(log);
+			new SeasonSimulator(SeasonPolicy.weakestOpponent()).play(manager);
+		}
+		MatchReplayer replayer = new MatchReplayer(path);
+		assertTrue(replayer.size() > 0);
+		assertEquals(3, replayer.getSeed(0));
+		assertEquals(0, replayer.verifyAll());
+	}
+}
@@ -0,0 +1,56 @@
+package test;
+
+import main.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameSamplerTest {
+	private NameSampler sampler;
+	private Random random;
+
+	@BeforeEach
+	void setUp() {
+		sampler = new NameSampler(Arrays.asList("Ray", "Tim", "Gus"));
+		random = new Random();
+	}
+
+	@Test
+	void testNextIsUnique() {
+		HashSet<String> names = new HashSet<String>();
+		for (int i = 0; i < 3; i++) {
+			assertTrue(names.add(sampler.next(random)));
+		}
+		assertEquals(new HashSet<String>(Arrays.asList("Ray", "Tim", "Gus")), names);
+		assertEquals(0, sampler.remaining());
+	}
+
+	@Test
+	void testNextSuffixesWhenExhausted() {
+		HashSet<String> names = new HashSet<String>();
+		for (int i = 0; i < 9; i++) {
+			assertTrue(names.add(sampler.next(random)));
+		}
+		assertTrue(names.contains("Ray 2"));
+		assertTrue(names.contains("Gus 3"));
+	}
+
+	@Test
+	void testReset() {
+		sampler.next(random);
+		assertEquals(2, sampler.remaining());
+		sampler.reset();
+		assertEquals(3, sampler.remaining());
+	}
+
+	@Test
+	void testEmptyPool() {
+		assertThrows(IllegalArgumentException.class, () -> new NameSampler(Arrays.asList()));
+	}
+}
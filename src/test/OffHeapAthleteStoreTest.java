@@ -0,0 +1,133 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+import main.Athlete.STATS;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+
+public class OffHeapAthleteStoreTest {
+
+	private OffHeapAthleteStore store;
+
+	public Athlete generateAthlete(String name, POSITION pos, int stat) {
+		HashMap<STATS, Integer> stats = new HashMap<STATS, Integer>();
+		stats.put(STATS.O, stat);
+		stats.put(STATS.D, stat);
+		stats.put(STATS.S, stat);
+		stats.put(STATS.A, stat);
+		return new Athlete(name, pos, stats);
+	}
+
+	@BeforeEach
+	public void setUp() {
+		store = new OffHeapAthleteStore();
+	}
+
+	@Test
+	public void testAdd() {
+		int row = store.add("John Doe", POSITION.PG, 80, 75, 90, 85);
+		assertEquals(1, store.size());
+		assertEquals("John Doe", store.getName(row));
+		assertEquals(POSITION.PG, store.getPosition(row));
+		assertEquals(82, store.getRating(row));
+		assertEquals(82 * 20, store.getPrice(row));
+		assertEquals(90, store.getStat(row, STATS.CS));
+	}
+
+	@Test
+	public void testRowsAcrossChunks() {
+		int rows = OffHeapAthleteStore.ROWS_PER_CHUNK + 10;
+		for (int i = 0; i < rows; i++) {
+			store.add("Player", POSITION.values()[i % 5], i % 100, 50, 50, 50);
+		}
+		assertEquals(rows, store.size());
+		int last = rows - 1;
+		assertEquals(last % 100, store.getStat(last, STATS.O));
+		assertEquals(POSITION.values()[last % 5], store.getPosition(last));
+
+		int[] best = store.bestRatingByPosition();
+		for (POSITION pos : POSITION.values()) {
+			assertEquals(store.bestRating(pos), best[pos.ordinal()]);
+			assertEquals(pos, store.getPosition(best[pos.ordinal()]));
+		}
+	}
+
+	@Test
+	public void testGetAndSet() {
+		Athlete athlete = generateAthlete("John Doe", POSITION.SF, 70);
+		athlete.changeStat(-athlete.getStat(STATS.CS), STATS.CS);
+		int row = store.add(athlete);
+
+		Athlete copy = store.get(row);
+		assertEquals(athlete.toString(), copy.toString());
+		assertEquals(1, copy.getInjuries());
+		assertTrue(store.isInjured(row));
+
+		copy.restoreCurrentStamina();
+		store.set(row, copy);
+		assertFalse(store.isInjured(row));
+	}
+
+	@Test
+	public void testChangeStat() {
+		int row = store.add("John Doe", POSITION.PG, 80, 75, 90, 85);
+		store.changeStat(row, 100, STATS.O);
+		assertEquals(99, store.getStat(row, STATS.O));
+		assertEquals(87, store.getRating(row));
+
+		store.changeStat(row, -200, STATS.CS);
+		assertEquals(0, store.getStat(row, STATS.CS));
+		assertEquals(1, store.getInjuries(row));
+
+		store.restoreCurrentStamina(row);
+		assertEquals(90, store.getStat(row, STATS.CS));
+	}
+
+	@Test
+	public void testPlayMatchMatchesGameplay() {
+		int[] ratings = { 60, 70, 80, 70, 50 };
+		int[] opposingRatings = { 70, 70, 60, 40, 90 };
+		Team player = new Team("Player");
+		Team opponent = new Team("Opponent");
+		int[] playerLineup = new int[5];
+		int[] opposingLineup = new int[5];
+		for (POSITION pos : POSITION.values()) {
+			Athlete athlete = generateAthlete("P" + pos, pos, ratings[pos.ordinal()]);
+			Athlete opposing = generateAthlete("O" + pos, pos, opposingRatings[pos.ordinal()]);
+			player.addPlayer(athlete);
+			opponent.addPlayer(opposing);
+			playerLineup[pos.ordinal()] = store.add(athlete);
+			opposingLineup[pos.ordinal()] = store.add(opposing);
+		}
+
+		Gameplay gamePlay = new Gameplay(player, opponent, Difficulty.HARD);
+		gamePlay.play();
+		MatchResult result = store.playMatch(playerLineup, opposingLineup, Difficulty.HARD);
+		assertEquals(gamePlay.getPlayerPoints(), result.getPlayerPoints());
+		assertEquals(gamePlay.getOpponentPoints(), result.getOpponentPoints());
+		assertEquals(gamePlay.declareWinner(), result.getWinner());
+		for (POSITION pos : POSITION.values()) {
+			assertEquals(player.starter(pos).getStat(STATS.CS), store.getStat(playerLineup[pos.ordinal()], STATS.CS));
+		}
+
+		gamePlay = new Gameplay(player, opponent, Difficulty.HARD);
+		gamePlay.play();
+		int[] buffer = new int[AthleteStore.RESULT_SIZE];
+		assertEquals(gamePlay.getOutcome(), store.playMatch(playerLineup, opposingLineup, Difficulty.HARD, buffer));
+		assertEquals(gamePlay.getPlayerPoints(), buffer[AthleteStore.PLAYER_POINTS]);
+		assertEquals(gamePlay.getOpponentPoints(), buffer[AthleteStore.OPPONENT_POINTS]);
+		for (POSITION pos : POSITION.values()) {
+			assertEquals(player.starter(pos).getStat(STATS.CS), store.getStat(playerLineup[pos.ordinal()], STATS.CS));
+		}
+	}
+
+	@Test
+	public void testMissingRow() {
+		assertThrows(IndexOutOfBoundsException.class, () -> store.getRating(0));
+	}
+}
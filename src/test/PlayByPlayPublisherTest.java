@@ -0,0 +1,165 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+import main.Athlete.STATS;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class PlayByPlayPublisherTest {
+
+	private Team playerTeam;
+
+	private Team opposingTeam;
+
+	private ExecutorService executor;
+
+	public Team generateTeam(int stat) {
+		Team team = new Team("Team");
+		for (POSITION pos : POSITION.values()) {
+			HashMap<STATS, Integer> stats = new HashMap<STATS, Integer>();
+			stats.put(STATS.O, stat);
+			stats.put(STATS.D, stat);
+			stats.put(STATS.S, stat);
+			stats.put(STATS.A, stat);
+			team.addPlayer(new Athlete(pos.name(), pos, stats));
+		}
+		return team;
+	}
+
+	@BeforeEach
+	public void setUp() {
+		playerTeam = generateTeam(70);
+		opposingTeam = generateTeam(50);
+		executor = Executors.newFixedThreadPool(2);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		executor.shutdownNow();
+	}
+
+	private static class Recorder implements Flow.Subscriber<PlayByPlayEvent> {
+		private long batch;
+		private long delay;
+		private Flow.Subscription subscription;
+		private List<PlayByPlayEvent> events = new ArrayList<PlayByPlayEvent>();
+		private CountDownLatch done = new CountDownLatch(1);
+		private AtomicInteger completions = new AtomicInteger();
+
+		Recorder(long batch, long delay) {
+			this.batch = batch;
+			this.delay = delay;
+		}
+
+		public void onSubscribe(Flow.Subscription subscription) {
+			this.subscription = subscription;
+			subscription.request(batch);
+		}
+
+		public void onNext(PlayByPlayEvent event) {
+			events.add(event);
+			if (delay > 0) {
+				try {
+					Thread.sleep(delay);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (batch != Long.MAX_VALUE) {
+				subscription.request(batch);
+			}
+		}
+
+		public void onError(Throwable error) {
+			done.countDown();
+		}
+
+		public void onComplete() {
+			completions.incrementAndGet();
+			done.countDown();
+		}
+	}
+
+	@Test
+	public void testFastSubscriberReceivesWholeMatch() throws InterruptedException {
+		PlayByPlayPublisher publisher = new PlayByPlayPublisher(executor, 16, new SplittableRandom(3));
+		Recorder recorder = new Recorder(Long.MAX_VALUE, 0);
+		publisher.subscribe(recorder);
+		PossessionEngine engine = publisher.play(playerTeam, opposingTeam);
+		assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+		assertEquals(1, recorder.completions.get());
+		assertEquals(engine.getPossessions(), recorder.events.size());
+		int[] scores = new int[2];
+		for (int i = 0; i < recorder.events.size(); i++) {
+			PlayByPlayEvent event = recorder.events.get(i);
+			assertEquals(i, event.getNumber());
+			scores[event.getSide()] += event.getPoints();
+			assertEquals(scores[PossessionEngine.PLAYER], event.getPlayerScore());
+			assertEquals(scores[PossessionEngine.OPPONENT], event.getOpponentScore());
+		}
+		assertEquals(engine.getScore(PossessionEngine.PLAYER), scores[PossessionEngine.PLAYER]);
+		assertEquals(engine.getScore(PossessionEngine.OPPONENT), scores[PossessionEngine.OPPONENT]);
+	}
+
+	@Test
+	public void testSlowSubscriberIsBounded() throws InterruptedException {
+		PlayByPlayPublisher publisher = new PlayByPlayPublisher(executor, 4, new SplittableRandom(3));
+		Recorder slow = new Recorder(1, 1);
+		Recorder fast = new Recorder(Long.MAX_VALUE, 0);
+		publisher.subscribe(slow);
+		publisher.subscribe(fast);
+		AtomicInteger maximumLag = new AtomicInteger();
+		Thread monitor = new Thread(() -> {
+			while (slow.done.getCount() > 0) {
+				maximumLag.accumulateAndGet(publisher.getMaximumLag(), Math::max);
+				Thread.onSpinWait();
+			}
+		});
+		monitor.start();
+		PossessionEngine engine = publisher.play(playerTeam, opposingTeam);
+		assertTrue(slow.done.await(10, TimeUnit.SECONDS));
+		assertTrue(fast.done.await(10, TimeUnit.SECONDS));
+		monitor.join();
+		assertTrue(maximumLag.get() <= publisher.getBufferCapacity() + 1);
+		assertEquals(engine.getPossessions(), slow.events.size());
+		assertEquals(engine.getPossessions(), fast.events.size());
+		for (int i = 0; i < slow.events.size(); i++) {
+			assertEquals(fast.events.get(i).getPoints(), slow.events.get(i).getPoints());
+		}
+	}
+
+	@Test
+	public void testPlaysOnlyOneMatch() throws InterruptedException {
+		PlayByPlayPublisher publisher = new PlayByPlayPublisher(executor, 16, new SplittableRandom(3));
+		Recorder recorder = new Recorder(Long.MAX_VALUE, 0);
+		publisher.subscribe(recorder);
+		PossessionEngine engine = publisher.play(playerTeam, opposingTeam);
+		assertThrows(IllegalStateException.class, () -> publisher.play(playerTeam, opposingTeam));
+		assertTrue(recorder.done.await(10, TimeUnit.SECONDS));
+		assertEquals(1, recorder.completions.get());
+		assertEquals(engine.getPossessions(), recorder.events.size());
+	}
+
+	@Test
+	public void testCommentary() {
+		PlayByPlayEvent scored = new PlayByPlayEvent(0, PossessionEngine.PLAYER, POSITION.PG, 3, 3, 0);
+		assertEquals("Your PG scores 3 (3-0)", scored.toString());
+		PlayByPlayEvent missed = new PlayByPlayEvent(1, PossessionEngine.OPPONENT, POSITION.C, 0, 3, 0);
+		assertEquals("Their C misses (3-0)", missed.toString());
+	}
+}
@@ -0,0 +1,98 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+import main.Athlete.STATS;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+
+public class PossessionEngineTest {
+
+	private Team strong;
+
+	private Team weak;
+
+	public Team generateTeam(int stat) {
+		Team team = new Team("Team");
+		for (POSITION pos : POSITION.values()) {
+			HashMap<STATS, Integer> stats = new HashMap<STATS, Integer>();
+			stats.put(STATS.O, stat);
+			stats.put(STATS.D, stat);
+			stats.put(STATS.S, stat);
+			stats.put(STATS.A, stat);
+			team.addPlayer(new Athlete(pos.name(), pos, stats));
+		}
+		return team;
+	}
+
+	@BeforeEach
+	public void setUp() {
+		strong = generateTeam(90);
+		weak = generateTeam(30);
+	}
+
+	@Test
+	public void testPossessions() {
+		PossessionEngine engine = new PossessionEngine(new SplittableRandom(1));
+		engine.load(strong, weak);
+		int[] points = new int[2];
+		int[] count = new int[1];
+		engine.play((number, side, position, scored) -> {
+			assertEquals(count[0], number);
+			assertEquals(number % 2, side);
+			assertTrue(scored == 0 || scored == 2 || scored == 3);
+			points[side] += scored;
+			count[0]++;
+		});
+		int expected = PossessionEngine.BASE_POSSESSIONS + 10 * 60 / PossessionEngine.AGILITY_PER_POSSESSION;
+		assertEquals(expected, engine.getPossessions());
+		assertEquals(expected, count[0]);
+		assertEquals(points[PossessionEngine.PLAYER], engine.getScore(PossessionEngine.PLAYER));
+		assertEquals(points[PossessionEngine.OPPONENT], engine.getScore(PossessionEngine.OPPONENT));
+	}
+
+	@Test
+	public void testStrongerTeamWins() {
+		PossessionEngine engine = new PossessionEngine(new SplittableRandom(2));
+		int wins = 0;
+		for (int i = 0; i < 100; i++) {
+			engine.load(strong, weak);
+			engine.play((number, side, position, points) -> {
+			});
+			if (engine.getOutcome() == Difficulty.WIN) {
+				wins++;
+			}
+		}
+		assertTrue(wins > 90);
+	}
+
+	@Test
+	public void testStaminaDecays() {
+		PossessionEngine engine = new PossessionEngine(new SplittableRandom(3));
+		engine.load(strong, weak);
+		engine.play((number, side, position, points) -> {
+		});
+		int perAthlete = 2 * engine.getPossessions() / (2 * Athlete.NUM_POSITIONS);
+		assertEquals(90 - perAthlete, engine.getStamina(PossessionEngine.PLAYER, 0));
+		assertEquals(90, strong.starter(0).getStat(STATS.CS));
+	}
+
+	@Test
+	public void testSameSeedSameMatch() {
+		PossessionEngine first = new PossessionEngine(new SplittableRandom(4));
+		PossessionEngine second = new PossessionEngine(new SplittableRandom(4));
+		first.load(strong, generateTeam(85));
+		second.load(strong, generateTeam(85));
+		first.play((number, side, position, points) -> {
+		});
+		second.play((number, side, position, points) -> {
+		});
+		assertEquals(first.getScore(PossessionEngine.PLAYER), second.getScore(PossessionEngine.PLAYER));
+		assertEquals(first.getScore(PossessionEngine.OPPONENT), second.getScore(PossessionEngine.OPPONENT));
+	}
+}
@@ -79,7 +79,7 @@ public class RandomEventTest {
 
 		// There is a 1/5 chance that the test will fail (if random.nextInt() returns 0)
 		for (int i = 0; i < 500; i++) {
-			reserve.isInjured();
+			reserve.recordInjury();
 		}
 		String message = randomEvent.generateEvent(true, 2);
 
@@ -0,0 +1,63 @@
+package test;
+
+import main.*;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+
+public class SeasonSimulatorTest {
+
+	@Test
+	public void testNewSeason() {
+		GameManager manager = SeasonSimulator.newSeason(1, "Team", Difficulty.EASY, 10);
+		assertEquals(5000, manager.getMoney());
+		assertEquals(10, manager.getNumWeeks());
+		assertTrue(manager.getTeam().canPlay());
+	}
+
+	@Test
+	public void testPlaySeason() {
+		GameManager manager = SeasonSimulator.newSeason(1, "Team", Difficulty.HARD, 15);
+		SeasonReport report = new SeasonSimulator(SeasonPolicy.weakestOpponent()).play(manager);
+		assertEquals(14, report.getWeeks());
+		assertEquals(14, report.getWins() + report.getDraws() + report.getLosses() + report.getByes());
+		assertEquals(manager.getNumWeeks(), manager.getCurrentWeek());
+		assertEquals(manager.getScore(), report.getFinalScore());
+		assertTrue(report.getTotalNanos() > 0);
+	}
+
+	@Test
+	public void testAlwaysBye() {
+		GameManager manager = SeasonSimulator.newSeason(1, "Team", Difficulty.EASY, 5);
+		SeasonReport report = new SeasonSimulator(new SeasonPolicy() {
+			public Team chooseOpponent(GameManager manager, ArrayList<Team> opponents) {
+				return null;
+			}
+		}).play(manager);
+		assertEquals(4, report.getByes());
+		assertEquals(0, report.getFinalScore());
+		assertEquals(5000, report.getMoney());
+	}
+
+	@Test
+	public void testSameSeedSameSeason() {
+		SeasonSimulator simulator = new SeasonSimulator(SeasonPolicy.weakestOpponent());
+		SeasonReport first = simulator.play(SeasonSimulator.newSeason(7, "Team", Difficulty.EASY, 15));
+		SeasonReport second = simulator.play(SeasonSimulator.newSeason(7, "Team", Difficulty.EASY, 15));
+		assertEquals(first.getFinalScore(), second.getFinalScore());
+		assertEquals(first.getMoney(), second.getMoney());
+		assertEquals(first.getByes(), second.getByes());
+	}
+
+	@Test
+	public void testWeeksGeneratedOnCallingThread() {
+		SeasonSimulator simulator = new SeasonSimulator(SeasonPolicy.weakestOpponent());
+		SeasonReport background = simulator.play(SeasonSimulator.newSeason(7, "Team", Difficulty.EASY, 15));
+		SeasonReport direct = simulator.play(SeasonSimulator.newSeason(7, "Team", Difficulty.EASY, 15, Runnable::run));
+		assertEquals(background.getFinalScore(), direct.getFinalScore());
+		assertEquals(background.getMoney(), direct.getMoney());
+		assertEquals(background.getByes(), direct.getByes());
+	}
+}
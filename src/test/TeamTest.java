@@ -138,6 +138,20 @@ public class TeamTest {
 		assertFalse(team.canPlay());
 	}
 
+	@Test
+	public void testCanPlay_DoesNotRecordInjuries() {
+		for (POSITION pos : POSITION.values()) {
+			team.addPlayer(generateAthlete("Player" + pos, pos));
+		}
+		Athlete injured = team.starter(POSITION.C);
+		injured.changeStat(-injured.getStat(Athlete.STATS.CS), Athlete.STATS.CS);
+
+		for (int i = 0; i < 10; i++) {
+			assertFalse(team.canPlay());
+		}
+		assertEquals(1, injured.getInjuries());
+	}
+
 	@Test
 	public void testCanPlay_False_NotEnoughPlayers() {
 		Athlete player1 = generateAthlete("Player1", Athlete.POSITION.PG);
@@ -153,6 +167,38 @@ public class TeamTest {
 		assertFalse(team.canPlay());
 	}
 
+	@Test
+	public void testCopy() {
+		Athlete player = generateAthlete("Player1", Athlete.POSITION.PG);
+		Athlete reserve = generateAthlete("Reserve1", Athlete.POSITION.C);
+		team.addPlayer(player);
+		team.addReserves(reserve);
+		Team copy = new Team(team);
+
+		assertEquals("Test Team", copy.getTeamName());
+		assertNotSame(player, copy.getPlayersMap().get(Athlete.POSITION.PG));
+		assertEquals(1, copy.getReserves().size());
+
+		copy.getPlayersMap().get(Athlete.POSITION.PG).changeStat(-20, Athlete.STATS.CS);
+		assertEquals(90, player.getStat(Athlete.STATS.CS));
+	}
+
+	@Test
+	public void testCopyStarters() {
+		Athlete player = generateAthlete("Player1", Athlete.POSITION.PG);
+		team.addPlayer(player);
+		team.addReserves(generateAthlete("Reserve1", Athlete.POSITION.C));
+		Team copy = team.copyStarters();
+
+		assertEquals("Test Team", copy.getTeamName());
+		assertNotSame(player, copy.starter(Athlete.POSITION.PG));
+		assertEquals("Player1", copy.starter(Athlete.POSITION.PG).getName());
+		assertTrue(copy.getReserves().isEmpty());
+
+		copy.starter(Athlete.POSITION.PG).changeStat(-20, Athlete.STATS.CS);
+		assertEquals(90, player.getStat(Athlete.STATS.CS));
+	}
+
 	@Test
 	public void testGetTeamName() {
 		assertEquals("Test Team", team.getTeamName());
@@ -174,6 +220,49 @@ public class TeamTest {
 		assertTrue(team.getPlayersArray().contains(player));
 	}
 
+	@Test
+	public void testGetPlayersArrayKeepsRemovedPosition() {
+		Athlete player1 = generateAthlete("Player1", Athlete.POSITION.PG);
+		Athlete player2 = generateAthlete("Player2", Athlete.POSITION.C);
+		team.addPlayer(player1);
+		team.addPlayer(player2);
+		team.removePlayer(player1);
+
+		assertEquals(2, team.getPlayersArray().size());
+		assertTrue(team.getPlayersArray().contains(null));
+		assertEquals(1, team.getStarterCount());
+	}
+
+	@Test
+	public void testStarter() {
+		Athlete player1 = generateAthlete("Player1", Athlete.POSITION.PG);
+		Athlete player2 = generateAthlete("Player2", Athlete.POSITION.C);
+		team.addPlayer(player2);
+		team.addPlayer(player1);
+
+		assertSame(player1, team.starter(Athlete.POSITION.PG));
+		assertSame(player2, team.starter(Athlete.POSITION.C));
+		assertNull(team.starter(Athlete.POSITION.SG));
+		assertSame(player1, team.starter(0));
+		assertSame(player2, team.starter(1));
+	}
+
+	@Test
+	public void testStarterOutOfBounds() {
+		team.addPlayer(generateAthlete("Player1", Athlete.POSITION.PG));
+		assertThrows(IndexOutOfBoundsException.class, () -> team.starter(1));
+	}
+
+	@Test
+	public void testForEachStarter() {
+		team.addPlayer(generateAthlete("Player1", Athlete.POSITION.PG));
+		team.addPlayer(generateAthlete("Player2", Athlete.POSITION.C));
+		StringBuilder names = new StringBuilder();
+		team.forEachStarter(athlete -> names.append(athlete.getName()));
+
+		assertEquals("Player1Player2", names.toString());
+	}
+
 	@Test
 	public void testGetReserves() {
 		Athlete player = generateAthlete("Player1", Athlete.POSITION.PF);
@@ -0,0 +1,93 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.ForkJoinPool;
+
+public class TournamentSimulatorTest {
+
+	public Team generateTeam(String name, int stat) {
+		Team team = new Team(name);
+		for (POSITION pos : POSITION.values()) {
+			HashMap<Athlete.STATS, Integer> stats = new HashMap<Athlete.STATS, Integer>();
+			stats.put(Athlete.STATS.O, stat);
+			stats.put(Athlete.STATS.D, stat);
+			stats.put(Athlete.STATS.S, stat);
+			stats.put(Athlete.STATS.A, stat);
+			team.addPlayer(new Athlete(name + pos, pos, stats));
+		}
+		return team;
+	}
+
+	@Test
+	public void testNumFixtures() {
+		assertEquals(0, TournamentSimulator.numFixtures(1));
+		assertEquals(3, TournamentSimulator.numFixtures(3));
+		assertEquals(4950, TournamentSimulator.numFixtures(100));
+	}
+
+	@Test
+	public void testStrongestTeamWinsEveryMatch() {
+		int numTeams = 80;
+		Team[] teams = new Team[numTeams];
+		for (int i = 0; i < numTeams; i++) {
+			teams[i] = generateTeam("Team" + i, 10 + i);
+		}
+		Standings standings = new TournamentSimulator(Difficulty.EASY, new ForkJoinPool(4)).play(teams);
+
+		for (int i = 0; i < numTeams; i++) {
+			assertEquals(i, standings.getWins(i));
+			assertEquals(numTeams - 1 - i, standings.getLosses(i));
+			assertEquals(0, standings.getDraws(i));
+			assertEquals(i * Standings.WIN_POINTS, standings.getPoints(i));
+		}
+		assertEquals(numTeams - 1, standings.getLeader());
+	}
+
+	@Test
+	public void testTasksAddUpToOneThread() {
+		GenerateRandom random = new GenerateRandom();
+		ArrayList<Team> generated = new ArrayList<Team>();
+		for (int i = 0; i < 30; i++) {
+			generated.addAll(random.generateTeams());
+		}
+		Team[] teams = generated.toArray(new Team[0]);
+		Standings single = new TournamentSimulator(Difficulty.EASY, new ForkJoinPool(1)).play(teams);
+		Standings parallel = new TournamentSimulator(Difficulty.EASY, new ForkJoinPool(8)).play(teams);
+		for (int i = 0; i < teams.length; i++) {
+			assertEquals(single.getPoints(i), parallel.getPoints(i));
+			assertEquals(single.getWins(i), parallel.getWins(i));
+			assertEquals(single.getDraws(i), parallel.getDraws(i));
+			assertEquals(single.getLosses(i), parallel.getLosses(i));
+		}
+	}
+
+	@Test
+	public void testTeamsAreNotChanged() {
+		GenerateRandom random = new GenerateRandom();
+		ArrayList<Team> generated = new ArrayList<Team>();
+		for (int i = 0; i < 10; i++) {
+			generated.addAll(random.generateTeams());
+		}
+		Team[] teams = generated.toArray(new Team[0]);
+		int[] stamina = new int[teams.length];
+		for (int i = 0; i < teams.length; i++) {
+			stamina[i] = teams[i].getPlayersMap().get(POSITION.PG).getStat(Athlete.STATS.CS);
+		}
+
+		Standings standings = new TournamentSimulator(Difficulty.HARD).play(teams);
+
+		int games = 0;
+		for (int i = 0; i < teams.length; i++) {
+			assertEquals(stamina[i], teams[i].getPlayersMap().get(POSITION.PG).getStat(Athlete.STATS.CS));
+			games += standings.getWins(i) + standings.getDraws(i) + standings.getLosses(i);
+		}
+		assertEquals(2 * TournamentSimulator.numFixtures(teams.length), games);
+	}
+}
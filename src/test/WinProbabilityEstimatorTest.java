@@ -0,0 +1,115 @@
+package test;
+
+import main.*;
+import main.Athlete.POSITION;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class WinProbabilityEstimatorTest {
+
+	public Team generateTeam(String name, int stat) {
+		Team team = new Team(name);
+		for (POSITION pos : POSITION.values()) {
+			HashMap<Athlete.STATS, Integer> stats = new HashMap<Athlete.STATS, Integer>();
+			stats.put(Athlete.STATS.O, stat);
+			stats.put(Athlete.STATS.D, stat);
+			stats.put(Athlete.STATS.S, stat);
+			stats.put(Athlete.STATS.A, stat);
+			team.addPlayer(new Athlete(name + pos, pos, stats));
+		}
+		return team;
+	}
+
+	@Test
+	public void testMuchStrongerTeamAlwaysWins() throws InterruptedException {
+		WinProbabilityEstimator estimator = new WinProbabilityEstimator(Difficulty.EASY, 2000, 1000);
+		WinProbability chance = estimator.estimate(generateTeam("Strong", 95), generateTeam("Weak", 40));
+		assertTrue(chance.getSimulations() > 0);
+		assertEquals(1.0, chance.getWin(), 0.0001);
+		assertEquals(0.0, chance.getLoss(), 0.0001);
+	}
+
+	@Test
+	public void testChancesAddUpToOne() throws InterruptedException {
+		WinProbabilityEstimator estimator = new WinProbabilityEstimator(Difficulty.EASY, 2000, 1000);
+		WinProbability chance = estimator.estimate(generateTeam("A", 70), generateTeam("B", 70));
+		assertEquals(1.0, chance.getWin() + chance.getDraw() + chance.getLoss(), 0.0001);
+		assertTrue(chance.getDraw() > 0);
+	}
+
+	@Test
+	public void testSameSeedSameEstimate() throws InterruptedException {
+		WinProbability first = new WinProbabilityEstimator(Difficulty.EASY, 2000, 5000, new SplittableRandom(7))
+				.estimate(generateTeam("A", 70), generateTeam("B", 70));
+		WinProbability second = new WinProbabilityEstimator(Difficulty.EASY, 2000, 5000, new SplittableRandom(7))
+				.estimate(generateTeam("A", 70), generateTeam("B", 70));
+		assertEquals(2000, first.getSimulations());
+		assertEquals(first.toString(), second.toString());
+	}
+
+	@Test
+	public void testTeamsAreNotChanged() throws InterruptedException {
+		Team player = generateTeam("A", 70);
+		new WinProbabilityEstimator(Difficulty.HARD, 500, 1000).estimate(player, generateTeam("B", 60));
+		assertEquals(70, player.getPlayersMap().get(POSITION.PG).getStat(Athlete.STATS.CS));
+		assertEquals(70, player.getPlayersMap().get(POSITION.PG).getRating());
+	}
+
+	@Test
+	public void testNoSimulations() {
+		WinProbability chance = new WinProbability(0, 0, 0);
+		assertEquals(0, chance.getSimulations());
+		assertEquals(0.0, chance.getWin(), 0.0001);
+		assertFalse(chance.hasEstimate());
+		assertEquals("No estimate", chance.toString());
+	}
+
+	@Test
+	public void testBudgetRunsOut() throws InterruptedException {
+		WinProbability none = new WinProbabilityEstimator(Difficulty.EASY, 2000, 0).estimate(generateTeam("A", 70),
+				generateTeam("B", 70));
+		assertFalse(none.hasEstimate());
+
+		WinProbability partial = new WinProbabilityEstimator(Difficulty.EASY, 50000000, 100)
+				.estimate(generateTeam("A", 70), generateTeam("B", 70));
+		assertTrue(partial.hasEstimate());
+		assertTrue(partial.getSimulations() < 50000000);
+		assertEquals(1.0, partial.getWin() + partial.getDraw() + partial.getLoss(), 0.0001);
+	}
+
+	@Test
+	public void testBudgetHoldsOnBusyPool() throws InterruptedException {
+		ForkJoinPool pool = ForkJoinPool.commonPool();
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch busy = new CountDownLatch(pool.getParallelism());
+		for (int i = 0; i < pool.getParallelism(); i++) {
+			pool.execute(() -> {
+				busy.countDown();
+				try {
+					release.await(10, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			});
+		}
+		try {
+			assertTrue(busy.await(10, TimeUnit.SECONDS));
+			long start = System.nanoTime();
+			WinProbability chance = new WinProbabilityEstimator(Difficulty.EASY, 2000, 100)
+					.estimate(generateTeam("A", 70), generateTeam("B", 70));
+			long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+			assertTrue(millis < 1000, "took " + millis + " ms");
+			assertEquals(1.0, chance.hasEstimate() ? chance.getWin() + chance.getDraw() + chance.getLoss() : 1.0,
+					0.0001);
+		} finally {
+			release.countDown();
+		}
+	}
+}